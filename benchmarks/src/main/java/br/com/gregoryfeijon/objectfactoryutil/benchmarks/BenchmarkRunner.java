@@ -0,0 +1,51 @@
+package br.com.gregoryfeijon.objectfactoryutil.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Ponto de entrada do <i>benchmarks.jar</i>.</strong>
+ *
+ * <p>
+ * Aceita as mesmas opções de linha de comando do
+ * {@link org.openjdk.jmh.Main Main} do JMH (como o filtro de benchmarks,
+ * <i>-p</i>, <i>-f</i> e <i>-rf json</i>), e sempre executa com o
+ * {@link GCProfiler} (<i>-prof gc</i>), de forma que cada resultado venha
+ * acompanhado da alocação por operação (<i>gc.alloc.rate.norm</i>).
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, IOException, RunnerException {
+        CommandLineOptions options = new CommandLineOptions(args);
+        if (options.shouldHelp()) {
+            options.showHelp();
+            return;
+        }
+        if (options.shouldList()) {
+            new Runner(options).list();
+            return;
+        }
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(options);
+        boolean gcProfiler = options.getProfilers().stream()
+                .anyMatch(profiler -> "gc".equals(profiler.getKlass()) || GCProfiler.class.getName().equals(profiler.getKlass()));
+        if (!gcProfiler) {
+            builder.addProfiler(GCProfiler.class);
+        }
+        new Runner(builder.build()).run();
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.gregoryfeijon.objectfactoryutil.benchmarks;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import br.com.gregoryfeijon.objectfactoryutil.model.Bar;
+import br.com.gregoryfeijon.objectfactoryutil.model.Foo;
+import br.com.gregoryfeijon.objectfactoryutil.util.ObjectFactoryUtil;
+import br.com.gregoryfeijon.objectfactoryutil.util.ObjectPool;
+import br.com.gregoryfeijon.objectfactoryutil.util.Projection;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Benchmarks de todas as sobrecargas do
+ * {@link ObjectFactoryUtil#copyAllObjectsFromCollection(java.util.Collection)
+ * copyAllObjectsFromCollection}, com coleções de <i>size</i>
+ * {@link Bar}s.</strong>
+ *
+ * <p>
+ * No benchmark com {@link ObjectPool}, as cópias são devolvidas ao pool
+ * dentro da própria medição, assim como seria feito pelo código que as
+ * utiliza.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CollectionBenchmark {
+
+    private static final Projection NAME_ONLY = Projection.of("barName");
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private List<Bar> bars;
+    private ObjectPool<Bar> pool;
+
+    @Setup
+    public void setup() {
+        bars = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            bars.add(new Bar(i, "same name " + i, "bar " + i));
+        }
+        pool = ObjectPool.bounded(size);
+    }
+
+    @Benchmark
+    public List<Bar> sameType() throws ObjectFactoryUtilException {
+        return ObjectFactoryUtil.copyAllObjectsFromCollection(bars);
+    }
+
+    @Benchmark
+    public List<Foo> withReturnType() throws ObjectFactoryUtilException {
+        return ObjectFactoryUtil.copyAllObjectsFromCollection(bars, Foo.class);
+    }
+
+    @Benchmark
+    public LinkedList<Bar> withSupplier() throws ObjectFactoryUtilException {
+        return ObjectFactoryUtil.copyAllObjectsFromCollection(bars, LinkedList::new);
+    }
+
+    @Benchmark
+    public LinkedList<Foo> withSupplierAndReturnType() throws ObjectFactoryUtilException {
+        return ObjectFactoryUtil.copyAllObjectsFromCollection(bars, LinkedList::new, Foo.class);
+    }
+
+    @Benchmark
+    public List<Bar> withPool() throws ObjectFactoryUtilException {
+        List<Bar> copies = ObjectFactoryUtil.copyAllObjectsFromCollection(bars, Bar.class, pool);
+        pool.releaseAll(copies);
+        return copies;
+    }
+
+    @Benchmark
+    public List<Bar> withProjection() throws ObjectFactoryUtilException {
+        return ObjectFactoryUtil.copyAllObjectsFromCollection(bars, Bar.class, NAME_ONLY);
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.gregoryfeijon.objectfactoryutil.benchmarks;
+
+import br.com.gregoryfeijon.objectfactoryutil.benchmarks.model.EnumSource;
+import br.com.gregoryfeijon.objectfactoryutil.benchmarks.model.EnumTarget;
+import br.com.gregoryfeijon.objectfactoryutil.benchmarks.model.WrapperSource;
+import br.com.gregoryfeijon.objectfactoryutil.benchmarks.model.WrapperTarget;
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import br.com.gregoryfeijon.objectfactoryutil.model.enums.EnumBar;
+import br.com.gregoryfeijon.objectfactoryutil.util.ObjectFactoryUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Benchmarks das conversões entre tipos de campos: entre
+ * {@link Enum}s e {@link String}s, e entre <i>wrappers</i> e
+ * primitivos.</strong>
+ *
+ * @author gregory.feijon
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConversionBenchmark {
+
+    private EnumSource enumSource;
+    private WrapperSource wrapperSource;
+
+    @Setup
+    public void setup() {
+        enumSource = new EnumSource(EnumBar.SECOND_ENUM);
+        wrapperSource = new WrapperSource(42L);
+    }
+
+    @Benchmark
+    public EnumTarget enumConversion() throws ObjectFactoryUtilException {
+        return ObjectFactoryUtil.createFromObject(enumSource, EnumTarget.class);
+    }
+
+    @Benchmark
+    public EnumSource enumSameType() throws ObjectFactoryUtilException {
+        return ObjectFactoryUtil.createFromObject(enumSource);
+    }
+
+    @Benchmark
+    public WrapperTarget wrapperConversion() throws ObjectFactoryUtilException {
+        return ObjectFactoryUtil.createFromObject(wrapperSource, WrapperTarget.class);
+    }
+
+    @Benchmark
+    public WrapperSource wrapperSameType() throws ObjectFactoryUtilException {
+        return ObjectFactoryUtil.createFromObject(wrapperSource);
+    }
+}
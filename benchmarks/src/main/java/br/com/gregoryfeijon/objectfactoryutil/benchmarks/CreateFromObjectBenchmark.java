@@ -0,0 +1,50 @@
+package br.com.gregoryfeijon.objectfactoryutil.benchmarks;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import br.com.gregoryfeijon.objectfactoryutil.model.Bar;
+import br.com.gregoryfeijon.objectfactoryutil.model.Foo;
+import br.com.gregoryfeijon.objectfactoryutil.util.ObjectFactoryUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Benchmarks do
+ * {@link ObjectFactoryUtil#createFromObject(Object, Class) createFromObject}
+ * com objetos simples, para a mesma classe e entre classes
+ * diferentes.</strong>
+ *
+ * @author gregory.feijon
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CreateFromObjectBenchmark {
+
+    private Bar bar;
+
+    @Setup
+    public void setup() {
+        bar = new Bar(1L, "same name", "bar name");
+    }
+
+    @Benchmark
+    public Bar barToBar() throws ObjectFactoryUtilException {
+        return ObjectFactoryUtil.createFromObject(bar);
+    }
+
+    @Benchmark
+    public Bar barToBarWithReturnType() throws ObjectFactoryUtilException {
+        return ObjectFactoryUtil.createFromObject(bar, Bar.class);
+    }
+
+    @Benchmark
+    public Foo barToFoo() throws ObjectFactoryUtilException {
+        return ObjectFactoryUtil.createFromObject(bar, Foo.class);
+    }
+}
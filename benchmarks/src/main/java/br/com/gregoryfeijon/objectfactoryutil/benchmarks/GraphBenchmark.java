@@ -0,0 +1,55 @@
+package br.com.gregoryfeijon.objectfactoryutil.benchmarks;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import br.com.gregoryfeijon.objectfactoryutil.model.Bar;
+import br.com.gregoryfeijon.objectfactoryutil.model.Foo;
+import br.com.gregoryfeijon.objectfactoryutil.util.ObjectFactoryUtil;
+import br.com.gregoryfeijon.objectfactoryutil.util.Projection;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Benchmarks da cópia de um grafo aninhado: um {@link Foo} com um
+ * {@link Bar} e uma lista com <i>bars</i> {@link Bar}s.</strong>
+ *
+ * @author gregory.feijon
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GraphBenchmark {
+
+    private static final Projection NAMES_ONLY = Projection.of("fooName", "bars.barName");
+
+    @Param({"1", "10", "100"})
+    private int bars;
+
+    private Foo foo;
+
+    @Setup
+    public void setup() {
+        List<Bar> barList = new ArrayList<>(bars);
+        for (int i = 0; i < bars; i++) {
+            barList.add(new Bar(i, "same name " + i, "bar " + i));
+        }
+        foo = new Foo(1L, "foo", "same name", new Bar(0L, "same name", "bar"), barList);
+    }
+
+    @Benchmark
+    public Foo fooToFoo() throws ObjectFactoryUtilException {
+        return ObjectFactoryUtil.createFromObject(foo);
+    }
+
+    @Benchmark
+    public Foo fooToFooProjected() throws ObjectFactoryUtilException {
+        return ObjectFactoryUtil.createFromObject(foo, Foo.class, NAMES_ONLY);
+    }
+}
@@ -0,0 +1,238 @@
+package br.com.gregoryfeijon.objectfactoryutil.benchmarks;
+
+import javax.tools.*;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Gerador de grafos de DTOs sintéticos, com largura e profundidade
+ * configuráveis, utilizado para medir a cópia em formatos de objetos que não
+ * existem no projeto.</strong>
+ *
+ * <p>
+ * São geradas as classes <i>Level0</i> a <i>Level{depth - 1}</i>, cada uma
+ * com <i>width</i> campos simples, alternando entre primitivos,
+ * <i>wrappers</i>, {@link String}, {@link BigDecimal} e {@link LocalDate},
+ * além de um campo <i>child</i> e de uma lista <i>children</i> do nível
+ * seguinte, preenchida com <i>fanOut</i> elementos. As classes são compiladas
+ * em memória, pelo compilador do JDK, e carregadas em um {@link ClassLoader}
+ * próprio, de forma que cada combinação de parâmetros gera classes novas,
+ * sem nenhum plano de cópia já compilado pela biblioteca.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+public final class SyntheticDtoGenerator {
+
+    private static final String PACKAGE = "br.com.gregoryfeijon.objectfactoryutil.benchmarks.synthetic";
+    private static final String[] FIELD_TYPES = {"int", "String", "Long", "double", "java.time.LocalDate", "boolean",
+            "Integer", "java.math.BigDecimal"};
+
+    private final int width;
+    private final int depth;
+    private final int fanOut;
+    private final List<Class<?>> levels;
+
+    /**
+     * @param width  - int - quantidade de campos simples em cada nível
+     * @param depth  - int - quantidade de níveis do grafo
+     * @param fanOut - int - quantidade de elementos da lista <i>children</i>
+     *               de cada nível
+     * @throws IllegalArgumentException - caso algum dos parâmetros seja
+     *                                  inválido
+     * @throws IllegalStateException    - caso o compilador do JDK não esteja
+     *                                  disponível ou a compilação falhe
+     */
+    public SyntheticDtoGenerator(int width, int depth, int fanOut) {
+        if (width < 0 || depth < 1 || fanOut < 0) {
+            throw new IllegalArgumentException("Parâmetros inválidos para o grafo sintético: width=" + width
+                    + ", depth=" + depth + ", fanOut=" + fanOut);
+        }
+        this.width = width;
+        this.depth = depth;
+        this.fanOut = fanOut;
+        this.levels = compile();
+    }
+
+    public Class<?> rootClass() {
+        return levels.get(0);
+    }
+
+    /**
+     * <strong>Cria um grafo completo, a partir do primeiro nível, com valores
+     * gerados a partir da semente informada.</strong>
+     *
+     * @param seed - long
+     * @return {@link Object} - a instância do primeiro nível
+     */
+    public Object newGraph(long seed) {
+        return newLevel(0, new Random(seed));
+    }
+
+    private Object newLevel(int level, Random random) {
+        Class<?> type = levels.get(level);
+        try {
+            Object instance = type.getConstructor().newInstance();
+            for (int i = 0; i < width; i++) {
+                Field field = type.getField("field" + i);
+                field.set(instance, randomValue(field.getType(), random));
+            }
+            if (level + 1 < depth) {
+                type.getField("child").set(instance, newLevel(level + 1, random));
+                List<Object> children = new ArrayList<>(fanOut);
+                for (int i = 0; i < fanOut; i++) {
+                    children.add(newLevel(level + 1, random));
+                }
+                type.getField("children").set(instance, children);
+            }
+            return instance;
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Erro ao preencher a classe sintética " + type.getName(), ex);
+        }
+    }
+
+    private static Object randomValue(Class<?> type, Random random) {
+        if (type == int.class || type == Integer.class) {
+            return random.nextInt();
+        }
+        if (type == Long.class) {
+            return random.nextLong();
+        }
+        if (type == double.class) {
+            return random.nextDouble();
+        }
+        if (type == boolean.class) {
+            return random.nextBoolean();
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.ofEpochDay(random.nextInt(40_000));
+        }
+        if (type == BigDecimal.class) {
+            return BigDecimal.valueOf(random.nextLong(), 2);
+        }
+        return Long.toHexString(random.nextLong());
+    }
+
+    private List<Class<?>> compile() {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("O compilador do JDK não está disponível para gerar as classes sintéticas.");
+        }
+        List<JavaFileObject> sources = new ArrayList<>(depth);
+        for (int level = 0; level < depth; level++) {
+            sources.add(new SourceFile(className(level), source(level)));
+        }
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        InMemoryFileManager fileManager = new InMemoryFileManager(
+                compiler.getStandardFileManager(diagnostics, Locale.ROOT, null));
+        JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                Arrays.asList("-proc:none", "-g:none"), null, sources);
+        if (!Boolean.TRUE.equals(task.call())) {
+            throw new IllegalStateException("Erro ao compilar as classes sintéticas: " + diagnostics.getDiagnostics());
+        }
+        ClassLoader loader = new InMemoryClassLoader(fileManager.classes, SyntheticDtoGenerator.class.getClassLoader());
+        List<Class<?>> classes = new ArrayList<>(depth);
+        try {
+            for (int level = 0; level < depth; level++) {
+                classes.add(loader.loadClass(PACKAGE + "." + className(level)));
+            }
+        } catch (ClassNotFoundException ex) {
+            throw new IllegalStateException("Erro ao carregar as classes sintéticas.", ex);
+        }
+        return Collections.unmodifiableList(classes);
+    }
+
+    private String className(int level) {
+        return "Level" + level + "W" + width + "D" + depth + "F" + fanOut;
+    }
+
+    private String source(int level) {
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(PACKAGE).append(";\n\n");
+        source.append("public class ").append(className(level)).append(" {\n");
+        for (int i = 0; i < width; i++) {
+            source.append("    public ").append(FIELD_TYPES[i % FIELD_TYPES.length]).append(" field").append(i).append(";\n");
+        }
+        if (level + 1 < depth) {
+            String child = className(level + 1);
+            source.append("    public ").append(child).append(" child;\n");
+            source.append("    public java.util.List<").append(child).append("> children;\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    /**
+     * <strong>Código-fonte de uma classe sintética, mantido em memória.</strong>
+     */
+    private static final class SourceFile extends SimpleJavaFileObject {
+
+        private final String code;
+
+        private SourceFile(String simpleName, String code) {
+            super(URI.create("string:///" + PACKAGE.replace('.', '/') + "/" + simpleName + Kind.SOURCE.extension),
+                    Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+    }
+
+    /**
+     * <strong>{@link JavaFileManager} que mantém em memória o bytecode
+     * gerado.</strong>
+     */
+    private static final class InMemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+        private final Map<String, ByteArrayOutputStream> classes = new HashMap<>();
+
+        private InMemoryFileManager(StandardJavaFileManager fileManager) {
+            super(fileManager);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind,
+                                                   FileObject sibling) {
+            return new SimpleJavaFileObject(URI.create("mem:///" + className.replace('.', '/') + kind.extension), kind) {
+
+                @Override
+                public OutputStream openOutputStream() {
+                    return classes.computeIfAbsent(className, key -> new ByteArrayOutputStream());
+                }
+            };
+        }
+    }
+
+    /**
+     * <strong>{@link ClassLoader} das classes sintéticas compiladas em
+     * memória.</strong>
+     */
+    private static final class InMemoryClassLoader extends ClassLoader {
+
+        private final Map<String, ByteArrayOutputStream> classes;
+
+        private InMemoryClassLoader(Map<String, ByteArrayOutputStream> classes, ClassLoader parent) {
+            super(parent);
+            this.classes = classes;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            ByteArrayOutputStream bytecode = classes.get(name);
+            if (bytecode == null) {
+                throw new ClassNotFoundException(name);
+            }
+            byte[] bytes = bytecode.toByteArray();
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
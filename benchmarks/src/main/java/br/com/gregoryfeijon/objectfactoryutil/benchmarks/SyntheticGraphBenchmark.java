@@ -0,0 +1,60 @@
+package br.com.gregoryfeijon.objectfactoryutil.benchmarks;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import br.com.gregoryfeijon.objectfactoryutil.util.ObjectFactoryUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Benchmarks da cópia dos grafos gerados pelo
+ * {@link SyntheticDtoGenerator}, variando a largura, a profundidade e a
+ * quantidade de filhos de cada nível.</strong>
+ *
+ * <p>
+ * A quantidade de objetos do grafo cresce exponencialmente com a
+ * profundidade e a quantidade de filhos, então combinações grandes dos dois
+ * devem ser informadas com cuidado pelo <i>-p</i>.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SyntheticGraphBenchmark {
+
+    @Param({"4", "16", "64"})
+    private int width;
+
+    @Param({"1", "3", "5"})
+    private int depth;
+
+    @Param({"2"})
+    private int fanOut;
+
+    private Object graph;
+    private Class<?> rootClass;
+
+    @Setup
+    public void setup() {
+        SyntheticDtoGenerator generator = new SyntheticDtoGenerator(width, depth, fanOut);
+        rootClass = generator.rootClass();
+        graph = generator.newGraph(42L);
+    }
+
+    @Benchmark
+    public Object copySameType() throws ObjectFactoryUtilException {
+        return ObjectFactoryUtil.createFromObject(graph);
+    }
+
+    @Benchmark
+    public Object copyWithReturnType() throws ObjectFactoryUtilException {
+        return ObjectFactoryUtil.createFromObject(graph, rootClass);
+    }
+}
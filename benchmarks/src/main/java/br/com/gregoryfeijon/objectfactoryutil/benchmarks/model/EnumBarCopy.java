@@ -0,0 +1,15 @@
+package br.com.gregoryfeijon.objectfactoryutil.benchmarks.model;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Cópia do {@link br.com.gregoryfeijon.objectfactoryutil.model.enums.EnumBar
+ * EnumBar}, com as mesmas constantes, utilizada na conversão entre
+ * {@link Enum}s.</strong>
+ *
+ * @author gregory.feijon
+ */
+public enum EnumBarCopy {
+
+    FIRST_ENUM, SECOND_ENUM
+}
@@ -0,0 +1,30 @@
+package br.com.gregoryfeijon.objectfactoryutil.benchmarks.model;
+
+import br.com.gregoryfeijon.objectfactoryutil.model.enums.EnumBar;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Origem das conversões de {@link Enum}: para outro {@link Enum}, de e
+ * para {@link String}, e para o mesmo {@link Enum}.</strong>
+ *
+ * @author gregory.feijon
+ * @see EnumTarget
+ */
+public class EnumSource {
+
+    private EnumBar sameEnum;
+    private EnumBar enumToEnum;
+    private EnumBar enumToString;
+    private String stringToEnum;
+
+    public EnumSource() {
+    }
+
+    public EnumSource(EnumBar value) {
+        this.sameEnum = value;
+        this.enumToEnum = value;
+        this.enumToString = value;
+        this.stringToEnum = value.name();
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.gregoryfeijon.objectfactoryutil.benchmarks.model;
+
+import br.com.gregoryfeijon.objectfactoryutil.model.enums.EnumBar;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Destino das conversões de {@link Enum} do {@link EnumSource}.</strong>
+ *
+ * @author gregory.feijon
+ */
+public class EnumTarget {
+
+    private EnumBar sameEnum;
+    private EnumBarCopy enumToEnum;
+    private String enumToString;
+    private EnumBar stringToEnum;
+
+    public EnumTarget() {
+    }
+}
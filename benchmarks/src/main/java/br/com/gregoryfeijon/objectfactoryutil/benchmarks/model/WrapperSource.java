@@ -0,0 +1,45 @@
+package br.com.gregoryfeijon.objectfactoryutil.benchmarks.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Date;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Origem das cópias de <i>wrappers</i>: entre <i>wrappers</i> e
+ * primitivos, nos dois sentidos, e de <i>wrappers</i> imutáveis e mutáveis do
+ * mesmo tipo.</strong>
+ *
+ * @author gregory.feijon
+ * @see WrapperTarget
+ */
+public class WrapperSource {
+
+    private Integer boxedToPrimitive;
+    private Long boxedLongToPrimitive;
+    private Double boxedDoubleToPrimitive;
+    private Boolean boxedBooleanToPrimitive;
+    private int primitiveToBoxed;
+    private long primitiveLongToBoxed;
+    private String text;
+    private BigDecimal amount;
+    private LocalDate localDate;
+    private Date date;
+
+    public WrapperSource() {
+    }
+
+    public WrapperSource(long seed) {
+        this.boxedToPrimitive = (int) seed;
+        this.boxedLongToPrimitive = seed * 31;
+        this.boxedDoubleToPrimitive = seed / 3.0;
+        this.boxedBooleanToPrimitive = seed % 2 == 0;
+        this.primitiveToBoxed = (int) seed + 1;
+        this.primitiveLongToBoxed = seed * 17;
+        this.text = "text-" + seed;
+        this.amount = BigDecimal.valueOf(seed, 2);
+        this.localDate = LocalDate.ofEpochDay(seed);
+        this.date = new Date(seed * 1000);
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.gregoryfeijon.objectfactoryutil.benchmarks.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Date;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Destino das cópias de <i>wrappers</i> do {@link WrapperSource}.</strong>
+ *
+ * @author gregory.feijon
+ */
+public class WrapperTarget {
+
+    private int boxedToPrimitive;
+    private long boxedLongToPrimitive;
+    private double boxedDoubleToPrimitive;
+    private boolean boxedBooleanToPrimitive;
+    private Integer primitiveToBoxed;
+    private Long primitiveLongToBoxed;
+    private String text;
+    private BigDecimal amount;
+    private LocalDate localDate;
+    private Date date;
+
+    public WrapperTarget() {
+    }
+}
@@ -0,0 +1,284 @@
+package br.com.gregoryfeijon.objectfactoryutil.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import java.util.*;
+
+/**
+ * 18/10/2026
+ *
+ * <p>
+ * <strong>Gera o código fonte do <i>&lt;Tipo&gt;Copier</i> de uma classe
+ * anotada com <i>@ObjectConstructor</i>.</strong>
+ * </p>
+ *
+ * <p>
+ * São considerados todos os campos não estáticos da classe e de suas super
+ * classes, exceto os definidos no <i>exclude()</i> da annotation. Cada campo é
+ * lido e escrito diretamente, quando acessível a partir do pacote da classe,
+ * ou pelos seus getters e setters, inclusive os gerados pelo Lombok
+ * (<i>@Data</i>, <i>@Getter</i> e <i>@Setter</i>). Valores de tipos
+ * primitivos, {@link Enum}s, <i>wrappers</i> e {@link String} são atribuídos
+ * diretamente; os demais são copiados pelo <i>CopierSupport.copyValue</i>.
+ * </p>
+ *
+ * <p>
+ * As annotations de forma de cópia dos campos são respeitadas: campos com
+ * <i>@SkipCopy</i> são ignorados, os com <i>@ShareReference</i> são
+ * atribuídos diretamente, e os com <i>@ShallowCopy</i> e <i>@DeepCopy</i> são
+ * copiados pelo <i>CopierSupport.copyShallow</i> e
+ * <i>CopierSupport.copyDeep</i>.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+final class CopierGenerator {
+
+    private static final String COPIER_SUPPORT = "br.com.gregoryfeijon.objectfactoryutil.util.CopierSupport";
+    private static final String OBJECT_COPIER = "br.com.gregoryfeijon.objectfactoryutil.util.ObjectCopier";
+    private static final String EXCEPTION = "br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException";
+    private static final String ANNOTATION_PACKAGE = "br.com.gregoryfeijon.objectfactoryutil.annotation.";
+    private static final String SKIP_COPY = ANNOTATION_PACKAGE + "SkipCopy";
+    private static final String SHARE_REFERENCE = ANNOTATION_PACKAGE + "ShareReference";
+    private static final String SHALLOW_COPY = ANNOTATION_PACKAGE + "ShallowCopy";
+    private static final String DEEP_COPY = ANNOTATION_PACKAGE + "DeepCopy";
+    private static final Set<String> DIRECT_TYPES = new HashSet<>(Arrays.asList(
+            "java.lang.String", "java.lang.Boolean", "java.lang.Byte", "java.lang.Short", "java.lang.Character",
+            "java.lang.Integer", "java.lang.Long", "java.lang.Float", "java.lang.Double"));
+
+    private final Elements elements;
+    private final TypeElement type;
+    private final String packageName;
+    private final String copierSimpleName;
+
+    CopierGenerator(ProcessingEnvironment processingEnv, TypeElement type) {
+        this.elements = processingEnv.getElementUtils();
+        this.type = type;
+        this.packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        this.copierSimpleName = getBinarySimpleName(type) + "Copier";
+    }
+
+    String getCopierQualifiedName() {
+        return packageName.isEmpty() ? copierSimpleName : packageName + "." + copierSimpleName;
+    }
+
+    /**
+     * <strong>Método que gera o código fonte do copier.</strong>
+     *
+     * @return {@link String}
+     * @throws UnsupportedTypeException - lançada quando a classe não pode ser
+     *                                  copiada sem reflexão
+     */
+    String generate() throws UnsupportedTypeException {
+        verifyType();
+        String typeName = type.getQualifiedName().toString();
+        Set<String> exclude = getExclude();
+        StringBuilder constants = new StringBuilder();
+        StringBuilder body = new StringBuilder();
+        Set<String> copiedNames = new HashSet<>();
+        for (VariableElement field : getFields()) {
+            String name = field.getSimpleName().toString();
+            String key = name.toLowerCase(Locale.ROOT);
+            if (exclude.contains(key) || !copiedNames.add(key) || hasAnnotation(field, SKIP_COPY)) {
+                continue;
+            }
+            String read = getReadExpression(field);
+            if (!isDirectType(field.asType()) && !hasAnnotation(field, SHARE_REFERENCE)) {
+                String constant = name.toUpperCase(Locale.ROOT) + "_TYPE";
+                constants.append("    private static final java.lang.reflect.Type ").append(constant)
+                        .append(" = ").append(COPIER_SUPPORT).append(".fieldType(").append(typeName)
+                        .append(".class, \"").append(name).append("\");\n");
+                read = COPIER_SUPPORT + "." + getCopyMethod(field) + "(" + read + ", " + constant + ")";
+            }
+            body.append("        ").append(getWriteStatement(field, read)).append('\n');
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"")
+                .append(ObjectConstructorProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(copierSimpleName).append(" implements ")
+                .append(OBJECT_COPIER).append('<').append(typeName).append("> {\n\n");
+        if (constants.length() > 0) {
+            source.append(constants).append('\n');
+        }
+        source.append("    @Override\n")
+                .append("    public Class<").append(typeName).append("> getType() {\n")
+                .append("        return ").append(typeName).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public void copy(").append(typeName).append(" source, ").append(typeName)
+                .append(" dest) throws ").append(EXCEPTION).append(" {\n")
+                .append(body)
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private void verifyType() throws UnsupportedTypeException {
+        Set<Modifier> modifiers = type.getModifiers();
+        if (modifiers.contains(Modifier.ABSTRACT) || modifiers.contains(Modifier.PRIVATE)) {
+            throw new UnsupportedTypeException(type + " é abstrata ou privada.");
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new UnsupportedTypeException(type + " possui parâmetros de tipo.");
+        }
+        for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            if (current != type && current.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new UnsupportedTypeException(type + " está declarada em uma classe privada.");
+            }
+            if (current.getEnclosingElement() instanceof TypeElement && !current.getModifiers().contains(Modifier.STATIC)) {
+                throw new UnsupportedTypeException(type + " é uma inner class não estática.");
+            }
+        }
+    }
+
+    private Set<String> getExclude() {
+        Set<String> exclude = new HashSet<>();
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (!ObjectConstructorProcessor.OBJECT_CONSTRUCTOR.equals(mirror.getAnnotationType().toString())) {
+                continue;
+            }
+            mirror.getElementValues().forEach((element, value) -> {
+                if ("exclude".contentEquals(element.getSimpleName())) {
+                    for (Object item : (List<?>) value.getValue()) {
+                        exclude.add(((AnnotationValue) item).getValue().toString().toLowerCase(Locale.ROOT));
+                    }
+                }
+            });
+        }
+        return exclude;
+    }
+
+    private List<VariableElement> getFields() {
+        List<VariableElement> fields = new ArrayList<>();
+        for (TypeElement current = type; current != null; current = getSuperclass(current)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    private String getReadExpression(VariableElement field) throws UnsupportedTypeException {
+        if (isAccessible(field)) {
+            return "source." + field.getSimpleName();
+        }
+        String capitalized = capitalize(field.getSimpleName().toString());
+        String prefix = field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get";
+        String getter = prefix + capitalized;
+        if (hasMethod(getter, 0) || hasLombokAccessor(field, "lombok.Getter")) {
+            return "source." + getter + "()";
+        }
+        throw new UnsupportedTypeException("o campo " + field.getSimpleName() + " não possui getter acessível.");
+    }
+
+    private String getWriteStatement(VariableElement field, String value) throws UnsupportedTypeException {
+        if (field.getModifiers().contains(Modifier.FINAL)) {
+            throw new UnsupportedTypeException("o campo " + field.getSimpleName() + " é final.");
+        }
+        if (isAccessible(field)) {
+            return "dest." + field.getSimpleName() + " = " + value + ";";
+        }
+        String setter = "set" + capitalize(field.getSimpleName().toString());
+        if (hasMethod(setter, 1) || hasLombokAccessor(field, "lombok.Setter")) {
+            return "dest." + setter + "(" + value + ");";
+        }
+        throw new UnsupportedTypeException("o campo " + field.getSimpleName() + " não possui setter acessível.");
+    }
+
+    private boolean isAccessible(Element member) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        return !modifiers.contains(Modifier.PRIVATE)
+                && elements.getPackageOf(member).getQualifiedName().contentEquals(packageName);
+    }
+
+    private boolean hasMethod(String name, int parameters) {
+        for (TypeElement current = type; current != null; current = getSuperclass(current)) {
+            for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                if (method.getSimpleName().contentEquals(name) && method.getParameters().size() == parameters
+                        && !method.getModifiers().contains(Modifier.STATIC) && isAccessible(method)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean hasLombokAccessor(VariableElement field, String accessorAnnotation) {
+        Element declaringType = field.getEnclosingElement();
+        return hasAnnotation(field, accessorAnnotation) || hasAnnotation(declaringType, accessorAnnotation)
+                || hasAnnotation(declaringType, "lombok.Data");
+    }
+
+    private static boolean hasAnnotation(Element element, String annotation) {
+        return element.getAnnotationMirrors().stream()
+                .anyMatch(mirror -> annotation.equals(mirror.getAnnotationType().toString()));
+    }
+
+    private static String getCopyMethod(VariableElement field) {
+        if (hasAnnotation(field, SHALLOW_COPY)) {
+            return "copyShallow";
+        }
+        return hasAnnotation(field, DEEP_COPY) ? "copyDeep" : "copyValue";
+    }
+
+    private boolean isDirectType(TypeMirror fieldType) {
+        if (fieldType.getKind().isPrimitive()) {
+            return true;
+        }
+        if (fieldType.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        Element element = ((DeclaredType) fieldType).asElement();
+        return element.getKind() == ElementKind.ENUM
+                || DIRECT_TYPES.contains(((TypeElement) element).getQualifiedName().toString());
+    }
+
+    private static TypeElement getSuperclass(TypeElement current) {
+        TypeMirror superclass = current.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return "java.lang.Object".contentEquals(element.getQualifiedName()) ? null : element;
+    }
+
+    private static String getBinarySimpleName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element current = type.getEnclosingElement(); current instanceof TypeElement;
+             current = current.getEnclosingElement()) {
+            name.insert(0, current.getSimpleName() + "_");
+        }
+        return name.toString();
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * <strong>Lançada quando não é possível gerar o copier da classe sem
+     * utilizar reflexão.</strong>
+     */
+    static final class UnsupportedTypeException extends Exception {
+
+        private static final long serialVersionUID = -2470913758062318125L;
+
+        UnsupportedTypeException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.gregoryfeijon.objectfactoryutil.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 18/10/2026
+ *
+ * <p>
+ * <strong>Processador de annotations que gera, em tempo de compilação, um
+ * <i>&lt;Tipo&gt;Copier</i> para cada classe anotada com
+ * <i>@ObjectConstructor</i>.</strong>
+ * </p>
+ *
+ * <p>
+ * Os copiadores gerados implementam <i>ObjectCopier</i> e são registrados em
+ * <i>META-INF/services</i>, de forma que a <i>ObjectFactoryUtil</i> os
+ * descubra via {@link java.util.ServiceLoader} e passe a utilizá-los no lugar
+ * da cópia via reflexão. Classes cujos campos não podem ser acessados sem
+ * reflexão apenas geram um aviso e continuam sendo copiadas via reflexão.
+ * </p>
+ *
+ * @author gregory.feijon
+ * @see CopierGenerator
+ */
+@SupportedAnnotationTypes(ObjectConstructorProcessor.OBJECT_CONSTRUCTOR)
+public class ObjectConstructorProcessor extends AbstractProcessor {
+
+    static final String OBJECT_CONSTRUCTOR = "br.com.gregoryfeijon.objectfactoryutil.annotation.ObjectConstructor";
+    private static final String SERVICE_FILE = "META-INF/services/br.com.gregoryfeijon.objectfactoryutil.util.ObjectCopier";
+
+    private final Set<String> generatedCopiers = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(OBJECT_CONSTRUCTOR);
+        if (annotation == null) {
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (element.getKind() == ElementKind.CLASS) {
+                generate((TypeElement) element);
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type) {
+        CopierGenerator generator = new CopierGenerator(processingEnv, type);
+        try {
+            String source = generator.generate();
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(generator.getCopierQualifiedName(), type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+            generatedCopiers.add(generator.getCopierQualifiedName());
+        } catch (CopierGenerator.UnsupportedTypeException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Copier não gerado, a cópia será feita via reflexão: " + ex.getMessage(), type);
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Erro ao gerar o copier: " + ex.getMessage(), type);
+        }
+    }
+
+    private void writeServiceFile() {
+        if (generatedCopiers.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String copier : generatedCopiers) {
+                    writer.write(copier);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Erro ao registrar os copiers gerados: " + ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package br.com.gregoryfeijon.objectfactoryutil.processor;
+
+import br.com.gregoryfeijon.objectfactoryutil.util.ObjectCopier;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjectConstructorProcessorTest {
+
+    private static final JavaFileObject PERSON = JavaFileObjects.forSourceLines("test.Person",
+            "package test;",
+            "",
+            "import br.com.gregoryfeijon.objectfactoryutil.annotation.ObjectConstructor;",
+            "import br.com.gregoryfeijon.objectfactoryutil.annotation.ShareReference;",
+            "import br.com.gregoryfeijon.objectfactoryutil.annotation.SkipCopy;",
+            "import java.util.List;",
+            "",
+            "@ObjectConstructor(exclude = \"ID\")",
+            "public class Person {",
+            "    public long id;",
+            "    public String name;",
+            "    public List<String> tags;",
+            "    @SkipCopy public String cache;",
+            "    @ShareReference public Object shared;",
+            "    private int age;",
+            "",
+            "    public int getAge() { return age; }",
+            "    public void setAge(int age) { this.age = age; }",
+            "}");
+
+    @Test
+    void generatesCopierHonoringExcludeAndPolicies() {
+        Compilation compilation = javac().withProcessors(new ObjectConstructorProcessor()).compile(PERSON);
+
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).generatedSourceFile("test.PersonCopier").contentsAsUtf8String()
+                .contains("implements br.com.gregoryfeijon.objectfactoryutil.util.ObjectCopier<test.Person>");
+        String source = generatedSource(compilation, "test/PersonCopier.java");
+        assertTrue(source.contains("dest.name = source.name;"));
+        assertTrue(source.contains("dest.shared = source.shared;"));
+        assertTrue(source.contains("dest.setAge(source.getAge());"));
+        assertTrue(source.contains("CopierSupport.copyValue(source.tags, TAGS_TYPE)"));
+        assertFalse(source.contains("source.id"));
+        assertFalse(source.contains("cache"));
+        assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT, "",
+                        "META-INF/services/br.com.gregoryfeijon.objectfactoryutil.util.ObjectCopier")
+                .contentsAsUtf8String().isEqualTo("test.PersonCopier\n");
+    }
+
+    @Test
+    void generatedCopierCopiesTheFields() throws Exception {
+        Compilation compilation = javac().withProcessors(new ObjectConstructorProcessor()).compile(PERSON);
+        ClassLoader loader = new CompiledClassLoader(compilation);
+        Class<?> personClass = loader.loadClass("test.Person");
+        Object source = personClass.getConstructor().newInstance();
+        personClass.getField("id").set(source, 42L);
+        personClass.getField("name").set(source, "name");
+        personClass.getField("tags").set(source, new ArrayList<>(Arrays.asList("a", "b")));
+        personClass.getField("cache").set(source, "cache");
+        Object shared = new Object();
+        personClass.getField("shared").set(source, shared);
+        personClass.getMethod("setAge", int.class).invoke(source, 30);
+        Object dest = personClass.getConstructor().newInstance();
+
+        @SuppressWarnings("unchecked")
+        ObjectCopier<Object> copier = (ObjectCopier<Object>) loader.loadClass("test.PersonCopier")
+                .getConstructor().newInstance();
+        copier.copy(source, dest);
+
+        assertSame(personClass, copier.getType());
+        assertEquals(0L, personClass.getField("id").get(dest));
+        assertEquals("name", personClass.getField("name").get(dest));
+        assertEquals(Arrays.asList("a", "b"), personClass.getField("tags").get(dest));
+        assertNotSame(personClass.getField("tags").get(source), personClass.getField("tags").get(dest));
+        assertNull(personClass.getField("cache").get(dest));
+        assertSame(shared, personClass.getField("shared").get(dest));
+        assertEquals(30, personClass.getMethod("getAge").invoke(dest));
+    }
+
+    @Test
+    void warnsAndSkipsTypesThatNeedReflection() {
+        JavaFileObject immutable = JavaFileObjects.forSourceLines("test.Immutable",
+                "package test;",
+                "",
+                "@br.com.gregoryfeijon.objectfactoryutil.annotation.ObjectConstructor",
+                "public class Immutable {",
+                "    private final String name = \"\";",
+                "    public String getName() { return name; }",
+                "}");
+
+        Compilation compilation = javac().withProcessors(new ObjectConstructorProcessor()).compile(immutable);
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).hadWarningContaining("o campo name é final.");
+        assertTrue(compilation.generatedSourceFiles().isEmpty());
+    }
+
+    private static String generatedSource(Compilation compilation, String path) {
+        return compilation.generatedSourceFiles().stream()
+                .filter(file -> file.toUri().getPath().endsWith(path))
+                .findFirst()
+                .map(file -> {
+                    try {
+                        return file.getCharContent(false).toString();
+                    } catch (IOException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                })
+                .orElseThrow(() -> new AssertionError("Arquivo não gerado: " + path));
+    }
+
+    /**
+     * <strong>Carrega as classes compiladas pelo compile-testing.</strong>
+     */
+    private static final class CompiledClassLoader extends ClassLoader {
+
+        private final Map<String, JavaFileObject> classes = new HashMap<>();
+
+        private CompiledClassLoader(Compilation compilation) {
+            super(ObjectConstructorProcessorTest.class.getClassLoader());
+            List<JavaFileObject> files = compilation.generatedFiles();
+            for (JavaFileObject file : files) {
+                if (file.getKind() == JavaFileObject.Kind.CLASS) {
+                    String path = file.toUri().getPath();
+                    String name = path.substring(path.indexOf("/CLASS_OUTPUT/") + "/CLASS_OUTPUT/".length(),
+                            path.length() - ".class".length()).replace('/', '.');
+                    classes.put(name, file);
+                }
+            }
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            JavaFileObject file = classes.get(name);
+            if (file == null) {
+                throw new ClassNotFoundException(name);
+            }
+            try (InputStream input = file.openInputStream()) {
+                byte[] bytes = input.readAllBytes();
+                return defineClass(name, bytes, 0, bytes.length);
+            } catch (IOException ex) {
+                throw new ClassNotFoundException(name, ex);
+            }
+        }
+    }
+}
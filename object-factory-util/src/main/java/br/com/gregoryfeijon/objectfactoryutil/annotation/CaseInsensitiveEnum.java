@@ -0,0 +1,24 @@
+package br.com.gregoryfeijon.objectfactoryutil.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 
+ * 18 de outubro de 2026
+ * 
+ * <p>
+ * <strong>Faz com que a conversão de {@link String}s e de outros {@link Enum}s
+ * para o {@link Enum} anotado ignore maiúsculas e minúsculas.</strong>
+ * </p>
+ * 
+ * @author gregory.feijon
+ *
+ */
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+public @interface CaseInsensitiveEnum {
+}
@@ -0,0 +1,31 @@
+package br.com.gregoryfeijon.objectfactoryutil.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 
+ * 18 de outubro de 2026
+ * 
+ * <p>
+ * <strong>Indica que o valor do campo é sempre copiado por completo, no
+ * momento da cópia.</strong>
+ * </p>
+ * 
+ * <p>
+ * É o comportamento padrão dos campos não anotados, exceto quando a
+ * {@link br.com.gregoryfeijon.objectfactoryutil.util.ObjectFactoryUtilConfig#isLazyCopy()
+ * cópia sob demanda} estiver habilitada: os campos anotados com
+ * {@link DeepCopy} nunca são copiados sob demanda.
+ * </p>
+ * 
+ * @author gregory.feijon
+ *
+ */
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD })
+public @interface DeepCopy {
+}
@@ -0,0 +1,26 @@
+package br.com.gregoryfeijon.objectfactoryutil.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 
+ * 18 de outubro de 2026
+ * 
+ * <p>
+ * <strong>Define nomes alternativos para uma constante de {@link Enum}, aceitos
+ * na conversão de {@link String}s e de outros {@link Enum}s para ela.</strong>
+ * </p>
+ * 
+ * @author gregory.feijon
+ *
+ */
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD })
+public @interface EnumAlias {
+
+	String[] value();
+}
@@ -0,0 +1,24 @@
+package br.com.gregoryfeijon.objectfactoryutil.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 
+ * 18 de outubro de 2026
+ * 
+ * <p>
+ * <strong>Marca uma classe como imutável. Valores desse tipo são
+ * compartilhados por referência na cópia, ao invés de clonados.</strong>
+ * </p>
+ * 
+ * @author gregory.feijon
+ *
+ */
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+public @interface ImmutableValue {
+}
@@ -0,0 +1,35 @@
+package br.com.gregoryfeijon.objectfactoryutil.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 
+ * 18 de outubro de 2026
+ * 
+ * <p>
+ * <strong>Faz com que as cópias da classe sejam criadas pelo seu
+ * <i>builder</i>, como o gerado pelo <i>@Builder</i> do Lombok.</strong>
+ * </p>
+ * 
+ * <p>
+ * O <i>builder</i> é obtido pelo método estático {@link #builderMethod()} da
+ * classe, e cada valor copiado é atribuído pelo método do <i>builder</i> com o
+ * mesmo nome do campo de origem (ignorando maiúsculas e minúsculas) e um único
+ * parâmetro. A cópia é então criada pelo {@link #buildMethod()}.
+ * </p>
+ * 
+ * @author gregory.feijon
+ *
+ */
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+public @interface ObjectBuilder {
+
+	String builderMethod() default "builder";
+
+	String buildMethod() default "build";
+}
@@ -0,0 +1,35 @@
+package br.com.gregoryfeijon.objectfactoryutil.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 
+ * 18 de outubro de 2026
+ * 
+ * <p>
+ * <strong>Marca o construtor ou o método estático de fábrica utilizado para
+ * criar as cópias da classe, recebendo como argumentos os valores dos campos
+ * de origem.</strong>
+ * </p>
+ * 
+ * <p>
+ * O {@link #value()} define o nome do campo de origem correspondente a cada
+ * parâmetro, na ordem em que são declarados. Caso não seja informado, são
+ * utilizados os nomes dos parâmetros, quando o código for compilado com a
+ * opção <i>-parameters</i>, ou os da <i>@ConstructorProperties</i>. Os
+ * parâmetros nunca são associados aos campos apenas pelos tipos.
+ * </p>
+ * 
+ * @author gregory.feijon
+ *
+ */
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.CONSTRUCTOR, ElementType.METHOD })
+public @interface ObjectCreator {
+
+	String[] value() default {};
+}
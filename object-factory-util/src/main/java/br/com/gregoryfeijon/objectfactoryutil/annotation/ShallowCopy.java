@@ -0,0 +1,31 @@
+package br.com.gregoryfeijon.objectfactoryutil.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 
+ * 18 de outubro de 2026
+ * 
+ * <p>
+ * <strong>Indica que o valor do campo é copiado em apenas um nível: uma nova
+ * coleção, mapa, array ou objeto é criado, mas os seus elementos (ou campos)
+ * são compartilhados por referência.</strong>
+ * </p>
+ * 
+ * <p>
+ * Valores imutáveis continuam sendo compartilhados, e valores que precisam de
+ * conversão, como os de tipos diferentes na origem e no destino, são
+ * convertidos normalmente.
+ * </p>
+ * 
+ * @author gregory.feijon
+ *
+ */
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD })
+public @interface ShallowCopy {
+}
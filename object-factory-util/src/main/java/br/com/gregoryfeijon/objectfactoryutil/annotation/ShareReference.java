@@ -0,0 +1,31 @@
+package br.com.gregoryfeijon.objectfactoryutil.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 
+ * 18 de outubro de 2026
+ * 
+ * <p>
+ * <strong>Indica que o valor do campo é compartilhado por referência na
+ * cópia: o objeto de destino recebe a mesma instância do objeto de
+ * origem.</strong>
+ * </p>
+ * 
+ * <p>
+ * Indicado para estruturas grandes e somente leitura, como tabelas de
+ * consulta, que não precisam ser clonadas a cada cópia. Caso os tipos de
+ * origem e destino não sejam compatíveis, o valor é convertido normalmente.
+ * </p>
+ * 
+ * @author gregory.feijon
+ *
+ */
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD })
+public @interface ShareReference {
+}
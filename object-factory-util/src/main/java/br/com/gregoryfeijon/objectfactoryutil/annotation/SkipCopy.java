@@ -0,0 +1,31 @@
+package br.com.gregoryfeijon.objectfactoryutil.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 
+ * 18 de outubro de 2026
+ * 
+ * <p>
+ * <strong>Indica que o campo não é copiado: o objeto de destino mantém o valor
+ * atribuído na sua criação.</strong>
+ * </p>
+ * 
+ * <p>
+ * Equivalente ao
+ * {@link ObjectConstructor#exclude() exclude}, porém definido no próprio
+ * campo, de origem ou de destino, e aplicado a qualquer classe envolvida na
+ * cópia.
+ * </p>
+ * 
+ * @author gregory.feijon
+ *
+ */
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD })
+public @interface SkipCopy {
+}
@@ -0,0 +1,31 @@
+package br.com.gregoryfeijon.objectfactoryutil.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 
+ * 18 de outubro de 2026
+ * 
+ * <p>
+ * <strong>Marca o campo que identifica os objetos da classe quando eles são
+ * elementos de {@link java.util.Collection Collection}s sincronizadas pelo
+ * {@link br.com.gregoryfeijon.objectfactoryutil.util.ObjectFactoryUtil#sync(Object, Object)
+ * sync}.</strong>
+ * </p>
+ * 
+ * <p>
+ * Elementos de origem e destino com o mesmo valor no campo anotado são
+ * sincronizados entre si, independente da posição em que estão na coleção.
+ * </p>
+ * 
+ * @author gregory.feijon
+ *
+ */
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD })
+public @interface SyncKey {
+}
@@ -0,0 +1,28 @@
+package br.com.gregoryfeijon.objectfactoryutil.exception;
+
+/**
+ * 
+ * 18/10/2026
+ * 
+ * <strong>Encapsula uma {@link ObjectFactoryUtilException} em uma exception
+ * não checada, lançada pelas cópias feitas de forma lazy, como as dos
+ * {@link java.util.stream.Stream Streams} retornados pela
+ * ObjectFactoryUtil.</strong>
+ * 
+ * @author gregory.feijon
+ * 
+ */
+
+public class UncheckedObjectFactoryUtilException extends RuntimeException {
+
+	private static final long serialVersionUID = 5307381937734106254L;
+
+	public UncheckedObjectFactoryUtilException(ObjectFactoryUtilException cause) {
+		super(cause.getMessage(), cause);
+	}
+
+	@Override
+	public synchronized ObjectFactoryUtilException getCause() {
+		return (ObjectFactoryUtilException) super.getCause();
+	}
+}
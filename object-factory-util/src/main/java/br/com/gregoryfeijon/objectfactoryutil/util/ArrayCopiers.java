@@ -0,0 +1,229 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Classe responsável por resolver os {@link ValueCopier}s de campos do
+ * tipo array e as conversões entre arrays e {@link Collection}s.</strong>
+ *
+ * <p>
+ * Arrays de tipos primitivos ou {@link ImmutableTypes imutáveis} são copiados
+ * de uma só vez, via {@link System#arraycopy}. Nos demais, cada elemento é
+ * copiado pelo {@link ObjectGraphCopier}, o que inclui os arrays
+ * multidimensionais, cujos elementos são, por sua vez, arrays. Quando o tipo
+ * dos elementos da origem é diferente do destino (como um <i>int[]</i> copiado
+ * para um <i>long[]</i> ou um <i>Integer[]</i> para um <i>int[]</i>), os
+ * elementos são convertidos um a um, com as mesmas regras de conversão do
+ * {@link Array#set(Object, int, Object)}; elementos nulos mantêm o valor
+ * padrão dos arrays de tipos primitivos.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+final class ArrayCopiers {
+
+    private ArrayCopiers() {
+    }
+
+    /**
+     * <strong>Método que retorna o {@link ValueCopier} de um array para o tipo
+     * de array informado.</strong>
+     *
+     * <p>
+     * Se a classe do array de origem for um subtipo do tipo informado (como um
+     * <i>Bar[]</i> em um campo <i>Object[]</i>), ela é preservada na cópia.
+     * <p>
+     *
+     * @param arrayType - {@link Class}&lt?&gt - tipo do array de destino
+     * @return {@link ValueCopier}
+     */
+    static ValueCopier forArray(Class<?> arrayType) {
+        return new ArrayValueCopier(arrayType);
+    }
+
+    /**
+     * <strong>Método que retorna o {@link ValueCopier} da cópia de apenas um
+     * nível de um array: um novo array, da mesma classe do array de origem,
+     * com os mesmos elementos.</strong>
+     *
+     * @return {@link ValueCopier}
+     * @see CopyPolicy#SHALLOW
+     */
+    static ValueCopier shallow() {
+        return value -> {
+            if (value == null) {
+                return null;
+            }
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, copy, 0, length);
+            return copy;
+        };
+    }
+
+    /**
+     * <strong>Método que retorna o {@link ValueCopier} que converte um array
+     * na {@link Collection} do tipo informado.</strong>
+     *
+     * @param collectionType - {@link Class}&lt?&gt - tipo declarado no destino
+     * @param genericType    - {@link Type} - tipo genérico declarado no destino
+     * @return {@link ValueCopier}
+     */
+    static ValueCopier toCollection(Class<?> collectionType, Type genericType) {
+        ValueCopier collectionCopier = CollectionCopiers.resolve(collectionType, genericType);
+        return value -> value == null ? null : collectionCopier.copy(new ArrayView(value));
+    }
+
+    /**
+     * <strong>Método que retorna o {@link ValueCopier} que converte uma
+     * {@link Collection} no tipo de array informado.</strong>
+     *
+     * @param arrayType - {@link Class}&lt?&gt - tipo do array de destino
+     * @return {@link ValueCopier}
+     */
+    static ValueCopier fromCollection(Class<?> arrayType) {
+        Class<?> componentType = arrayType.getComponentType();
+        ValueCopier elementCopier = elementCopier(componentType);
+        return value -> {
+            if (value == null) {
+                return null;
+            }
+            Collection<?> source = (Collection<?>) value;
+            Object copy = Array.newInstance(componentType, source.size());
+            int index = 0;
+            for (Object element : source) {
+                setElement(copy, index++, elementCopier.copy(element));
+            }
+            return copy;
+        };
+    }
+
+    private static ValueCopier elementCopier(Class<?> componentType) {
+        if (ImmutableTypes.isImmutable(componentType)) {
+            return ValueCopier.IDENTITY;
+        }
+        return ObjectGraphCopier.forDeclaredType(componentType);
+    }
+
+    private static void setElement(Object array, int index, Object element) throws ObjectFactoryUtilException {
+        if (element == null && array.getClass().getComponentType().isPrimitive()) {
+            return;
+        }
+        try {
+            Array.set(array, index, element);
+        } catch (IllegalArgumentException ex) {
+            throw new ObjectFactoryUtilException("Erro ao converter o elemento " + element + " para o tipo "
+                    + array.getClass().getComponentType().getName() + ".", ex);
+        }
+    }
+
+    /**
+     * <strong>{@link ValueCopier} de array.</strong>
+     */
+    private static final class ArrayValueCopier implements ValueCopier {
+
+        private final Class<?> arrayType;
+        private final ValueCopier elementCopier;
+
+        private ArrayValueCopier(Class<?> arrayType) {
+            this.arrayType = arrayType;
+            this.elementCopier = elementCopier(arrayType.getComponentType());
+        }
+
+        @Override
+        public Object copy(Object value) throws ObjectFactoryUtilException {
+            if (value == null) {
+                return null;
+            }
+            CopyContext context = CopyContext.active();
+            if (context != null) {
+                Object existing = context.getCopy(value, arrayType);
+                if (existing != null) {
+                    return existing;
+                }
+            }
+            Class<?> sourceType = value.getClass();
+            Class<?> copyType = arrayType.isAssignableFrom(sourceType) ? sourceType : arrayType;
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(copyType.getComponentType(), length);
+            if (context != null) {
+                context.putCopy(value, copy);
+            }
+            if (elementCopier == ValueCopier.IDENTITY && copyType == sourceType) {
+                System.arraycopy(value, 0, copy, 0, length);
+                return copy;
+            }
+            for (int i = 0; i < length; i++) {
+                setElement(copy, i, elementCopier.copy(Array.get(value, i)));
+            }
+            return copy;
+        }
+
+        /**
+         * <strong>Copia os elementos sobre o array já presente no destino,
+         * caso ele seja da mesma classe e do mesmo tamanho do array que seria
+         * criado.</strong>
+         */
+        @Override
+        public Object copyInto(Object value, Object destValue) throws ObjectFactoryUtilException {
+            if (value == null || destValue == null || destValue == value) {
+                return copy(value);
+            }
+            Class<?> sourceType = value.getClass();
+            Class<?> copyType = arrayType.isAssignableFrom(sourceType) ? sourceType : arrayType;
+            int length = Array.getLength(value);
+            if (destValue.getClass() != copyType || Array.getLength(destValue) != length) {
+                return copy(value);
+            }
+            CopyContext context = CopyContext.active();
+            if (context != null) {
+                Object existing = context.getCopy(value, arrayType);
+                if (existing != null) {
+                    return existing;
+                }
+                context.putCopy(value, destValue);
+            }
+            if (elementCopier == ValueCopier.IDENTITY && copyType == sourceType) {
+                System.arraycopy(value, 0, destValue, 0, length);
+                return destValue;
+            }
+            for (int i = 0; i < length; i++) {
+                setElement(destValue, i, elementCopier.copyInto(Array.get(value, i), Array.get(destValue, i)));
+            }
+            return destValue;
+        }
+    }
+
+    /**
+     * <strong>Visão de um array como {@link java.util.List}, utilizada na
+     * conversão para {@link Collection}.</strong>
+     */
+    private static final class ArrayView extends AbstractList<Object> implements RandomAccess {
+
+        private final Object array;
+        private final int length;
+
+        private ArrayView(Object array) {
+            this.array = array;
+            this.length = Array.getLength(array);
+        }
+
+        @Override
+        public Object get(int index) {
+            return Array.get(array, index);
+        }
+
+        @Override
+        public int size() {
+            return length;
+        }
+    }
+}
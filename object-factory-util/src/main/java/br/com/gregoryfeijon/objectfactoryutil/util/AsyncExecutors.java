@@ -0,0 +1,29 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Fornece o {@link Executor} padrão das cópias assíncronas da
+ * {@link ObjectFactoryUtil}.</strong>
+ *
+ * <p>
+ * Até o Java 20, é utilizado o {@link ForkJoinPool#commonPool()}. O jar é
+ * publicado como <i>multi-release</i>, com uma versão desta classe em
+ * <i>META-INF/versions/21</i> que passa a utilizar uma thread virtual por
+ * tarefa.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+final class AsyncExecutors {
+
+    private AsyncExecutors() {
+    }
+
+    static Executor defaultExecutor() {
+        return ForkJoinPool.commonPool();
+    }
+}
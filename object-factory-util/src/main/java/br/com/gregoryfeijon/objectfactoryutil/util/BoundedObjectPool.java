@@ -0,0 +1,34 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>{@link ObjectPool} de capacidade limitada, sobre um array
+ * circular.</strong>
+ *
+ * @param <T> tipo das instâncias
+ * @author gregory.feijon
+ * @see ObjectPool#bounded(int)
+ */
+final class BoundedObjectPool<T> implements ObjectPool<T> {
+
+    private final ArrayBlockingQueue<T> instances;
+
+    BoundedObjectPool(int capacity) {
+        this.instances = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public T acquire() {
+        return instances.poll();
+    }
+
+    @Override
+    public void release(T instance) {
+        if (instance != null) {
+            instances.offer(instance);
+        }
+    }
+}
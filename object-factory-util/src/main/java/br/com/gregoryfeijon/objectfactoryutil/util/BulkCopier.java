@@ -0,0 +1,164 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Cópia em lote dos elementos de uma {@link Collection}, utilizada
+ * pelo {@link ObjectFactoryUtil#copyAllObjectsFromCollection(Collection)
+ * copyAllObjectsFromCollection}.</strong>
+ *
+ * <p>
+ * Abaixo do {@link ObjectFactoryUtilConfig#getParallelThreshold() limite
+ * configurado}, os elementos são copiados sequencialmente, na thread
+ * chamadora. A partir dele, os elementos são divididos em faixas contíguas,
+ * uma para cada thread (até o
+ * {@link ObjectFactoryUtilConfig#getParallelism() paralelismo configurado}),
+ * copiadas no {@link ObjectFactoryUtilConfig#getParallelExecutor() executor
+ * configurado} e na própria thread chamadora. Cada cópia é gravada na posição
+ * do seu elemento, de forma que a ordem da coleção de origem é preservada no
+ * retorno.
+ * <p>
+ *
+ * <p>
+ * No modo de {@link ObjectFactoryUtilConfig#isPreserveIdentity() preservação
+ * de identidade}, todos os elementos são copiados em um único
+ * {@link CopyContext}, de forma que as instâncias compartilhadas entre
+ * elementos diferentes continuam compartilhadas nas cópias. Como o contexto
+ * pertence a uma única thread, nesse modo a cópia é sempre sequencial,
+ * independente do limite configurado.
+ * <p>
+ *
+ * <p>
+ * Caso a cópia de algum elemento falhe, as demais faixas são interrompidas e
+ * a {@link ObjectFactoryUtilException} original é lançada para o chamador,
+ * somente após a conclusão de todas elas.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+final class BulkCopier {
+
+    private BulkCopier() {
+    }
+
+    /**
+     * <strong>Método que copia todos os elementos de source, adicionando as
+     * cópias em dest, na mesma ordem.</strong>
+     *
+     * @param <S>    tipo dos objetos copiados
+     * @param <T>    tipo dos objetos retornados
+     * @param <C>    tipo da coleção retornada
+     * @param source - {@link Collection}&ltS&gt
+     * @param copier - função de cópia de cada elemento
+     * @param dest   - C
+     * @return C
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    static <S, T, C extends Collection<T>> C copyAll(Collection<S> source,
+                                                     LambdaExceptionUtil.FunctionWithException<S, T, ObjectFactoryUtilException> copier,
+                                                     C dest) throws ObjectFactoryUtilException {
+        int threshold = ObjectFactoryUtilConfig.getParallelThreshold();
+        int parallelism = Math.min(ObjectFactoryUtilConfig.getParallelism(), source.size());
+        CopyContext context = CopyContext.open();
+        try {
+            if (CopyContext.active() != null || threshold < 0 || source.size() < threshold || parallelism < 2) {
+                for (S element : source) {
+                    dest.add(copier.apply(element));
+                }
+                return dest;
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        return copyParallel(source, copier, dest, parallelism);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S, T, C extends Collection<T>> C copyParallel(Collection<S> source,
+                                                                  LambdaExceptionUtil.FunctionWithException<S, T, ObjectFactoryUtilException> copier,
+                                                                  C dest, int parallelism) throws ObjectFactoryUtilException {
+        Object[] elements = source.toArray();
+        Object[] copies = new Object[elements.length];
+        int chunkSize = (elements.length + parallelism - 1) / parallelism;
+        AtomicBoolean failed = new AtomicBoolean();
+        Executor executor = ObjectFactoryUtilConfig.getParallelExecutor();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[parallelism - 1];
+        for (int i = 0; i < futures.length; i++) {
+            int from = (i + 1) * chunkSize;
+            int to = Math.min(from + chunkSize, elements.length);
+            futures[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    copyRange(elements, copies, from, to, copier, failed);
+                } catch (ObjectFactoryUtilException ex) {
+                    throw new CompletionException(ex);
+                }
+            }, executor);
+        }
+        boolean copied = false;
+        try {
+            copyRange(elements, copies, 0, Math.min(chunkSize, elements.length), copier, failed);
+            copied = true;
+        } finally {
+            if (!copied) {
+                awaitQuietly(futures, failed);
+            }
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException ex) {
+            throw unwrap(ex);
+        }
+        for (Object copy : copies) {
+            dest.add((T) copy);
+        }
+        return dest;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S, T> void copyRange(Object[] elements, Object[] copies, int from, int to,
+                                         LambdaExceptionUtil.FunctionWithException<S, T, ObjectFactoryUtilException> copier,
+                                         AtomicBoolean failed) throws ObjectFactoryUtilException {
+        try {
+            for (int i = from; i < to && !failed.get(); i++) {
+                copies[i] = copier.apply((S) elements[i]);
+            }
+        } catch (ObjectFactoryUtilException | RuntimeException ex) {
+            failed.set(true);
+            throw ex;
+        }
+    }
+
+    /**
+     * <strong>Interrompe as demais faixas e aguarda a sua conclusão,
+     * ignorando as suas falhas, para que nenhuma cópia continue em execução
+     * após a exception da thread chamadora ser lançada.</strong>
+     */
+    private static void awaitQuietly(CompletableFuture<?>[] futures, AtomicBoolean failed) {
+        failed.set(true);
+        CompletableFuture.allOf(futures).handle((result, ex) -> null).join();
+    }
+
+    private static ObjectFactoryUtilException unwrap(CompletionException ex) {
+        Throwable cause = ex.getCause();
+        if (cause instanceof ObjectFactoryUtilException) {
+            return (ObjectFactoryUtilException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new ObjectFactoryUtilException("Erro na cópia em paralelo dos objetos.", cause);
+    }
+}
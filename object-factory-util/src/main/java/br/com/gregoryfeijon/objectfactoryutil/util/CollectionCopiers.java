@@ -0,0 +1,583 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.IntFunction;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Classe responsável por resolver os {@link ValueCopier}s de campos do
+ * tipo {@link Collection} e {@link Map}.</strong>
+ *
+ * <p>
+ * O copiador dos elementos (e das chaves, no caso de {@link Map}) é escolhido
+ * uma única vez, a partir do tipo genérico declarado no destino: elementos
+ * {@link ImmutableTypes imutáveis} são apenas repassados, e os demais são
+ * copiados pelo {@link ObjectGraphCopier}. Quando o tipo genérico não pode ser
+ * resolvido, cada elemento é copiado conforme a sua classe em tempo de
+ * execução.
+ * <p>
+ *
+ * <p>
+ * A coleção copiada preserva a classe da coleção de origem, desde que ela seja
+ * compatível com o tipo declarado no destino e possa ser instanciada. Caso
+ * contrário, é utilizada a implementação
+ * {@link ObjectFactoryUtilConfig#getCollectionImplementation(Class)
+ * configurada} para o tipo declarado ou, na falta dela, uma implementação
+ * padrão ({@link ArrayList}, {@link LinkedHashSet}, {@link TreeSet},
+ * {@link ArrayDeque}, {@link LinkedHashMap}, {@link TreeMap}...). As coleções
+ * conhecidas são criadas já com a capacidade necessária, e as ordenadas
+ * mantêm o {@link Comparator} da origem. {@link EnumSet}s são clonados e
+ * {@link EnumMap}s mantêm o tipo das chaves. {@link LinkedHashMap}s também são
+ * clonados, já que a ordem de acesso (<i>accessOrder</i>), utilizada em
+ * caches LRU, não pode ser consultada nem informada de outra forma.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+final class CollectionCopiers {
+
+    private static final Class<?>[] DEFAULT_IMPLEMENTATIONS = {ArrayList.class, LinkedHashSet.class, TreeSet.class,
+            ArrayDeque.class, ConcurrentSkipListSet.class, LinkedHashMap.class, TreeMap.class, ConcurrentHashMap.class,
+            ConcurrentSkipListMap.class};
+    private static final Map<Class<?>, IntFunction<Object>> SIZED_FACTORIES = criaSizedFactories();
+    private static final Set<Class<?>> UNMODIFIABLE_CLASSES = criaUnmodifiableClasses();
+    private static final String[] UNMODIFIABLE_PREFIXES = {"java.util.ImmutableCollections$",
+            "com.google.common.collect.Immutable"};
+    private static final ConcurrentMap<Class<?>, Boolean> MODIFIABLE_CACHE = new ConcurrentHashMap<>();
+
+    private CollectionCopiers() {
+    }
+
+    /**
+     * <strong>Método que retorna o {@link ValueCopier} de um campo do tipo
+     * {@link Collection} ou {@link Map}.</strong>
+     *
+     * @param declaredType - {@link Class}&lt?&gt - tipo declarado no destino
+     * @param genericType  - {@link Type} - tipo genérico declarado no destino
+     * @return {@link ValueCopier}
+     */
+    static ValueCopier resolve(Class<?> declaredType, Type genericType) {
+        if (Map.class.isAssignableFrom(declaredType)) {
+            return new MapValueCopier(declaredType, genericType, true, elementCopier(genericType, 0),
+                    elementCopier(genericType, 1));
+        }
+        return new CollectionValueCopier(declaredType, genericType, true, elementCopier(genericType, 0));
+    }
+
+    /**
+     * <strong>Método que retorna o {@link ValueCopier} de um campo do tipo
+     * {@link Collection} ou {@link Map} cujos elementos (ou valores, no caso
+     * de {@link Map}) são copiados pelo {@link ValueCopier} informado, como os
+     * de uma {@link Projection}.</strong> As coleções criadas não são
+     * registradas no {@link CopyContext}, já que não são cópias completas da
+     * origem.
+     *
+     * @param declaredType  - {@link Class}&lt?&gt - tipo declarado no destino
+     * @param genericType   - {@link Type} - tipo genérico declarado no destino
+     * @param elementCopier - {@link ValueCopier}
+     * @return {@link ValueCopier}
+     */
+    static ValueCopier withElementCopier(Class<?> declaredType, Type genericType, ValueCopier elementCopier) {
+        if (Map.class.isAssignableFrom(declaredType)) {
+            return new MapValueCopier(declaredType, genericType, false, elementCopier(genericType, 0), elementCopier);
+        }
+        return new CollectionValueCopier(declaredType, genericType, false, elementCopier);
+    }
+
+    /**
+     * <strong>Método que retorna o {@link ValueCopier} da cópia de apenas um
+     * nível de um campo do tipo {@link Collection} ou {@link Map}: a coleção
+     * é criada com as mesmas regras das demais, mas os elementos (e as
+     * chaves) são compartilhados por referência.</strong>
+     *
+     * @param declaredType - {@link Class}&lt?&gt - tipo declarado no destino
+     * @return {@link ValueCopier}
+     * @see CopyPolicy#SHALLOW
+     */
+    static ValueCopier shallow(Class<?> declaredType) {
+        if (Map.class.isAssignableFrom(declaredType)) {
+            return new MapValueCopier(declaredType, declaredType, false, ValueCopier.IDENTITY, ValueCopier.IDENTITY);
+        }
+        return new CollectionValueCopier(declaredType, declaredType, false, ValueCopier.IDENTITY);
+    }
+
+    /**
+     * <strong>Método que retorna o {@link ValueCopier} dos elementos (ou das
+     * chaves e valores, no caso de {@link Map}s) declarados no tipo
+     * genérico informado.</strong>
+     *
+     * @param genericType - {@link Type}
+     * @param index       - int - posição do argumento de tipo
+     * @return {@link ValueCopier}
+     */
+    static ValueCopier elementCopier(Type genericType, int index) {
+        Class<?> elementType = getTypeArgument(genericType, index);
+        if (ImmutableTypes.isImmutable(elementType)) {
+            return ValueCopier.IDENTITY;
+        }
+        return ObjectGraphCopier.forDeclaredType(elementType);
+    }
+
+    static Class<?> getTypeArgument(Type genericType, int index) {
+        if (genericType instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+            if (arguments.length > index) {
+                Type argument = arguments[index];
+                if (argument instanceof WildcardType) {
+                    argument = ((WildcardType) argument).getUpperBounds()[0];
+                }
+                if (argument instanceof ParameterizedType) {
+                    argument = ((ParameterizedType) argument).getRawType();
+                }
+                if (argument instanceof Class) {
+                    return (Class<?>) argument;
+                }
+            }
+        }
+        return Object.class;
+    }
+
+    /**
+     * <strong>Método que resolve a forma de criar a coleção copiada, a partir
+     * da classe da coleção de origem e do tipo declarado no destino.</strong>
+     *
+     * @param runtimeClass - {@link Class}&lt?&gt
+     * @param declaredType - {@link Class}&lt?&gt
+     * @return {@link ContainerFactory}
+     * @throws ObjectFactoryUtilException - lançada quando nenhuma implementação
+     *                                    compatível com o tipo declarado puder ser instanciada
+     */
+    private static ContainerFactory resolveFactory(Class<?> runtimeClass, Class<?> declaredType) throws ObjectFactoryUtilException {
+        Class<?> configured = ObjectFactoryUtilConfig.getCollectionImplementation(declaredType);
+        if (configured != null) {
+            ContainerFactory factory = findFactory(configured);
+            if (factory != null) {
+                return factory;
+            }
+        }
+        if (declaredType.isAssignableFrom(runtimeClass)) {
+            ContainerFactory factory = findFactory(runtimeClass);
+            if (factory != null) {
+                return factory;
+            }
+        }
+        ContainerFactory factory = findFactory(declaredType);
+        if (factory != null) {
+            return factory;
+        }
+        for (Class<?> implementation : DEFAULT_IMPLEMENTATIONS) {
+            if (declaredType.isAssignableFrom(implementation)) {
+                return findFactory(implementation);
+            }
+        }
+        throw new ObjectFactoryUtilException("Não foi possível criar uma instância de " + declaredType.getName()
+                + " na ObjectFactoryUtil.");
+    }
+
+    private static ContainerFactory findFactory(Class<?> type) {
+        if (EnumSet.class.isAssignableFrom(type)) {
+            return (source, size) -> {
+                EnumSet<?> copy = ((EnumSet<?>) source).clone();
+                copy.clear();
+                return copy;
+            };
+        }
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        if (type == EnumMap.class) {
+            return (source, size) -> {
+                EnumMap<?, ?> copy = new EnumMap<>((EnumMap<?, ?>) source);
+                copy.clear();
+                return copy;
+            };
+        }
+        if (type == LinkedHashMap.class) {
+            return (source, size) -> {
+                if (!(source instanceof LinkedHashMap)) {
+                    return new LinkedHashMap<>(hashCapacity(size));
+                }
+                LinkedHashMap<?, ?> copy = (LinkedHashMap<?, ?>) ((LinkedHashMap<?, ?>) source).clone();
+                copy.clear();
+                return copy;
+            };
+        }
+        if (SortedSet.class.isAssignableFrom(type) || SortedMap.class.isAssignableFrom(type)) {
+            ContainerFactory factory = findComparatorFactory(type);
+            if (factory != null) {
+                return factory;
+            }
+        }
+        IntFunction<Object> sizedFactory = SIZED_FACTORIES.get(type);
+        if (sizedFactory != null) {
+            return (source, size) -> sizedFactory.apply(size);
+        }
+        Constructor<?> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+        } catch (NoSuchMethodException ex) {
+            return null;
+        }
+        if (!constructor.trySetAccessible()) {
+            return null;
+        }
+        return (source, size) -> newInstance(constructor);
+    }
+
+    private static ContainerFactory findComparatorFactory(Class<?> type) {
+        Constructor<?> constructor;
+        try {
+            constructor = type.getDeclaredConstructor(Comparator.class);
+        } catch (NoSuchMethodException ex) {
+            return null;
+        }
+        if (!constructor.trySetAccessible()) {
+            return null;
+        }
+        return (source, size) -> newInstance(constructor, getComparator(source));
+    }
+
+    private static Comparator<?> getComparator(Object source) {
+        if (source instanceof SortedSet) {
+            return ((SortedSet<?>) source).comparator();
+        }
+        if (source instanceof SortedMap) {
+            return ((SortedMap<?, ?>) source).comparator();
+        }
+        return null;
+    }
+
+    private static Object newInstance(Constructor<?> constructor, Object... args) throws ObjectFactoryUtilException {
+        try {
+            return constructor.newInstance(args);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException ex) {
+            throw new ObjectFactoryUtilException("Erro ao criar instância da coleção copiada na ObjectFactoryUtil.", ex);
+        }
+    }
+
+    private static Map<Class<?>, IntFunction<Object>> criaSizedFactories() {
+        Map<Class<?>, IntFunction<Object>> factories = new HashMap<>();
+        factories.put(ArrayList.class, ArrayList::new);
+        factories.put(LinkedList.class, size -> new LinkedList<>());
+        factories.put(Vector.class, size -> new Vector<>(Math.max(size, 1)));
+        factories.put(ArrayDeque.class, ArrayDeque::new);
+        factories.put(HashSet.class, size -> new HashSet<>(hashCapacity(size)));
+        factories.put(LinkedHashSet.class, size -> new LinkedHashSet<>(hashCapacity(size)));
+        factories.put(HashMap.class, size -> new HashMap<>(hashCapacity(size)));
+        factories.put(IdentityHashMap.class, IdentityHashMap::new);
+        factories.put(ConcurrentHashMap.class, ConcurrentHashMap::new);
+        return factories;
+    }
+
+    /**
+     * <strong>Método que verifica se a {@link Collection} ou o {@link Map}
+     * informado aceita alterações, antes que qualquer elemento seja
+     * escrito nele.</strong>
+     *
+     * <p>
+     * As visões imutáveis e de tamanho fixo do JDK
+     * ({@link Collections#unmodifiableList(List) Collections.unmodifiable*},
+     * {@link Collections#emptyList() Collections.empty*},
+     * {@link Collections#singletonList(Object) Collections.singleton*},
+     * {@link Arrays#asList(Object[]) Arrays.asList}, {@link List#of()
+     * List.of}...) e as coleções imutáveis do Guava são reconhecidas pela
+     * classe. As demais são testadas uma única vez por classe, com a inclusão
+     * de uma coleção vazia, que não altera o conteúdo.
+     * <p>
+     *
+     * @param container - {@link Object} - {@link Collection} ou {@link Map}
+     * @return boolean
+     */
+    static boolean isModifiable(Object container) {
+        return MODIFIABLE_CACHE.computeIfAbsent(container.getClass(), type -> verifyModifiable(type, container));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean verifyModifiable(Class<?> type, Object container) {
+        if (UNMODIFIABLE_CLASSES.contains(type)) {
+            return false;
+        }
+        for (String prefix : UNMODIFIABLE_PREFIXES) {
+            if (type.getName().startsWith(prefix)) {
+                return false;
+            }
+        }
+        try {
+            if (container instanceof Map) {
+                ((Map<Object, Object>) container).putAll(Collections.emptyMap());
+            } else {
+                ((Collection<Object>) container).addAll(Collections.emptyList());
+            }
+            return true;
+        } catch (UnsupportedOperationException ex) {
+            return false;
+        }
+    }
+
+    private static Set<Class<?>> criaUnmodifiableClasses() {
+        List<Object> samples = Arrays.asList(Collections.unmodifiableCollection(new ArrayList<>()),
+                Collections.unmodifiableList(new ArrayList<>()), Collections.unmodifiableList(new LinkedList<>()),
+                Collections.unmodifiableSet(new HashSet<>()), Collections.unmodifiableSortedSet(new TreeSet<>()),
+                Collections.unmodifiableNavigableSet(new TreeSet<>()), Collections.unmodifiableMap(new HashMap<>()),
+                Collections.unmodifiableSortedMap(new TreeMap<>()), Collections.unmodifiableNavigableMap(new TreeMap<>()),
+                Collections.emptyList(), Collections.emptySet(), Collections.emptySortedSet(),
+                Collections.emptyNavigableSet(), Collections.emptyMap(), Collections.emptySortedMap(),
+                Collections.emptyNavigableMap(), Collections.singleton(null), Collections.singletonList(null),
+                Collections.singletonMap(null, null), Collections.nCopies(1, null), Arrays.asList());
+        Set<Class<?>> classes = new HashSet<>();
+        for (Object sample : samples) {
+            classes.add(sample.getClass());
+        }
+        return classes;
+    }
+
+    private static int hashCapacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    /**
+     * <strong>Cria a instância vazia da coleção copiada.</strong>
+     */
+    @FunctionalInterface
+    private interface ContainerFactory {
+
+        Object create(Object source, int size) throws ObjectFactoryUtilException;
+    }
+
+    /**
+     * <strong>{@link ContainerFactory} resolvida para a última classe de
+     * coleção encontrada em tempo de execução.</strong>
+     */
+    private static final class RuntimeFactory {
+
+        private final Class<?> runtimeClass;
+        private final ContainerFactory factory;
+
+        private RuntimeFactory(Class<?> runtimeClass, ContainerFactory factory) {
+            this.runtimeClass = runtimeClass;
+            this.factory = factory;
+        }
+    }
+
+    /**
+     * <strong>Base dos copiadores de {@link Collection} e {@link Map}, com o
+     * cache da criação da coleção e o registro no {@link CopyContext}.</strong>
+     */
+    private abstract static class ContainerValueCopier implements ValueCopier {
+
+        private final Class<?> declaredType;
+        private final Type genericType;
+        private final boolean tracked;
+        private volatile RuntimeFactory last;
+
+        private ContainerValueCopier(Class<?> declaredType, Type genericType, boolean tracked) {
+            this.declaredType = declaredType;
+            this.genericType = genericType != null ? genericType : declaredType;
+            this.tracked = tracked;
+        }
+
+        @Override
+        public Object copy(Object value) throws ObjectFactoryUtilException {
+            if (value == null) {
+                return null;
+            }
+            CopyContext context = tracked ? CopyContext.active() : null;
+            if (context != null) {
+                Object existing = context.getCopy(value, genericType);
+                if (existing != null) {
+                    return existing;
+                }
+            }
+            RuntimeFactory target = last;
+            if (target == null || target.runtimeClass != value.getClass()) {
+                target = new RuntimeFactory(value.getClass(), resolveFactory(value.getClass(), declaredType));
+                last = target;
+            }
+            Object copy = target.factory.create(value, size(value));
+            if (context != null) {
+                context.putCopy(value, genericType, copy);
+            }
+            fill(value, copy);
+            return copy;
+        }
+
+        /**
+         * <strong>Copia os elementos para a coleção já presente no destino,
+         * caso ela seja compatível com o tipo declarado e
+         * {@link #isModifiable(Object) modificável}.</strong> Caso contrário, o
+         * campo recebe uma nova cópia, sem que a coleção anterior seja
+         * alterada. A {@link UnsupportedOperationException} de uma coleção que
+         * só recuse parte das operações também resulta em uma nova cópia.
+         */
+        @Override
+        public Object copyInto(Object value, Object destValue) throws ObjectFactoryUtilException {
+            if (value == null || destValue == null || destValue == value || !declaredType.isInstance(destValue)
+                    || !isModifiable(destValue)) {
+                return copy(value);
+            }
+            CopyContext context = tracked ? CopyContext.active() : null;
+            if (context != null) {
+                Object existing = context.getCopy(value, genericType);
+                if (existing != null) {
+                    return existing;
+                }
+                context.putCopy(value, genericType, destValue);
+            }
+            try {
+                refill(value, destValue);
+            } catch (UnsupportedOperationException ex) {
+                if (context != null) {
+                    context.removeCopy(value, destValue);
+                }
+                return copy(value);
+            }
+            return destValue;
+        }
+
+        abstract int size(Object value);
+
+        abstract void fill(Object value, Object copy) throws ObjectFactoryUtilException;
+
+        abstract void refill(Object value, Object destValue) throws ObjectFactoryUtilException;
+    }
+
+    /**
+     * <strong>{@link ValueCopier} de {@link Collection}.</strong>
+     */
+    private static final class CollectionValueCopier extends ContainerValueCopier {
+
+        private final ValueCopier elementCopier;
+
+        private CollectionValueCopier(Class<?> declaredType, Type genericType, boolean tracked, ValueCopier elementCopier) {
+            super(declaredType, genericType, tracked);
+            this.elementCopier = elementCopier;
+        }
+
+        @Override
+        int size(Object value) {
+            return ((Collection<?>) value).size();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void fill(Object value, Object copy) throws ObjectFactoryUtilException {
+            Collection<Object> source = (Collection<Object>) value;
+            Collection<Object> dest = (Collection<Object>) copy;
+            if (elementCopier == ValueCopier.IDENTITY || source instanceof EnumSet) {
+                dest.addAll(source);
+                return;
+            }
+            for (Object element : source) {
+                dest.add(elementCopier.copy(element));
+            }
+        }
+
+        /**
+         * <strong>Nas {@link List}s de acesso aleatório, cada elemento é
+         * copiado sobre o elemento da mesma posição no destino, e as posições
+         * excedentes são removidas. As demais coleções são esvaziadas e
+         * preenchidas novamente.</strong>
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        void refill(Object value, Object destValue) throws ObjectFactoryUtilException {
+            Collection<Object> source = (Collection<Object>) value;
+            if (!(destValue instanceof List) || !(destValue instanceof RandomAccess)) {
+                ((Collection<Object>) destValue).clear();
+                fill(value, destValue);
+                return;
+            }
+            List<Object> dest = (List<Object>) destValue;
+            int destSize = dest.size();
+            int index = 0;
+            if (source instanceof List && source instanceof RandomAccess) {
+                List<Object> sourceList = (List<Object>) source;
+                for (int size = sourceList.size(); index < size; index++) {
+                    copyElementInto(dest, destSize, index, sourceList.get(index));
+                }
+            } else {
+                for (Object element : source) {
+                    copyElementInto(dest, destSize, index++, element);
+                }
+            }
+            if (index < destSize) {
+                dest.subList(index, destSize).clear();
+            }
+        }
+
+        private void copyElementInto(List<Object> dest, int destSize, int index, Object element) throws ObjectFactoryUtilException {
+            if (index < destSize) {
+                dest.set(index, elementCopier.copyInto(element, dest.get(index)));
+            } else {
+                dest.add(elementCopier.copy(element));
+            }
+        }
+    }
+
+    /**
+     * <strong>{@link ValueCopier} de {@link Map}.</strong>
+     */
+    private static final class MapValueCopier extends ContainerValueCopier {
+
+        private final ValueCopier keyCopier;
+        private final ValueCopier valueCopier;
+
+        private MapValueCopier(Class<?> declaredType, Type genericType, boolean tracked, ValueCopier keyCopier,
+                               ValueCopier valueCopier) {
+            super(declaredType, genericType, tracked);
+            this.keyCopier = keyCopier;
+            this.valueCopier = valueCopier;
+        }
+
+        @Override
+        int size(Object value) {
+            return ((Map<?, ?>) value).size();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void fill(Object value, Object copy) throws ObjectFactoryUtilException {
+            Map<Object, Object> source = (Map<Object, Object>) value;
+            Map<Object, Object> dest = (Map<Object, Object>) copy;
+            if (keyCopier == ValueCopier.IDENTITY && valueCopier == ValueCopier.IDENTITY) {
+                dest.putAll(source);
+                return;
+            }
+            for (Map.Entry<Object, Object> entry : source.entrySet()) {
+                dest.put(keyCopier.copy(entry.getKey()), valueCopier.copy(entry.getValue()));
+            }
+        }
+
+        /**
+         * <strong>Quando as chaves são imutáveis, cada valor é copiado sobre o
+         * valor da mesma chave no destino, e as chaves ausentes na origem são
+         * removidas. Caso contrário, o {@link Map} é esvaziado e preenchido
+         * novamente.</strong>
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        void refill(Object value, Object destValue) throws ObjectFactoryUtilException {
+            Map<Object, Object> source = (Map<Object, Object>) value;
+            Map<Object, Object> dest = (Map<Object, Object>) destValue;
+            if (keyCopier != ValueCopier.IDENTITY) {
+                dest.clear();
+                fill(value, destValue);
+                return;
+            }
+            for (Map.Entry<Object, Object> entry : source.entrySet()) {
+                dest.put(entry.getKey(), valueCopier.copyInto(entry.getValue(), dest.get(entry.getKey())));
+            }
+            if (dest.size() != source.size()) {
+                dest.keySet().retainAll(source.keySet());
+            }
+        }
+    }
+}
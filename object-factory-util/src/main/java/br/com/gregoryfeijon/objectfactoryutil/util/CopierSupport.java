@@ -0,0 +1,135 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 18/10/2026
+ *
+ * <p>
+ * <strong>Métodos de apoio utilizados pelos {@link ObjectCopier}s gerados em
+ * tempo de compilação.</strong>
+ * </p>
+ *
+ * <p>
+ * Os copiadores gerados atribuem diretamente os valores de tipos primitivos,
+ * {@link Enum}s e <i>wrappers</i> imutáveis, e delegam para o
+ * {@link #copyValue(Object, Type) copyValue} os demais valores, que seguem as
+ * mesmas regras de cópia da {@link ObjectFactoryUtil}.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public final class CopierSupport {
+
+    private static final ConcurrentMap<Type, ValueCopier> COPIERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Type, ValueCopier> SHALLOW_COPIERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Type, ValueCopier> DEEP_COPIERS = new ConcurrentHashMap<>();
+
+    private CopierSupport() {
+    }
+
+    /**
+     * <strong>Método que retorna uma cópia do valor informado, considerando o
+     * seu tipo declarado.</strong>
+     *
+     * @param <V>   tipo do valor
+     * @param value - V
+     * @param type  - {@link Type} - tipo declarado, obtido pelo
+     *              {@link #fieldType(Class, String) fieldType}
+     * @return V
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> V copyValue(V value, Type type) throws ObjectFactoryUtilException {
+        if (value == null) {
+            return null;
+        }
+        ValueCopier copier = COPIERS.computeIfAbsent(type, key -> {
+            Class<?> rawType = getRawType(key);
+            return LazyCopies.wrap(rawType, ValueCopiers.resolve(rawType, rawType, key));
+        });
+        return (V) copier.copy(value);
+    }
+
+    /**
+     * <strong>Método que retorna uma cópia de apenas um nível do valor
+     * informado, para os campos anotados com
+     * {@link br.com.gregoryfeijon.objectfactoryutil.annotation.ShallowCopy
+     * ShallowCopy}.</strong>
+     *
+     * @param <V>   tipo do valor
+     * @param value - V
+     * @param type  - {@link Type} - tipo declarado, obtido pelo
+     *              {@link #fieldType(Class, String) fieldType}
+     * @return V
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    public static <V> V copyShallow(V value, Type type) throws ObjectFactoryUtilException {
+        return copy(value, type, CopyPolicy.SHALLOW, SHALLOW_COPIERS);
+    }
+
+    /**
+     * <strong>Método que retorna uma cópia completa do valor informado, nunca
+     * sob demanda, para os campos anotados com
+     * {@link br.com.gregoryfeijon.objectfactoryutil.annotation.DeepCopy
+     * DeepCopy}.</strong>
+     *
+     * @param <V>   tipo do valor
+     * @param value - V
+     * @param type  - {@link Type} - tipo declarado, obtido pelo
+     *              {@link #fieldType(Class, String) fieldType}
+     * @return V
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    public static <V> V copyDeep(V value, Type type) throws ObjectFactoryUtilException {
+        return copy(value, type, CopyPolicy.DEEP, DEEP_COPIERS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V copy(V value, Type type, CopyPolicy policy, ConcurrentMap<Type, ValueCopier> copiers)
+            throws ObjectFactoryUtilException {
+        if (value == null) {
+            return null;
+        }
+        ValueCopier copier = copiers.computeIfAbsent(type, key -> {
+            Class<?> rawType = getRawType(key);
+            return ValueCopiers.resolve(policy, rawType, rawType, key);
+        });
+        return (V) copier.copy(value);
+    }
+
+    /**
+     * <strong>Método que obtém o tipo genérico declarado de um campo da classe
+     * ou de suas super classes.</strong> Não altera a acessibilidade do campo.
+     *
+     * @param clazz     - {@link Class}&lt?&gt
+     * @param fieldName - {@link String}
+     * @return {@link Type}
+     */
+    public static Type fieldType(Class<?> clazz, String fieldName) {
+        for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.getName().equals(fieldName)) {
+                    return field.getGenericType();
+                }
+            }
+        }
+        throw new IllegalStateException("Campo " + fieldName + " não encontrado em " + clazz.getName());
+    }
+
+    private static Class<?> getRawType(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        return Object.class;
+    }
+}
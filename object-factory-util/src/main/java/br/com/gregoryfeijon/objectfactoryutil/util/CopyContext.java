@@ -0,0 +1,147 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import java.lang.reflect.Type;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Contexto de uma operação de cópia no modo
+ * {@link ObjectFactoryUtilConfig#isPreserveIdentity() de preservação de
+ * identidade}.</strong>
+ *
+ * <p>
+ * Mantém, por identidade, a cópia já criada para cada objeto de origem
+ * visitado durante a operação. Assim, cada instância de origem é copiada uma
+ * única vez: referências compartilhadas continuam compartilhadas no grafo
+ * copiado, e referências cíclicas apontam para as cópias, ao invés de
+ * provocarem recursão infinita.
+ * <p>
+ *
+ * <p>
+ * Cada cópia é registrada com o tipo em que foi criada, e só é reutilizada
+ * quando compatível com o tipo declarado no destino: a mesma instância de
+ * origem alcançada por campos de tipos diferentes (como um <i>BarA</i>
+ * copiado para um campo <i>BarA</i> e para outro <i>BarB</i>) gera uma cópia
+ * para cada tipo. Nas {@link java.util.Collection Collection}s e
+ * {@link Map}s, o tipo inclui os argumentos genéricos, já que eles definem a
+ * forma de cópia dos elementos.
+ * <p>
+ *
+ * <p>
+ * O contexto fica associado à thread durante a operação, para que seja
+ * compartilhado por todos os {@link CopyPlan}s, copiadores gerados e
+ * {@link ValueCopier}s envolvidos.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+final class CopyContext {
+
+    private static final ThreadLocal<CopyContext> CURRENT = new ThreadLocal<>();
+
+    private final Map<Object, Entry> copies = new IdentityHashMap<>();
+
+    private CopyContext() {
+    }
+
+    /**
+     * <strong>Método que abre o contexto da operação, caso o modo esteja
+     * habilitado e ainda não exista um contexto aberto na thread.</strong>
+     *
+     * @return {@link CopyContext} - o contexto aberto, que deve ser fechado
+     * por quem o abriu, ou null
+     */
+    static CopyContext open() {
+        if (!ObjectFactoryUtilConfig.isPreserveIdentity() || CURRENT.get() != null) {
+            return null;
+        }
+        CopyContext context = new CopyContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * <strong>Método que retorna o contexto aberto na thread, ou null, caso o
+     * modo não esteja habilitado.</strong>
+     *
+     * @return {@link CopyContext}
+     */
+    static CopyContext active() {
+        return ObjectFactoryUtilConfig.isPreserveIdentity() ? CURRENT.get() : null;
+    }
+
+    void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * <strong>Método que retorna a cópia já registrada de source compatível
+     * com o tipo informado, ou null, caso não exista.</strong>
+     *
+     * @param source - {@link Object}
+     * @param type   - {@link Type} - tipo declarado no destino
+     * @return {@link Object}
+     */
+    Object getCopy(Object source, Type type) {
+        for (Entry entry = copies.get(source); entry != null; entry = entry.next) {
+            if (entry.fits(type)) {
+                return entry.copy;
+            }
+        }
+        return null;
+    }
+
+    void putCopy(Object source, Object copy) {
+        putCopy(source, copy.getClass(), copy);
+    }
+
+    /**
+     * <strong>Método que registra a cópia de source criada para o tipo
+     * informado.</strong>
+     *
+     * @param source - {@link Object}
+     * @param type   - {@link Type} - tipo em que a cópia foi criada
+     * @param copy   - {@link Object}
+     */
+    void putCopy(Object source, Type type, Object copy) {
+        copies.put(source, new Entry(type, copy, copies.get(source)));
+    }
+
+    void removeCopy(Object source, Object copy) {
+        Entry first = copies.get(source);
+        Entry remaining = null;
+        for (Entry entry = first; entry != null; entry = entry.next) {
+            if (entry.copy != copy) {
+                remaining = new Entry(entry.type, entry.copy, remaining);
+            }
+        }
+        if (remaining == null) {
+            copies.remove(source);
+        } else {
+            copies.put(source, remaining);
+        }
+    }
+
+    /**
+     * <strong>Cópia registrada de um objeto de origem, encadeada com as cópias
+     * do mesmo objeto em outros tipos.</strong>
+     */
+    private static final class Entry {
+
+        private final Type type;
+        private final Object copy;
+        private final Entry next;
+
+        private Entry(Type type, Object copy, Entry next) {
+            this.type = type;
+            this.copy = copy;
+            this.next = next;
+        }
+
+        private boolean fits(Type declaredType) {
+            return declaredType.equals(type) || declaredType instanceof Class && ((Class<?>) declaredType).isInstance(copy);
+        }
+    }
+}
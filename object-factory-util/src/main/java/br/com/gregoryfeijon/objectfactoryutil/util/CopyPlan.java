@@ -0,0 +1,320 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.annotation.ObjectConstructor;
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Plano de cópia compilado para um par de classes (origem,
+ * destino).</strong>
+ *
+ * <p>
+ * Na primeira cópia de um par de classes, são resolvidos os campos de origem
+ * que serão copiados (descartando constantes, os campos definidos no
+ * {@link ObjectConstructor#exclude() exclude} da classe de destino e os
+ * anotados com {@link br.com.gregoryfeijon.objectfactoryutil.annotation.SkipCopy
+ * SkipCopy}), o campo de destino correspondente a cada um deles e o
+ * {@link ValueCopier} que fará a conversão do valor, conforme a
+ * {@link CopyPolicy} do par de campos. O resultado fica armazenado em cache, de forma que as
+ * cópias seguintes apenas percorrem um array pré-computado.
+ * <p>
+ *
+ * <p>
+ * A execução começa de forma interpretada, contando as cópias realizadas.
+ * Quando a quantidade de cópias atinge o
+ * {@link ObjectFactoryUtilConfig#getTieredThreshold() limite configurado}, o
+ * plano é compilado pelo {@link CopyPlanCompiler} e a versão compilada passa a
+ * ser utilizada, substituindo a interpretada de forma atômica. Assim, apenas
+ * os pares de classes mais utilizados pagam o custo da compilação.
+ * <p>
+ *
+ * <p>
+ * As instâncias podem ser compartilhadas entre threads.
+ * <p>
+ *
+ * @author gregory.feijon
+ * @see ObjectConstructor
+ */
+final class CopyPlan {
+
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, CopyPlan>> PLANS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, CopyPlan> SHALLOW_PLANS = new ConcurrentHashMap<>();
+    private static final Predicate<Field> PREDICATE_MODIFIERS = criaPredicateModifiers();
+
+    private final FieldMapping[] mappings;
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final AtomicBoolean compiling = new AtomicBoolean();
+    private volatile MethodHandle compiled;
+
+    private CopyPlan(FieldMapping[] mappings) {
+        this.mappings = mappings;
+    }
+
+    /**
+     * <strong>Método que retorna o plano de cópia do par de classes
+     * informado, compilando-o apenas na primeira chamada.</strong>
+     *
+     * @param sourceClass - {@link Class}&lt?&gt
+     * @param destClass   - {@link Class}&lt?&gt
+     * @return {@link CopyPlan}
+     */
+    static CopyPlan of(Class<?> sourceClass, Class<?> destClass) {
+        ConcurrentMap<Class<?>, CopyPlan> plans = PLANS.computeIfAbsent(sourceClass, key -> new ConcurrentHashMap<>());
+        CopyPlan plan = plans.get(destClass);
+        if (plan != null) {
+            return plan;
+        }
+        return plans.computeIfAbsent(destClass, key -> compile(sourceClass, destClass));
+    }
+
+    /**
+     * <strong>Método que executa a cópia dos valores de source para dest,
+     * seguindo os pares de campos pré-computados.</strong>
+     *
+     * @param source {@link Object}
+     * @param dest   {@link Object}
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    void execute(Object source, Object dest) throws ObjectFactoryUtilException {
+        MethodHandle handle = compiled;
+        if (handle != null) {
+            CopyPlanCompiler.invoke(handle, source, dest);
+            return;
+        }
+        countInvocation();
+        for (FieldMapping mapping : mappings) {
+            mapping.copy(source, dest);
+        }
+    }
+
+    /**
+     * <strong>Método que executa a cópia dos valores de source para dest,
+     * reaproveitando os objetos, coleções e arrays já presentes nos campos de
+     * dest.</strong>
+     *
+     * @param source {@link Object}
+     * @param dest   {@link Object}
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     * @see ValueCopier#copyInto(Object, Object)
+     */
+    void executeInto(Object source, Object dest) throws ObjectFactoryUtilException {
+        for (FieldMapping mapping : mappings) {
+            mapping.copyInto(source, dest);
+        }
+    }
+
+    private void countInvocation() {
+        int threshold = ObjectFactoryUtilConfig.getTieredThreshold();
+        if (threshold >= 0 && invocations.getAndIncrement() >= threshold && compiling.compareAndSet(false, true)) {
+            compiled = CopyPlanCompiler.compile(mappings);
+        }
+    }
+
+    /**
+     * <strong>Método que compila, sem armazenar em cache, o plano de cópia do
+     * par de classes informado, desconsiderando os campos de destino
+     * informados.</strong> Utilizado pelo {@link CreationPlan}, para os campos
+     * que não são preenchidos na criação do objeto.
+     *
+     * @param sourceClass    - {@link Class}&lt?&gt
+     * @param destClass      - {@link Class}&lt?&gt
+     * @param excludedFields - {@link Collection}&lt{@link String}&gt - nomes
+     *                       dos campos de destino, ignorando maiúsculas e
+     *                       minúsculas
+     * @return {@link CopyPlan}
+     */
+    static CopyPlan excluding(Class<?> sourceClass, Class<?> destClass, Collection<String> excludedFields) {
+        return excluding(sourceClass, destClass, excludedFields, Projection.ALL);
+    }
+
+    /**
+     * <strong>Mesma lógica do
+     * {@link #excluding(Class, Class, Collection) excluding}, considerando
+     * apenas os campos de destino que fazem parte da {@link Projection}
+     * informada.</strong>
+     *
+     * @param sourceClass    - {@link Class}&lt?&gt
+     * @param destClass      - {@link Class}&lt?&gt
+     * @param excludedFields - {@link Collection}&lt{@link String}&gt
+     * @param projection     - {@link Projection}
+     * @return {@link CopyPlan}
+     */
+    static CopyPlan excluding(Class<?> sourceClass, Class<?> destClass, Collection<String> excludedFields,
+                              Projection projection) {
+        return compile(sourceClass, destClass, destField -> projection.includes(destField.getName())
+                && excludedFields.stream().noneMatch(excludedField -> excludedField.equalsIgnoreCase(destField.getName())),
+                projection::copier);
+    }
+
+    /**
+     * <strong>Método que compila, sem armazenar em cache, o plano de cópia do
+     * par de classes informado apenas com os campos de destino que fazem parte
+     * da {@link Projection} informada.</strong> O cache fica a cargo da
+     * própria {@link Projection}.
+     *
+     * @param sourceClass - {@link Class}&lt?&gt
+     * @param destClass   - {@link Class}&lt?&gt
+     * @param projection  - {@link Projection}
+     * @return {@link CopyPlan}
+     */
+    static CopyPlan projected(Class<?> sourceClass, Class<?> destClass, Projection projection) {
+        return compile(sourceClass, destClass, destField -> projection.includes(destField.getName()), projection::copier);
+    }
+
+    /**
+     * <strong>Método que retorna o plano da cópia de apenas um nível da classe
+     * informada, em que os valores dos campos são compartilhados por
+     * referência, compilando-o apenas na primeira chamada.</strong>
+     *
+     * @param clazz - {@link Class}&lt?&gt
+     * @return {@link CopyPlan}
+     * @see CopyPolicy#SHALLOW
+     */
+    static CopyPlan shallow(Class<?> clazz) {
+        CopyPlan plan = SHALLOW_PLANS.get(clazz);
+        if (plan != null) {
+            return plan;
+        }
+        return SHALLOW_PLANS.computeIfAbsent(clazz, key -> compile(clazz, clazz, destField -> true,
+                (sourceField, destField) -> ValueCopiers.resolve(CopyPolicy.SHARE, sourceField.getType(),
+                        destField.getType(), destField.getGenericType())));
+    }
+
+    boolean isEmpty() {
+        return mappings.length == 0;
+    }
+
+    FieldMapping[] getMappings() {
+        return mappings.clone();
+    }
+
+    private static CopyPlan compile(Class<?> sourceClass, Class<?> destClass) {
+        return compile(sourceClass, destClass, destField -> true, ValueCopiers::resolve);
+    }
+
+    private static CopyPlan compile(Class<?> sourceClass, Class<?> destClass, Predicate<Field> destFilter,
+                                    BiFunction<Field, Field, ValueCopier> copiers) {
+        List<Field> destFields = getAllFields(destClass);
+        destFields.removeIf(destFilter.negate());
+        List<FieldMapping> mappings = new ArrayList<>();
+        for (Field sourceField : getFieldsToCopy(sourceClass, destClass)) {
+            destFields.stream()
+                    .filter(destField -> destField.getName().equalsIgnoreCase(sourceField.getName()))
+                    .findFirst()
+                    .filter(destField -> CopyPolicy.of(sourceField, destField) != CopyPolicy.SKIP)
+                    .ifPresent(destField -> mappings.add(new FieldMapping(sourceField, destField,
+                            copiers.apply(sourceField, destField))));
+        }
+        return new CopyPlan(mappings.toArray(new FieldMapping[0]));
+    }
+
+    /**
+     * <strong>Método que obtém todos os campos que deverão ser copiados da
+     * classe de origem.</strong>
+     *
+     * <p>
+     * Remove os campos <i>static final</i>, que não serão trabalhados, e, caso
+     * a classe de destino possua a annotation {@link ObjectConstructor}, também
+     * os campos definidos no seu {@link ObjectConstructor#exclude() exclude}.
+     * <p>
+     *
+     * @param sourceClass - {@link Class}&lt?&gt
+     * @param destClass   - {@link Class}&lt?&gt
+     * @return {@link List}&lt {@link Field} &gt
+     */
+    static List<Field> getFieldsToCopy(Class<?> sourceClass, Class<?> destClass) {
+        List<Field> sourceFields = getAllFields(sourceClass);
+        sourceFields.removeIf(PREDICATE_MODIFIERS);
+        String[] exclude = getExcludeFromAnnotation(destClass);
+        if (exclude.length > 0) {
+            sourceFields.removeIf(sourceField -> Arrays.stream(exclude)
+                    .anyMatch(excludeField -> excludeField.equalsIgnoreCase(sourceField.getName())));
+        }
+        return sourceFields;
+    }
+
+    /**
+     * <strong>Método que verifica a classe de destino. Se houver a annotation
+     * {@link ObjectConstructor}, retorna o exclude. Caso contrário, retorna um
+     * array vazio.</strong>
+     *
+     * @param destClass - {@link Class}&lt?&gt
+     * @return {@link String}[]
+     */
+    private static String[] getExcludeFromAnnotation(Class<?> destClass) {
+        ObjectConstructor objectConstructor = destClass.getAnnotation(ObjectConstructor.class);
+        if (objectConstructor != null) {
+            return objectConstructor.exclude();
+        }
+        return new String[0];
+    }
+
+    private static List<Field> getAllFields(Class<?> clazz) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+            fields.addAll(Arrays.asList(current.getDeclaredFields()));
+        }
+        return fields;
+    }
+
+    /**
+     * <strong>Método responsável por criar o predicate que verifica se o campo
+     * testado possui os modificadores <i>static</i> e <i>final</i>, que,
+     * normalmente, caracteriza uma constante, cujo valor não precisa ser
+     * copiado.</strong>
+     *
+     * @return {@link Predicate}&lt{@link Field}&gt
+     */
+    private static Predicate<Field> criaPredicateModifiers() {
+        return p -> Modifier.isStatic(p.getModifiers()) && Modifier.isFinal(p.getModifiers());
+    }
+
+    /**
+     * <strong>Par de campos (origem, destino) já resolvido, com o
+     * {@link ValueCopier} correspondente.</strong>
+     */
+    static final class FieldMapping {
+
+        private final FieldAccessor sourceAccessor;
+        private final FieldAccessor destAccessor;
+        private final ValueCopier copier;
+
+        private FieldMapping(Field sourceField, Field destField, ValueCopier copier) {
+            this.sourceAccessor = FieldAccessors.of(sourceField);
+            this.destAccessor = FieldAccessors.of(destField);
+            this.copier = copier;
+        }
+
+        private void copy(Object source, Object dest) throws ObjectFactoryUtilException {
+            destAccessor.set(dest, copier.copy(sourceAccessor.get(source)));
+        }
+
+        private void copyInto(Object source, Object dest) throws ObjectFactoryUtilException {
+            destAccessor.set(dest, copier.copyInto(sourceAccessor.get(source), destAccessor.get(dest)));
+        }
+
+        FieldAccessor getSourceAccessor() {
+            return sourceAccessor;
+        }
+
+        FieldAccessor getDestAccessor() {
+            return destAccessor;
+        }
+
+        ValueCopier getCopier() {
+            return copier;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Segundo nível (<i>tier</i>) de execução dos {@link CopyPlan}s: compila
+ * todos os pares de campos de um plano em um único {@link MethodHandle} com
+ * assinatura <i>(Object source, Object dest)void</i>.</strong>
+ *
+ * <p>
+ * Cada par de campos vira a composição
+ * <i>setter(dest, copier(getter(source)))</i>, e os pares são encadeados em
+ * sequência via {@link MethodHandles#foldArguments(MethodHandle, MethodHandle)
+ * foldArguments}. Após algumas execuções, a própria JVM especializa a árvore
+ * de {@link MethodHandle}s em bytecode linear, com os <i>handles</i> dos campos
+ * como constantes, obtendo o mesmo efeito de uma classe de cópia gerada em
+ * tempo de execução sem depender de APIs posteriores ao Java 11 ou de
+ * bibliotecas de manipulação de bytecode.
+ * <p>
+ *
+ * <p>
+ * As falhas na leitura e na escrita de cada campo são convertidas nas mesmas
+ * exceptions da execução interpretada, com o nome do campo, de forma que o
+ * mesmo erro é reportado da mesma forma antes e depois da compilação.
+ * <p>
+ *
+ * @author gregory.feijon
+ * @see ObjectFactoryUtilConfig#getTieredThreshold()
+ */
+final class CopyPlanCompiler {
+
+    private static final LoggerUtil LOGGER = LoggerUtil.getLog(CopyPlanCompiler.class);
+    private static final MethodType COPY_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodHandle COPIER_COPY;
+    private static final MethodHandle GETTER_FAILURE;
+    private static final MethodHandle SETTER_FAILURE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            COPIER_COPY = lookup.findVirtual(ValueCopier.class, "copy", MethodType.methodType(Object.class, Object.class));
+            GETTER_FAILURE = lookup.findStatic(CopyPlanCompiler.class, "getterFailure",
+                    MethodType.methodType(Object.class, Field.class, Throwable.class, Object.class));
+            SETTER_FAILURE = lookup.findStatic(CopyPlanCompiler.class, "setterFailure",
+                    MethodType.methodType(void.class, Field.class, Throwable.class, Object.class, Object.class));
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private CopyPlanCompiler() {
+    }
+
+    /**
+     * <strong>Método que compila os pares de campos informados em um único
+     * {@link MethodHandle}.</strong> Caso não seja possível compilar, retorna
+     * null e o plano continua sendo executado de forma interpretada.
+     *
+     * @param mappings - {@link CopyPlan.FieldMapping}[]
+     * @return {@link MethodHandle}
+     */
+    static MethodHandle compile(CopyPlan.FieldMapping[] mappings) {
+        try {
+            MethodHandle chain = MethodHandles.empty(COPY_TYPE);
+            for (int i = mappings.length - 1; i >= 0; i--) {
+                chain = MethodHandles.foldArguments(chain, compile(mappings[i]));
+            }
+            return chain;
+        } catch (RuntimeException ex) {
+            LOGGER.warning("Não foi possível compilar o plano de cópia: {0}", ex.getMessage());
+            return null;
+        }
+    }
+
+    private static MethodHandle compile(CopyPlan.FieldMapping mapping) {
+        FieldAccessor sourceAccessor = mapping.getSourceAccessor();
+        FieldAccessor destAccessor = mapping.getDestAccessor();
+        MethodHandle getter = guard(sourceAccessor.getterHandle(), GETTER_FAILURE, sourceAccessor.getField());
+        if (mapping.getCopier() != ValueCopier.IDENTITY) {
+            getter = MethodHandles.filterReturnValue(getter, COPIER_COPY.bindTo(mapping.getCopier()));
+        }
+        MethodHandle setter = guard(destAccessor.setterHandle(), SETTER_FAILURE, destAccessor.getField());
+        MethodHandle destThenSource = MethodHandles.filterArguments(setter, 1, getter);
+        return MethodHandles.permuteArguments(destThenSource, COPY_TYPE, 1, 0);
+    }
+
+    /**
+     * <strong>Envolve o acesso ao campo informado com o tratamento das suas
+     * falhas.</strong>
+     */
+    private static MethodHandle guard(MethodHandle access, MethodHandle failure, Field field) {
+        MethodHandle handler = MethodHandles.insertArguments(failure, 0, field)
+                .asType(access.type().insertParameterTypes(0, Throwable.class));
+        return MethodHandles.catchException(access, Throwable.class, handler);
+    }
+
+    private static Object getterFailure(Field field, Throwable ex, Object target) throws Throwable {
+        throw accessFailure(field, ex);
+    }
+
+    private static void setterFailure(Field field, Throwable ex, Object target, Object value) throws Throwable {
+        throw accessFailure(field, ex);
+    }
+
+    /**
+     * <strong>Converte a falha no acesso ao campo na mesma exception lançada
+     * pelo {@link FieldAccessor} na execução interpretada.</strong>
+     */
+    private static Throwable accessFailure(Field field, Throwable ex) {
+        if (ex instanceof ObjectFactoryUtilException || ex instanceof Error) {
+            return ex;
+        }
+        return FieldAccessors.getException(field, ex);
+    }
+
+    /**
+     * <strong>Método que executa o {@link MethodHandle} gerado pelo
+     * {@link #compile(CopyPlan.FieldMapping[]) compile}.</strong> Assim como
+     * na execução interpretada, as exceptions lançadas pelos
+     * {@link ValueCopier}s são propagadas sem alterações.
+     *
+     * @param handle - {@link MethodHandle}
+     * @param source - {@link Object}
+     * @param dest   - {@link Object}
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    static void invoke(MethodHandle handle, Object source, Object dest) throws ObjectFactoryUtilException {
+        try {
+            handle.invokeExact(source, dest);
+        } catch (ObjectFactoryUtilException | RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ObjectFactoryUtilException("Erro ao executar o plano de cópia compilado.", ex);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.annotation.DeepCopy;
+import br.com.gregoryfeijon.objectfactoryutil.annotation.ShallowCopy;
+import br.com.gregoryfeijon.objectfactoryutil.annotation.ShareReference;
+import br.com.gregoryfeijon.objectfactoryutil.annotation.SkipCopy;
+
+import java.lang.reflect.Field;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Forma de cópia de um campo, definida pelas annotations
+ * {@link SkipCopy}, {@link ShareReference}, {@link ShallowCopy} e
+ * {@link DeepCopy}.</strong>
+ *
+ * <p>
+ * A annotation do campo de destino prevalece sobre a do campo de origem. Caso
+ * um mesmo campo possua mais de uma delas, prevalece a que copia menos, na
+ * ordem em que estão declaradas neste enum. A forma de cópia é resolvida
+ * apenas uma vez, na compilação do {@link CopyPlan} e do
+ * {@link CreationPlan} de cada par de classes.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+enum CopyPolicy {
+
+    /**
+     * O campo não é copiado.
+     */
+    SKIP,
+
+    /**
+     * O destino recebe a mesma instância da origem.
+     */
+    SHARE,
+
+    /**
+     * Apenas o primeiro nível do valor é copiado.
+     */
+    SHALLOW,
+
+    /**
+     * O valor é copiado por completo, no momento da cópia.
+     */
+    DEEP,
+
+    /**
+     * Sem annotation: as regras padrão de cópia.
+     */
+    DEFAULT;
+
+    /**
+     * <strong>Método que resolve a forma de cópia de um par de campos.</strong>
+     *
+     * @param sourceField - {@link Field} - campo de origem, ou null
+     * @param destField   - {@link Field} - campo de destino, ou null
+     * @return {@link CopyPolicy}
+     */
+    static CopyPolicy of(Field sourceField, Field destField) {
+        CopyPolicy policy = destField != null ? of(destField) : DEFAULT;
+        return policy != DEFAULT || sourceField == null ? policy : of(sourceField);
+    }
+
+    /**
+     * <strong>Método que resolve a forma de cópia definida no campo
+     * informado.</strong>
+     *
+     * @param field - {@link Field}
+     * @return {@link CopyPolicy}
+     */
+    static CopyPolicy of(Field field) {
+        if (field.isAnnotationPresent(SkipCopy.class)) {
+            return SKIP;
+        }
+        if (field.isAnnotationPresent(ShareReference.class)) {
+            return SHARE;
+        }
+        if (field.isAnnotationPresent(ShallowCopy.class)) {
+            return SHALLOW;
+        }
+        if (field.isAnnotationPresent(DeepCopy.class)) {
+            return DEEP;
+        }
+        return DEFAULT;
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Estratégia utilizada na cópia dos objetos aninhados (atributos que
+ * não são primitivos, <i>wrappers</i>, {@link Enum}s ou coleções).</strong>
+ *
+ * @author gregory.feijon
+ * @see ObjectFactoryUtilConfig#getCopyStrategy()
+ */
+public enum CopyStrategy {
+
+    /**
+     * Percorre o grafo de objetos, instanciando cada objeto aninhado e
+     * copiando seus campos com os mesmos planos de cópia do objeto principal.
+     */
+    REFLECTION,
+
+    /**
+     * Copia os objetos aninhados serializando-os para JSON e desserializando
+     * com o {@link com.google.gson.Gson Gson} configurado na {@link GsonUtil}.
+     */
+    GSON
+}
@@ -0,0 +1,546 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.annotation.ObjectBuilder;
+import br.com.gregoryfeijon.objectfactoryutil.annotation.ObjectCreator;
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Plano de criação de objetos cujos valores são recebidos na própria
+ * criação, por construtor, método de fábrica ou <i>builder</i>, para um par de
+ * classes (origem, destino).</strong>
+ *
+ * <p>
+ * A forma de criar cada classe de destino é resolvida uma única vez, na
+ * seguinte ordem:
+ * <ul>
+ * <li>o construtor ou método estático anotado com {@link ObjectCreator};</li>
+ * <li>o <i>builder</i> definido pela {@link ObjectBuilder};</li>
+ * <li>o construtor canônico, no caso de <i>records</i>;</li>
+ * <li>o construtor com todos os campos da classe (como o gerado pelo
+ * <i>@Value</i> e <i>@AllArgsConstructor</i> do Lombok), apenas para classes
+ * sem construtor sem argumentos ou com campos <i>final</i>, e desde que os
+ * nomes dos parâmetros possam ser verificados: compilados com a opção
+ * <i>-parameters</i> ou informados pela <i>@ConstructorProperties</i> (gerada
+ * pelo Lombok com a opção <i>lombok.anyConstructor.addConstructorProperties</i>).
+ * Os parâmetros nunca são associados aos campos apenas pelos tipos, já que
+ * campos do mesmo tipo poderiam ser trocados.</li>
+ * </ul>
+ * Nos demais casos, não há plano de criação e as cópias são instanciadas pelos
+ * {@link Instantiators} e preenchidas pelo {@link CopyPlan}.
+ * <p>
+ *
+ * <p>
+ * Na primeira cópia de cada par de classes, cada parâmetro é associado ao
+ * campo de origem de mesmo nome (ignorando maiúsculas e minúsculas, e
+ * respeitando o {@link br.com.gregoryfeijon.objectfactoryutil.annotation.ObjectConstructor#exclude()
+ * exclude}) e ao {@link ValueCopier} da conversão do valor. Parâmetros sem
+ * campo correspondente recebem null (ou o valor padrão dos tipos primitivos)
+ * e, nos <i>builders</i>, não são atribuídos. A criação é feita por
+ * {@link MethodHandle}s resolvidos uma única vez, e os demais campos do
+ * destino, que não são recebidos na criação, são copiados em seguida pelo
+ * {@link CopyPlan}.
+ * <p>
+ *
+ * <p>
+ * Como cada objeto só é registrado no {@link CopyContext} após ser criado, a
+ * preservação de identidade não se aplica a referências cíclicas que passem
+ * por objetos criados dessa forma.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+final class CreationPlan {
+
+    private static final String ERROR_MESSAGE = "Erro ao criar instância da classe copiada na ObjectFactoryUtil.";
+    private static final String CONSTRUCTOR_PROPERTIES = "java.beans.ConstructorProperties";
+    private static final Object ABSENT = new Object();
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, CreationPlan>> PLANS = new ConcurrentHashMap<>();
+    private static final ClassValue<Optional<Creator>> CREATORS = new ClassValue<Optional<Creator>>() {
+        @Override
+        protected Optional<Creator> computeValue(Class<?> type) {
+            return Optional.ofNullable(resolveCreator(type));
+        }
+    };
+
+    private final Creator creator;
+    private final ParameterMapping[] mappings;
+    private final CopyPlan remaining;
+    private final boolean tracked;
+
+    private CreationPlan(Class<?> sourceClass, Creator creator, Projection projection) {
+        this.creator = creator;
+        this.tracked = projection.isFull();
+        Map<String, Field> sourceFields = new HashMap<>();
+        for (Field sourceField : CopyPlan.getFieldsToCopy(sourceClass, creator.type)) {
+            sourceFields.putIfAbsent(sourceField.getName().toLowerCase(Locale.ROOT), sourceField);
+        }
+        Map<String, Field> destFields = new HashMap<>();
+        for (Class<?> current = creator.type; current != null; current = current.getSuperclass()) {
+            for (Field destField : current.getDeclaredFields()) {
+                destFields.putIfAbsent(destField.getName().toLowerCase(Locale.ROOT), destField);
+            }
+        }
+        List<ParameterMapping> parameterMappings = new ArrayList<>();
+        for (int i = 0; i < creator.names.length; i++) {
+            String name = creator.names[i].toLowerCase(Locale.ROOT);
+            Field sourceField = sourceFields.get(name);
+            if (sourceField == null || !projection.includes(creator.names[i])) {
+                continue;
+            }
+            CopyPolicy policy = CopyPolicy.of(sourceField, destFields.get(name));
+            if (policy != CopyPolicy.SKIP) {
+                parameterMappings.add(new ParameterMapping(i, FieldAccessors.of(sourceField),
+                        projection.copier(creator.names[i], policy, sourceField.getType(), creator.types[i],
+                                creator.genericTypes[i])));
+            }
+        }
+        this.mappings = parameterMappings.toArray(new ParameterMapping[0]);
+        CopyPlan plan = CopyPlan.excluding(sourceClass, creator.type, Arrays.asList(creator.names), projection);
+        this.remaining = plan.isEmpty() ? null : plan;
+    }
+
+    /**
+     * <strong>Método que retorna o plano de criação do par de classes
+     * informado, resolvendo-o apenas na primeira chamada.</strong>
+     *
+     * @param sourceClass - {@link Class}&lt?&gt
+     * @param destClass   - {@link Class}&lt?&gt
+     * @return {@link CreationPlan} - ou null, se a classe de destino for
+     * instanciada e preenchida campo a campo
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando a
+     *                                    forma de criação anotada for inválida
+     */
+    static CreationPlan of(Class<?> sourceClass, Class<?> destClass) throws ObjectFactoryUtilException {
+        Creator creator = creatorOf(destClass);
+        if (creator == null) {
+            return null;
+        }
+        ConcurrentMap<Class<?>, CreationPlan> plans = PLANS.computeIfAbsent(sourceClass, key -> new ConcurrentHashMap<>());
+        CreationPlan plan = plans.get(destClass);
+        if (plan != null) {
+            return plan;
+        }
+        return plans.computeIfAbsent(destClass, key -> new CreationPlan(sourceClass, creator, Projection.ALL));
+    }
+
+    /**
+     * <strong>Método que resolve, sem armazenar em cache, o plano de criação
+     * do par de classes informado apenas com os campos que fazem parte da
+     * {@link Projection} informada.</strong> Os parâmetros fora da projeção
+     * recebem null (ou o valor padrão dos tipos primitivos), e o objeto criado
+     * não é registrado no {@link CopyContext}, já que não é uma cópia
+     * completa da origem.
+     *
+     * @param sourceClass - {@link Class}&lt?&gt
+     * @param destClass   - {@link Class}&lt?&gt
+     * @param projection  - {@link Projection}
+     * @return {@link CreationPlan} - ou null, se a classe de destino for
+     * instanciada e preenchida campo a campo
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando a
+     *                                    forma de criação anotada for inválida
+     */
+    static CreationPlan projected(Class<?> sourceClass, Class<?> destClass, Projection projection)
+            throws ObjectFactoryUtilException {
+        Creator creator = creatorOf(destClass);
+        if (creator == null) {
+            return null;
+        }
+        return new CreationPlan(sourceClass, creator, projection);
+    }
+
+    /**
+     * <strong>Retorna a forma de criar a classe informada, lançando o erro da
+     * sua resolução, caso ela seja inválida.</strong>
+     */
+    private static Creator creatorOf(Class<?> destClass) throws ObjectFactoryUtilException {
+        Creator creator = CREATORS.get(destClass).orElse(null);
+        if (creator instanceof FailedCreator) {
+            throw ((FailedCreator) creator).failure();
+        }
+        return creator;
+    }
+
+    /**
+     * <strong>Método que verifica se as cópias para a classe informada são
+     * criadas por um plano de criação, ao invés de instanciadas e preenchidas
+     * campo a campo.</strong>
+     *
+     * @param destClass - {@link Class}&lt?&gt
+     * @return boolean
+     */
+    static boolean hasCreator(Class<?> destClass) {
+        return CREATORS.get(destClass).isPresent();
+    }
+
+    /**
+     * <strong>Método que cria a cópia de source, registrando-a no
+     * {@link CopyContext} ativo.</strong>
+     *
+     * @param source - {@link Object}
+     * @return {@link Object}
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    Object create(Object source) throws ObjectFactoryUtilException {
+        Object[] args = creator.arguments();
+        for (ParameterMapping mapping : mappings) {
+            args[mapping.index] = mapping.copier.copy(mapping.sourceAccessor.get(source));
+        }
+        Object dest;
+        try {
+            dest = creator.create(args);
+        } catch (ObjectFactoryUtilException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ObjectFactoryUtilException(ERROR_MESSAGE, ex);
+        }
+        CopyContext context = tracked ? CopyContext.active() : null;
+        if (context != null) {
+            context.putCopy(source, dest);
+        }
+        if (remaining != null) {
+            remaining.execute(source, dest);
+        }
+        return dest;
+    }
+
+    private static Creator resolveCreator(Class<?> type) {
+        if (type.isInterface() || type.isArray() || type.isPrimitive() || type.isEnum()
+                || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        try {
+            Creator annotated = findAnnotatedCreator(type);
+            if (annotated != null) {
+                return annotated;
+            }
+            ObjectBuilder objectBuilder = type.getAnnotation(ObjectBuilder.class);
+            if (objectBuilder != null) {
+                return BuilderCreator.resolve(type, objectBuilder);
+            }
+            if (isRecord(type)) {
+                return findRecordCreator(type);
+            }
+            return findAllArgsCreator(type);
+        } catch (ReflectiveOperationException | IllegalArgumentException ex) {
+            return new FailedCreator(type, "Não foi possível resolver a forma de criar a classe " + type.getName() + ": " + ex);
+        }
+    }
+
+    private static Creator findAnnotatedCreator(Class<?> type) throws ReflectiveOperationException {
+        List<Executable> executables = new ArrayList<>(Arrays.asList(type.getDeclaredConstructors()));
+        executables.addAll(Arrays.asList(type.getDeclaredMethods()));
+        for (Executable executable : executables) {
+            ObjectCreator objectCreator = executable.getAnnotation(ObjectCreator.class);
+            if (objectCreator == null) {
+                continue;
+            }
+            if (executable instanceof Method && (!Modifier.isStatic(executable.getModifiers())
+                    || !type.isAssignableFrom(((Method) executable).getReturnType()))) {
+                return new FailedCreator(type, "O método " + executable.getName() + " anotado com @ObjectCreator deve ser "
+                        + "estático e retornar a classe " + type.getName() + ".");
+            }
+            String[] names = getParameterNames(executable, objectCreator.value());
+            if (names == null) {
+                return new FailedCreator(type, "Não foi possível identificar os campos correspondentes aos parâmetros do "
+                        + "@ObjectCreator da classe " + type.getName() + ". Compile com a opção -parameters ou "
+                        + "informe-os no value da annotation.");
+            }
+            return new ExecutableCreator(type, executable, names);
+        }
+        return null;
+    }
+
+    private static String[] getParameterNames(Executable executable, String[] declaredNames) {
+        if (declaredNames.length > 0) {
+            return declaredNames.length == executable.getParameterCount() ? declaredNames : null;
+        }
+        return getVerifiedNames(executable);
+    }
+
+    /**
+     * <strong>Obtém os nomes dos parâmetros compilados com a opção
+     * <i>-parameters</i> ou, na falta deles, os da
+     * <i>java.beans.ConstructorProperties</i>, buscada pelo nome para não
+     * depender do módulo <i>java.desktop</i>.</strong> Retorna null quando os
+     * nomes não estiverem disponíveis.
+     */
+    private static String[] getVerifiedNames(Executable executable) {
+        Parameter[] parameters = executable.getParameters();
+        if (Arrays.stream(parameters).allMatch(Parameter::isNamePresent)) {
+            return Arrays.stream(parameters).map(Parameter::getName).toArray(String[]::new);
+        }
+        for (Annotation annotation : executable.getDeclaredAnnotations()) {
+            if (CONSTRUCTOR_PROPERTIES.equals(annotation.annotationType().getName())) {
+                try {
+                    String[] names = (String[]) annotation.annotationType().getMethod("value").invoke(annotation);
+                    return names.length == parameters.length ? names : null;
+                } catch (ReflectiveOperationException ex) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isRecord(Class<?> type) {
+        Class<?> superclass = type.getSuperclass();
+        return superclass != null && "java.lang.Record".equals(superclass.getName());
+    }
+
+    /**
+     * <strong>Obtém o construtor canônico do <i>record</i> pelos seus
+     * componentes, via reflexão, para manter a compatibilidade com o Java
+     * 11.</strong>
+     */
+    private static Creator findRecordCreator(Class<?> type) throws ReflectiveOperationException {
+        Object[] components = (Object[]) Class.class.getMethod("getRecordComponents").invoke(type);
+        String[] names = new String[components.length];
+        Class<?>[] types = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            Class<?> componentClass = components[i].getClass();
+            names[i] = (String) componentClass.getMethod("getName").invoke(components[i]);
+            types[i] = (Class<?>) componentClass.getMethod("getType").invoke(components[i]);
+        }
+        return new ExecutableCreator(type, type.getDeclaredConstructor(types), names);
+    }
+
+    private static Creator findAllArgsCreator(Class<?> type) throws ReflectiveOperationException {
+        List<Field> fields = getInstanceFields(type);
+        boolean hasFinalFields = fields.stream().anyMatch(field -> Modifier.isFinal(field.getModifiers()));
+        if (!hasFinalFields && hasNoArgsConstructor(type)) {
+            return null;
+        }
+        Map<String, Class<?>> fieldTypes = new HashMap<>();
+        for (Field field : fields) {
+            fieldTypes.put(field.getName(), field.getType());
+        }
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.isSynthetic() || constructor.getParameterCount() != fields.size()) {
+                continue;
+            }
+            String[] names = getVerifiedNames(constructor);
+            if (names != null && matchesFields(names, constructor.getParameterTypes(), fieldTypes)) {
+                return new ExecutableCreator(type, constructor, names);
+            }
+        }
+        return null;
+    }
+
+    private static boolean matchesFields(String[] names, Class<?>[] types, Map<String, Class<?>> fieldTypes) {
+        if (new HashSet<>(Arrays.asList(names)).size() != fieldTypes.size()) {
+            return false;
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (fieldTypes.get(names[i]) != types[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasNoArgsConstructor(Class<?> type) {
+        return Arrays.stream(type.getDeclaredConstructors()).anyMatch(constructor -> constructor.getParameterCount() == 0);
+    }
+
+    private static List<Field> getInstanceFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private static MethodHandles.Lookup lookupIn(Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException ex) {
+            return MethodHandles.lookup();
+        }
+    }
+
+    private static MethodHandle unreflect(Executable executable) throws IllegalAccessException {
+        MethodHandles.Lookup lookup = lookupIn(executable.getDeclaringClass());
+        if (lookup.lookupClass() != executable.getDeclaringClass()) {
+            executable.trySetAccessible();
+        }
+        MethodHandle handle = executable instanceof Constructor
+                ? lookup.unreflectConstructor((Constructor<?>) executable)
+                : lookup.unreflect((Method) executable);
+        return handle.asFixedArity();
+    }
+
+    /**
+     * <strong>Forma de criar uma classe de destino, com os nomes e tipos dos
+     * valores recebidos na criação.</strong>
+     */
+    private abstract static class Creator {
+
+        final Class<?> type;
+        final String[] names;
+        final Class<?>[] types;
+        final Type[] genericTypes;
+
+        Creator(Class<?> type, String[] names, Class<?>[] types, Type[] genericTypes) {
+            this.type = type;
+            this.names = names;
+            this.types = types;
+            this.genericTypes = genericTypes;
+        }
+
+        Object[] arguments() {
+            return new Object[names.length];
+        }
+
+        abstract Object create(Object[] args) throws Throwable;
+    }
+
+    /**
+     * <strong>Forma de criação inválida, como um {@link ObjectCreator} cujos
+     * parâmetros não podem ser associados aos campos, mantida para que o erro
+     * seja lançado a cada tentativa de cópia para a classe.</strong>
+     */
+    private static final class FailedCreator extends Creator {
+
+        private final String message;
+
+        private FailedCreator(Class<?> type, String message) {
+            super(type, new String[0], new Class<?>[0], new Type[0]);
+            this.message = message;
+        }
+
+        private ObjectFactoryUtilException failure() {
+            return new ObjectFactoryUtilException(message);
+        }
+
+        @Override
+        Object create(Object[] args) throws ObjectFactoryUtilException {
+            throw failure();
+        }
+    }
+
+    /**
+     * <strong>Criação por construtor ou método estático de fábrica.</strong>
+     */
+    private static final class ExecutableCreator extends Creator {
+
+        private final Object[] defaults;
+        private final MethodHandle handle;
+
+        private ExecutableCreator(Class<?> type, Executable executable, String[] names) throws IllegalAccessException {
+            super(type, names, executable.getParameterTypes(), executable.getGenericParameterTypes());
+            this.defaults = new Object[names.length];
+            for (int i = 0; i < names.length; i++) {
+                defaults[i] = ReflectionUtil.defaultValueFor(types[i]);
+            }
+            this.handle = unreflect(executable)
+                    .asType(MethodType.genericMethodType(names.length))
+                    .asSpreader(Object[].class, names.length);
+        }
+
+        @Override
+        Object[] arguments() {
+            return defaults.clone();
+        }
+
+        @Override
+        Object create(Object[] args) throws Throwable {
+            return (Object) handle.invokeExact(args);
+        }
+    }
+
+    /**
+     * <strong>Criação pelo <i>builder</i> da classe.</strong>
+     */
+    private static final class BuilderCreator extends Creator {
+
+        private static final MethodType SETTER_TYPE = MethodType.methodType(Object.class, Object.class, Object.class);
+
+        private final MethodHandle builder;
+        private final MethodHandle[] setters;
+        private final MethodHandle build;
+
+        private BuilderCreator(Class<?> type, List<Method> setterMethods, MethodHandle builder, MethodHandle[] setters,
+                               MethodHandle build) {
+            super(type, setterMethods.stream().map(Method::getName).toArray(String[]::new),
+                    setterMethods.stream().map(method -> method.getParameterTypes()[0]).toArray(Class<?>[]::new),
+                    setterMethods.stream().map(method -> method.getGenericParameterTypes()[0]).toArray(Type[]::new));
+            this.builder = builder;
+            this.setters = setters;
+            this.build = build;
+        }
+
+        private static Creator resolve(Class<?> type, ObjectBuilder objectBuilder) throws ReflectiveOperationException {
+            Method builderMethod = type.getDeclaredMethod(objectBuilder.builderMethod());
+            Class<?> builderClass = builderMethod.getReturnType();
+            Method buildMethod = builderClass.getMethod(objectBuilder.buildMethod());
+            Map<String, Method> setterMethods = new LinkedHashMap<>();
+            for (Method method : builderClass.getMethods()) {
+                boolean chained = method.getReturnType() == builderClass || method.getReturnType() == void.class;
+                if (!Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 1 && chained
+                        && method.getDeclaringClass() != Object.class) {
+                    setterMethods.putIfAbsent(method.getName().toLowerCase(Locale.ROOT), method);
+                }
+            }
+            List<Method> methods = new ArrayList<>(setterMethods.values());
+            MethodHandle[] setters = new MethodHandle[methods.size()];
+            for (int i = 0; i < setters.length; i++) {
+                setters[i] = unreflect(methods.get(i)).asType(SETTER_TYPE);
+            }
+            return new BuilderCreator(type, methods,
+                    unreflect(builderMethod).asType(MethodType.methodType(Object.class)),
+                    setters,
+                    unreflect(buildMethod).asType(MethodType.methodType(Object.class, Object.class)));
+        }
+
+        @Override
+        Object[] arguments() {
+            Object[] args = new Object[names.length];
+            Arrays.fill(args, ABSENT);
+            return args;
+        }
+
+        @Override
+        Object create(Object[] args) throws Throwable {
+            Object instance = (Object) builder.invokeExact();
+            for (int i = 0; i < args.length; i++) {
+                if (args[i] != ABSENT) {
+                    Object next = (Object) setters[i].invokeExact(instance, args[i]);
+                    instance = next != null ? next : instance;
+                }
+            }
+            return (Object) build.invokeExact(instance);
+        }
+    }
+
+    private static final class ParameterMapping {
+
+        private final int index;
+        private final FieldAccessor sourceAccessor;
+        private final ValueCopier copier;
+
+        private ParameterMapping(int index, FieldAccessor sourceAccessor, ValueCopier copier) {
+            this.index = index;
+            this.sourceAccessor = sourceAccessor;
+            this.copier = copier;
+        }
+    }
+}
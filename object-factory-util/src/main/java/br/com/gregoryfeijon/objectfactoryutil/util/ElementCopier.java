@@ -0,0 +1,202 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+
+import java.util.function.Supplier;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Função de cópia dos elementos de uma coleção ou
+ * {@link java.util.stream.Stream Stream}, criando uma nova instância (ou
+ * reaproveitando uma do {@link ObjectPool}) para cada elemento.</strong>
+ *
+ * <p>
+ * A forma de instanciar a classe de retorno ({@link Instantiators}) e a forma de copiar os campos (o
+ * {@link ObjectCopier} gerado ou o {@link CopyPlan} do par de classes) são
+ * resolvidos uma única vez por classe de origem e mantidos em cache, de forma
+ * que a cópia de cada elemento não repete nenhuma busca. As instâncias podem
+ * ser compartilhadas entre threads. Classes com {@link CreationPlan plano de
+ * criação}, como <i>records</i>, recebem os valores na própria criação e nunca
+ * são obtidas do {@link ObjectPool}.
+ * <p>
+ *
+ * <p>
+ * No modo de {@link ObjectFactoryUtilConfig#isPreserveIdentity() preservação
+ * de identidade}, cada elemento é copiado no {@link CopyContext} já aberto
+ * pela operação, como o do {@link BulkCopier}, de forma que as instâncias
+ * compartilhadas entre os elementos (e os próprios elementos repetidos)
+ * continuam compartilhadas nas cópias. Sem um contexto aberto, como nos
+ * {@link java.util.stream.Stream Stream}s, copiados sob demanda, cada
+ * elemento abre o seu. As cópias obtidas de um {@link ObjectPool} nunca são
+ * reaproveitadas entre elementos, já que cada uma é devolvida ao pool
+ * separadamente.
+ * <p>
+ *
+ * @param <S> tipo dos objetos copiados
+ * @param <T> tipo dos objetos retornados
+ * @author gregory.feijon
+ */
+final class ElementCopier<S, T> implements LambdaExceptionUtil.FunctionWithException<S, T, ObjectFactoryUtilException> {
+
+    private final Class<T> returnType;
+    private final ObjectPool<T> pool;
+    private final Projection projection;
+    private volatile Binding last;
+
+    private ElementCopier(Class<T> returnType, ObjectPool<T> pool, Projection projection) {
+        this.returnType = returnType;
+        this.pool = pool;
+        this.projection = projection;
+    }
+
+    /**
+     * <strong>Cria a função que copia cada elemento para uma nova instância da
+     * sua própria classe.</strong>
+     *
+     * @param <T> tipo dos objetos copiados e retornados
+     * @return {@link ElementCopier}&ltT, T&gt
+     */
+    static <T> ElementCopier<T, T> sameType() {
+        return new ElementCopier<>(null, null, Projection.ALL);
+    }
+
+    /**
+     * <strong>Cria a função que copia cada elemento para uma nova instância da
+     * classe informada.</strong>
+     *
+     * @param <S>        tipo dos objetos copiados
+     * @param <T>        tipo dos objetos retornados
+     * @param returnType - {@link Class}&ltT&gt
+     * @return {@link ElementCopier}&ltS, T&gt
+     */
+    static <S, T> ElementCopier<S, T> to(Class<T> returnType) {
+        return new ElementCopier<>(returnType, null, Projection.ALL);
+    }
+
+    /**
+     * <strong>Cria a função que copia cada elemento para uma instância da
+     * classe informada, obtida do {@link ObjectPool} quando houver, no modo
+     * {@link ObjectFactoryUtil#copyInto(Object, Object) copyInto}.</strong>
+     *
+     * @param <S>        tipo dos objetos copiados
+     * @param <T>        tipo dos objetos retornados
+     * @param returnType - {@link Class}&ltT&gt
+     * @param pool       - {@link ObjectPool}&ltT&gt
+     * @return {@link ElementCopier}&ltS, T&gt
+     */
+    static <S, T> ElementCopier<S, T> pooled(Class<T> returnType, ObjectPool<T> pool) {
+        return new ElementCopier<>(returnType, pool, Projection.ALL);
+    }
+
+    /**
+     * <strong>Cria a função que copia cada elemento para uma nova instância da
+     * classe informada (ou da sua própria classe, caso seja null), apenas com
+     * os campos da {@link Projection} informada.</strong> As cópias não são
+     * registradas no {@link CopyContext}, já que não são cópias completas da
+     * origem.
+     *
+     * @param <S>        tipo dos objetos copiados
+     * @param <T>        tipo dos objetos retornados
+     * @param returnType - {@link Class}&ltT&gt
+     * @param projection - {@link Projection}
+     * @return {@link ElementCopier}&ltS, T&gt
+     */
+    static <S, T> ElementCopier<S, T> projected(Class<T> returnType, Projection projection) {
+        return new ElementCopier<>(returnType, null, projection);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T apply(S source) throws ObjectFactoryUtilException {
+        if (source == null) {
+            throw new ObjectFactoryUtilException("O objeto a ser copiado é nulo!");
+        }
+        CopyContext active = pool == null && projection.isFull() ? CopyContext.active() : null;
+        if (active != null) {
+            Object existing = active.getCopy(source, returnType != null ? returnType : source.getClass());
+            if (existing != null) {
+                return (T) existing;
+            }
+        }
+        Binding binding = last;
+        if (binding == null || binding.sourceClass != source.getClass()) {
+            binding = bind(source.getClass());
+            last = binding;
+        }
+        if (binding.creation != null) {
+            return (T) create(binding.creation, source);
+        }
+        Object dest = pool != null ? pool.acquire() : null;
+        boolean reused = dest != null;
+        if (!reused) {
+            dest = Instantiators.newInstance(binding.instantiator);
+        }
+        CopyContext context = CopyContext.open();
+        try {
+            CopyContext current = projection.isFull() ? CopyContext.active() : null;
+            if (current != null) {
+                current.putCopy(source, dest);
+            }
+            if (reused) {
+                ObjectGraphCopier.copyPropertiesInto(source, dest);
+            } else {
+                binding.copier.copy(source, dest);
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        return (T) dest;
+    }
+
+    private Binding bind(Class<?> sourceClass) throws ObjectFactoryUtilException {
+        Class<?> destClass = returnType != null ? returnType : sourceClass;
+        if (!projection.isFull()) {
+            CreationPlan creation = projection.creationPlan(sourceClass, destClass);
+            if (creation != null) {
+                return new Binding(sourceClass, creation);
+            }
+            return new Binding(sourceClass, Instantiators.of(destClass), projection.copyPlan(sourceClass, destClass)::execute);
+        }
+        CreationPlan creation = CreationPlan.of(sourceClass, destClass);
+        if (creation != null) {
+            return new Binding(sourceClass, creation);
+        }
+        return new Binding(sourceClass, Instantiators.of(destClass), ObjectGraphCopier.propertiesCopier(sourceClass, destClass));
+    }
+
+    private static Object create(CreationPlan creation, Object source) throws ObjectFactoryUtilException {
+        CopyContext context = CopyContext.open();
+        try {
+            return creation.create(source);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static final class Binding {
+
+        private final Class<?> sourceClass;
+        private final Supplier<?> instantiator;
+        private final ObjectGraphCopier.PropertiesCopier copier;
+        private final CreationPlan creation;
+
+        private Binding(Class<?> sourceClass, Supplier<?> instantiator, ObjectGraphCopier.PropertiesCopier copier) {
+            this.sourceClass = sourceClass;
+            this.instantiator = instantiator;
+            this.copier = copier;
+            this.creation = null;
+        }
+
+        private Binding(Class<?> sourceClass, CreationPlan creation) {
+            this.sourceClass = sourceClass;
+            this.instantiator = null;
+            this.copier = null;
+            this.creation = creation;
+        }
+    }
+}
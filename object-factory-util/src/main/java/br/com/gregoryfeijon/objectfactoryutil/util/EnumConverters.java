@@ -0,0 +1,149 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.annotation.CaseInsensitiveEnum;
+import br.com.gregoryfeijon.objectfactoryutil.annotation.EnumAlias;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Índices de conversão para {@link Enum}s, construídos uma única vez
+ * por classe e mantidos em cache.</strong>
+ *
+ * <p>
+ * Para cada {@link Enum} de destino é mantido um índice do texto
+ * ({@link Enum#toString()}) de cada constante para a própria constante,
+ * incluindo os nomes definidos via {@link EnumAlias} e, quando o {@link Enum}
+ * estiver anotado com {@link CaseInsensitiveEnum}, também as versões em
+ * minúsculas. Para cada par de {@link Enum}s (origem, destino), é mantida uma
+ * tabela que associa o <i>ordinal</i> de cada constante de origem à constante
+ * equivalente no destino, de forma que a conversão de um valor é apenas um
+ * acesso a array.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+final class EnumConverters {
+
+    private static final ClassValue<EnumLookup> LOOKUPS = new ClassValue<EnumLookup>() {
+        @Override
+        protected EnumLookup computeValue(Class<?> type) {
+            return new EnumLookup(type);
+        }
+    };
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Object[]>> TRANSLATIONS = new ConcurrentHashMap<>();
+
+    private EnumConverters() {
+    }
+
+    /**
+     * <strong>Método que retorna o índice de busca das constantes do
+     * {@link Enum} informado.</strong>
+     *
+     * @param enumType - {@link Class}&lt?&gt
+     * @return {@link EnumLookup}
+     */
+    static EnumLookup lookup(Class<?> enumType) {
+        return LOOKUPS.get(enumType);
+    }
+
+    /**
+     * <strong>Método que retorna a tabela de conversão entre os {@link Enum}s
+     * informados, indexada pelo <i>ordinal</i> das constantes de
+     * origem.</strong> Constantes sem equivalente no destino são associadas a
+     * null.
+     *
+     * @param sourceType - {@link Class}&lt?&gt
+     * @param destType   - {@link Class}&lt?&gt
+     * @return {@link Object}[]
+     */
+    static Object[] translation(Class<?> sourceType, Class<?> destType) {
+        ConcurrentMap<Class<?>, Object[]> translations = TRANSLATIONS.computeIfAbsent(sourceType, key -> new ConcurrentHashMap<>());
+        Object[] table = translations.get(destType);
+        if (table != null) {
+            return table;
+        }
+        return translations.computeIfAbsent(destType, key -> criaTranslation(sourceType, destType));
+    }
+
+    private static Object[] criaTranslation(Class<?> sourceType, Class<?> destType) {
+        EnumLookup destLookup = lookup(destType);
+        Object[] sourceConstants = sourceType.getEnumConstants();
+        Object[] table = new Object[sourceConstants.length];
+        for (Object constant : sourceConstants) {
+            Object equivalent = destLookup.find(constant.toString());
+            if (equivalent == null) {
+                for (String alias : getAliases((Enum<?>) constant)) {
+                    equivalent = destLookup.find(alias);
+                    if (equivalent != null) {
+                        break;
+                    }
+                }
+            }
+            table[((Enum<?>) constant).ordinal()] = equivalent;
+        }
+        return table;
+    }
+
+    private static String[] getAliases(Enum<?> constant) {
+        try {
+            EnumAlias alias = constant.getDeclaringClass().getField(constant.name()).getAnnotation(EnumAlias.class);
+            return alias != null ? alias.value() : new String[0];
+        } catch (NoSuchFieldException ex) {
+            return new String[0];
+        }
+    }
+
+    /**
+     * <strong>Índice de busca das constantes de um {@link Enum} pelo seu
+     * texto.</strong>
+     */
+    static final class EnumLookup {
+
+        private final Map<String, Object> constants = new HashMap<>();
+        private final Map<String, Object> lowerCaseConstants;
+
+        private EnumLookup(Class<?> enumType) {
+            boolean ignoreCase = enumType.isAnnotationPresent(CaseInsensitiveEnum.class);
+            this.lowerCaseConstants = ignoreCase ? new HashMap<>() : null;
+            for (Object constant : enumType.getEnumConstants()) {
+                register(constant.toString(), constant);
+            }
+            for (Object constant : enumType.getEnumConstants()) {
+                for (String alias : getAliases((Enum<?>) constant)) {
+                    register(alias, constant);
+                }
+            }
+        }
+
+        private void register(String name, Object constant) {
+            constants.putIfAbsent(name, constant);
+            if (lowerCaseConstants != null) {
+                lowerCaseConstants.putIfAbsent(name.toLowerCase(Locale.ROOT), constant);
+            }
+        }
+
+        /**
+         * <strong>Método que retorna a constante equivalente ao texto
+         * informado.</strong>
+         *
+         * @param name - {@link Object}
+         * @return {@link Object} - a constante, ou null se não houver
+         */
+        Object find(Object name) {
+            if (name == null) {
+                return null;
+            }
+            Object constant = constants.get(name);
+            if (constant == null && lowerCaseConstants != null) {
+                constant = lowerCaseConstants.get(name.toString().toLowerCase(Locale.ROOT));
+            }
+            return constant;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Acesso de leitura e escrita a um {@link Field}, resolvido uma única
+ * vez através da {@link FieldAccessors}.</strong>
+ *
+ * @author gregory.feijon
+ */
+interface FieldAccessor {
+
+    Field getField();
+
+    Object get(Object target) throws ObjectFactoryUtilException;
+
+    void set(Object target, Object value) throws ObjectFactoryUtilException;
+
+    /**
+     * <strong>{@link MethodHandle} equivalente ao {@link #get(Object)}, com
+     * assinatura <i>(Object)Object</i>.</strong>
+     *
+     * @return {@link MethodHandle}
+     */
+    MethodHandle getterHandle();
+
+    /**
+     * <strong>{@link MethodHandle} equivalente ao
+     * {@link #set(Object, Object)}, com assinatura
+     * <i>(Object, Object)void</i>.</strong>
+     *
+     * @return {@link MethodHandle}
+     */
+    MethodHandle setterHandle();
+}
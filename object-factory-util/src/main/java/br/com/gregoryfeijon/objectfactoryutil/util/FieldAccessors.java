@@ -0,0 +1,233 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Fábrica e cache dos {@link FieldAccessor}.</strong>
+ *
+ * <p>
+ * Cada {@link Field} é resolvido uma única vez em um {@link VarHandle}, obtido
+ * através de um {@link MethodHandles#privateLookupIn(Class, MethodHandles.Lookup)
+ * privateLookupIn} na classe que declara o campo. Os modos de acesso
+ * <i>get</i> e <i>set</i> são convertidos em {@link MethodHandle}s com
+ * assinatura genérica, invocados via <i>invokeExact</i>, evitando o
+ * {@link Field#get(Object)}/{@link Field#set(Object, Object)} e a verificação
+ * de acesso a cada chamada.
+ * <p>
+ *
+ * <p>
+ * Campos estáticos, campos <i>final</i> (que não podem ser escritos via
+ * {@link VarHandle}) e campos de classes cujo módulo não está aberto para
+ * esta biblioteca utilizam o acesso via reflexão como alternativa.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+final class FieldAccessors {
+
+    private static final ConcurrentMap<Field, FieldAccessor> ACCESSORS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<String, Optional<FieldAccessor>>> ACCESSORS_BY_NAME =
+            new ConcurrentHashMap<>();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodHandle ACCESSOR_GET;
+    private static final MethodHandle ACCESSOR_SET;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            ACCESSOR_GET = lookup.findVirtual(FieldAccessor.class, "get", GETTER_TYPE);
+            ACCESSOR_SET = lookup.findVirtual(FieldAccessor.class, "set", SETTER_TYPE);
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private FieldAccessors() {
+    }
+
+    /**
+     * <strong>Método que retorna o {@link FieldAccessor} do campo informado,
+     * resolvendo-o apenas na primeira chamada.</strong>
+     *
+     * @param field - {@link Field}
+     * @return {@link FieldAccessor}
+     */
+    static FieldAccessor of(Field field) {
+        return ACCESSORS.computeIfAbsent(field, FieldAccessors::create);
+    }
+
+    /**
+     * <strong>Método que retorna o {@link FieldAccessor} do campo de nome
+     * informado (ignorando maiúsculas e minúsculas) na classe ou em suas
+     * super classes.</strong>
+     *
+     * @param clazz     - {@link Class}&lt?&gt
+     * @param fieldName - {@link String}
+     * @return {@link Optional}&lt{@link FieldAccessor}&gt
+     */
+    static Optional<FieldAccessor> of(Class<?> clazz, String fieldName) {
+        return ACCESSORS_BY_NAME.computeIfAbsent(clazz, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(fieldName, key -> findField(clazz, fieldName).map(FieldAccessors::of));
+    }
+
+    private static Optional<Field> findField(Class<?> clazz, String fieldName) {
+        for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.getName().equalsIgnoreCase(fieldName)) {
+                    return Optional.of(field);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static FieldAccessor create(Field field) {
+        ReflectiveFieldAccessor reflective = new ReflectiveFieldAccessor(field);
+        if (Modifier.isStatic(field.getModifiers())) {
+            return reflective;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            VarHandle handle = lookup.unreflectVarHandle(field);
+            MethodHandle getter = handle.toMethodHandle(VarHandle.AccessMode.GET).asType(GETTER_TYPE);
+            MethodHandle setter = Modifier.isFinal(field.getModifiers()) ? null
+                    : handle.toMethodHandle(VarHandle.AccessMode.SET).asType(SETTER_TYPE);
+            return new HandleFieldAccessor(field, getter, setter, reflective);
+        } catch (IllegalAccessException | RuntimeException ex) {
+            return reflective;
+        }
+    }
+
+    /**
+     * <strong>Método que cria a exception lançada quando o valor do campo
+     * informado não puder ser lido ou escrito.</strong>
+     *
+     * @param field - {@link Field}
+     * @param ex    - {@link Throwable}
+     * @return {@link ObjectFactoryUtilException}
+     */
+    static ObjectFactoryUtilException getException(Field field, Throwable ex) {
+        return new ObjectFactoryUtilException("Erro ao acessar o valor do campo " + field.getName() + "!", ex);
+    }
+
+    /**
+     * <strong>{@link FieldAccessor} baseado nos {@link MethodHandle}s obtidos a
+     * partir do {@link VarHandle} do campo.</strong>
+     */
+    private static final class HandleFieldAccessor implements FieldAccessor {
+
+        private final Field field;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final FieldAccessor fallback;
+
+        private HandleFieldAccessor(Field field, MethodHandle getter, MethodHandle setter, FieldAccessor fallback) {
+            this.field = field;
+            this.getter = getter;
+            this.setter = setter;
+            this.fallback = fallback;
+        }
+
+        @Override
+        public Field getField() {
+            return field;
+        }
+
+        @Override
+        public MethodHandle getterHandle() {
+            return getter;
+        }
+
+        @Override
+        public MethodHandle setterHandle() {
+            return setter != null ? setter : fallback.setterHandle();
+        }
+
+        @Override
+        public Object get(Object target) throws ObjectFactoryUtilException {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw getException(field, ex);
+            }
+        }
+
+        @Override
+        public void set(Object target, Object value) throws ObjectFactoryUtilException {
+            if (setter == null) {
+                fallback.set(target, value);
+                return;
+            }
+            try {
+                setter.invokeExact(target, value);
+            } catch (Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw getException(field, ex);
+            }
+        }
+    }
+
+    /**
+     * <strong>{@link FieldAccessor} via reflexão, utilizado quando não é
+     * possível obter o {@link VarHandle} do campo ou escrever através
+     * dele.</strong>
+     */
+    private static final class ReflectiveFieldAccessor implements FieldAccessor {
+
+        private final Field field;
+
+        private ReflectiveFieldAccessor(Field field) {
+            this.field = field;
+            field.trySetAccessible();
+        }
+
+        @Override
+        public Field getField() {
+            return field;
+        }
+
+        @Override
+        public MethodHandle getterHandle() {
+            return ACCESSOR_GET.bindTo(this);
+        }
+
+        @Override
+        public MethodHandle setterHandle() {
+            return ACCESSOR_SET.bindTo(this);
+        }
+
+        @Override
+        public Object get(Object target) throws ObjectFactoryUtilException {
+            try {
+                return field.get(target);
+            } catch (IllegalArgumentException | IllegalAccessException ex) {
+                throw getException(field, ex);
+            }
+        }
+
+        @Override
+        public void set(Object target, Object value) throws ObjectFactoryUtilException {
+            try {
+                field.set(target, value);
+            } catch (IllegalArgumentException | IllegalAccessException ex) {
+                throw getException(field, ex);
+            }
+        }
+    }
+}
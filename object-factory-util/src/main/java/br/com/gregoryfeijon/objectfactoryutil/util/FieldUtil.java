@@ -0,0 +1,35 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+
+import java.util.Optional;
+
+/**
+ * 12/05/2020 as 17:19:35
+ *
+ * <p>
+ * Os métodos apenas localizam o {@link FieldAccessor} do campo pelo nome, que
+ * é resolvido e mantido em cache pela {@link FieldAccessors}.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public final class FieldUtil {
+
+    private FieldUtil() {}
+
+    public static <T> void setProtectedFieldValue(String destFieldName, T dest, Object sourceValue) throws ObjectFactoryUtilException {
+        Optional<FieldAccessor> opAccessor = FieldAccessors.of(dest.getClass(), destFieldName);
+        if (opAccessor.isPresent()) {
+            opAccessor.get().set(dest, sourceValue);
+        }
+    }
+
+    public static Object getProtectedFieldValue(String protectedFieldName, Object object) throws ObjectFactoryUtilException {
+        Optional<FieldAccessor> opAccessor = FieldAccessors.of(object.getClass(), protectedFieldName);
+        if (opAccessor.isPresent()) {
+            return opAccessor.get().get(object);
+        }
+        return null;
+    }
+}
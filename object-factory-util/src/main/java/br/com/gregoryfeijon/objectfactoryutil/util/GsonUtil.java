@@ -32,16 +32,46 @@ public final class GsonUtil {
 	*/
 
 	private static final Locale BRASIL = new Locale("pt", "BR");
-	private static final GsonBuilder gsonBuilder = new GsonBuilder().disableHtmlEscaping()
-			.setDateFormat("yyyy-MM-dd HH:mm:ss.SSS")
-			.registerTypeAdapterFactory(new GsonJava8TypeAdapterFactory()
-					.setLocalDateTimeFormatter(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS", BRASIL))
-					.setLocalDateFormatter(DateTimeFormatter.ofPattern("yyyy-MM-dd", BRASIL))
-					.setLocalTimeFormatter(DateTimeFormatter.ofPattern("HH:mm:ss.SSS", BRASIL)))
-			.registerTypeHierarchyAdapter(byte[].class, new ByteArrayToBase64TypeAdapter()).setPrettyPrinting();
+	private static final Gson GSON = criaGsonBuilder().setPrettyPrinting().create();
+	private static final Gson COMPACT_GSON = criaGsonBuilder().create();
 
+	/**
+	 * <strong>Retorna a instância compartilhada do {@link Gson}, com formatação
+	 * (<i>pretty printing</i>).</strong>
+	 *
+	 * <p>
+	 * A instância é criada uma única vez, de forma que o cache de
+	 * {@link com.google.gson.TypeAdapter TypeAdapter}s do {@link Gson} seja
+	 * reaproveitado entre as chamadas.
+	 * </p>
+	 *
+	 * @return {@link Gson}
+	 */
 	public static Gson getGson() {
-		return gsonBuilder.create();
+		return GSON;
+	}
+
+	/**
+	 * <strong>Retorna a instância compartilhada do {@link Gson}, com as mesmas
+	 * configurações do {@link #getGson()}, mas sem formatação.</strong> É a
+	 * instância utilizada internamente nas cópias via JSON, nos snapshots e nos
+	 * métodos de <i>streaming</i> da {@link SerializationUtil}, em que o JSON
+	 * não é exibido.
+	 *
+	 * @return {@link Gson}
+	 */
+	static Gson getCompactGson() {
+		return COMPACT_GSON;
+	}
+
+	private static GsonBuilder criaGsonBuilder() {
+		return new GsonBuilder().disableHtmlEscaping()
+				.setDateFormat("yyyy-MM-dd HH:mm:ss.SSS")
+				.registerTypeAdapterFactory(new GsonJava8TypeAdapterFactory()
+						.setLocalDateTimeFormatter(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS", BRASIL))
+						.setLocalDateFormatter(DateTimeFormatter.ofPattern("yyyy-MM-dd", BRASIL))
+						.setLocalTimeFormatter(DateTimeFormatter.ofPattern("HH:mm:ss.SSS", BRASIL)))
+				.registerTypeHierarchyAdapter(byte[].class, new ByteArrayToBase64TypeAdapter());
 	}
 
 	public static Type getType(final Class<?> rawClass, final Class<?> genClass) {
@@ -0,0 +1,77 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.annotation.ImmutableValue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Registro dos tipos imutáveis, cujos valores são compartilhados por
+ * referência na cópia, ao invés de clonados.</strong>
+ *
+ * <p>
+ * Já vem preenchido com os tipos imutáveis do JDK dentre os <i>wrappers</i> da
+ * {@link ReflectionUtil} (textos, números, {@link UUID} e as datas do
+ * <i>java.time</i>), além de outros tipos de valor do JDK. Também são
+ * considerados imutáveis os {@link Enum}s, as classes anotadas com
+ * {@link ImmutableValue} e as registradas pelo
+ * {@link #register(Class[]) register}.
+ * <p>
+ *
+ * <p>
+ * Os registros devem ser feitos antes da primeira cópia que envolva o tipo,
+ * pois a forma de copiar cada campo é resolvida apenas uma vez.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+public final class ImmutableTypes {
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = ConcurrentHashMap.newKeySet();
+    private static final ConcurrentMap<Class<?>, Boolean> CACHE = new ConcurrentHashMap<>();
+
+    static {
+        IMMUTABLE_TYPES.addAll(Arrays.asList(String.class, Character.class, Boolean.class, Byte.class, Short.class,
+                Integer.class, Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class, UUID.class,
+                Locale.class, Currency.class, Class.class));
+        IMMUTABLE_TYPES.addAll(Arrays.asList(Instant.class, LocalDate.class, LocalDateTime.class, LocalTime.class,
+                OffsetDateTime.class, OffsetTime.class, ZonedDateTime.class, Year.class, YearMonth.class,
+                MonthDay.class, Duration.class, Period.class, ZoneOffset.class, ZoneId.systemDefault().getClass()));
+    }
+
+    private ImmutableTypes() {
+    }
+
+    /**
+     * <strong>Método para registrar tipos imutáveis da aplicação.</strong>
+     *
+     * @param types - {@link Class}&lt?&gt...
+     */
+    public static void register(Class<?>... types) {
+        for (Class<?> type : types) {
+            IMMUTABLE_TYPES.add(type);
+            CACHE.put(type, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * <strong>Método que verifica se o tipo informado é imutável.</strong>
+     *
+     * @param type - {@link Class}&lt?&gt
+     * @return boolean
+     */
+    public static boolean isImmutable(Class<?> type) {
+        return CACHE.computeIfAbsent(type, ImmutableTypes::verifyImmutable);
+    }
+
+    private static boolean verifyImmutable(Class<?> type) {
+        return type.isPrimitive() || Enum.class.isAssignableFrom(type) || IMMUTABLE_TYPES.contains(type)
+                || type.isAnnotationPresent(ImmutableValue.class);
+    }
+}
@@ -0,0 +1,196 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import br.com.gregoryfeijon.objectfactoryutil.exception.UncheckedObjectFactoryUtilException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Cache da forma de instanciar as classes de destino das
+ * cópias.</strong>
+ *
+ * <p>
+ * A forma de instanciar cada classe é resolvida uma única vez e exposta como
+ * um {@link Supplier}, gerado via {@link LambdaMetafactory} a partir do
+ * construtor sem argumentos, de forma que cada nova instância custe o mesmo
+ * que um <i>new</i>. Caso o construtor não possa ser acessado dessa forma
+ * (como em classes de módulos que não estão abertos para esta biblioteca), é
+ * utilizado o {@link Constructor#newInstance(Object...)}.
+ * <p>
+ *
+ * <p>
+ * Classes sem construtor sem argumentos só podem ser instanciadas com o
+ * {@link ObjectFactoryUtilConfig#isInstantiationFallback() fallback}
+ * habilitado, que cria as instâncias sem executar nenhum construtor da classe
+ * (como na desserialização), de forma que os campos não recebem nem os valores
+ * das suas declarações. Essas instâncias são criadas pelo
+ * <i>sun.reflect.ReflectionFactory</i> do módulo <i>jdk.unsupported</i>,
+ * carregado por reflexão apenas quando o fallback é utilizado.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+final class Instantiators {
+
+    private static final String ERROR_MESSAGE = "Erro ao criar instância da classe copiada na ObjectFactoryUtil.";
+    private static final String REFLECTION_FACTORY = "sun.reflect.ReflectionFactory";
+    private static final MethodType SUPPLIER_FACTORY = MethodType.methodType(Supplier.class);
+    private static final MethodType SUPPLIER_GET = MethodType.methodType(Object.class);
+    private static final ClassValue<Instantiation> INSTANTIATIONS = new ClassValue<Instantiation>() {
+        @Override
+        protected Instantiation computeValue(Class<?> type) {
+            return new Instantiation(type);
+        }
+    };
+
+    private Instantiators() {
+    }
+
+    /**
+     * <strong>Método que retorna o {@link Supplier} de novas instâncias da
+     * classe informada.</strong>
+     *
+     * @param type - {@link Class}&lt?&gt
+     * @return {@link Supplier}&lt?&gt
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando a
+     *                                    classe não puder ser instanciada
+     */
+    static Supplier<?> of(Class<?> type) throws ObjectFactoryUtilException {
+        return INSTANTIATIONS.get(type).supplier();
+    }
+
+    /**
+     * <strong>Método que cria uma nova instância da classe informada.</strong>
+     *
+     * @param type - {@link Class}&lt?&gt
+     * @return {@link Object}
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    static Object newInstance(Class<?> type) throws ObjectFactoryUtilException {
+        return newInstance(of(type));
+    }
+
+    /**
+     * <strong>Método que cria uma nova instância pelo {@link Supplier}
+     * informado, obtido do {@link #of(Class) of}, convertendo as exceptions
+     * lançadas pelo construtor em {@link ObjectFactoryUtilException}.</strong>
+     *
+     * @param instantiator - {@link Supplier}&lt?&gt
+     * @return {@link Object}
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    static Object newInstance(Supplier<?> instantiator) throws ObjectFactoryUtilException {
+        try {
+            return instantiator.get();
+        } catch (UncheckedObjectFactoryUtilException ex) {
+            throw ex.getCause();
+        } catch (Exception ex) {
+            throw new ObjectFactoryUtilException(ERROR_MESSAGE, ex);
+        }
+    }
+
+    private static Supplier<?> resolve(Constructor<?> constructor) {
+        Class<?> type = constructor.getDeclaringClass();
+        try {
+            MethodHandles.Lookup lookup;
+            try {
+                lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            } catch (IllegalAccessException ex) {
+                lookup = MethodHandles.lookup();
+            }
+            MethodHandle handle = lookup.findConstructor(type, MethodType.methodType(void.class));
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get", SUPPLIER_FACTORY, SUPPLIER_GET, handle,
+                    MethodType.methodType(type));
+            return (Supplier<?>) site.getTarget().invoke();
+        } catch (Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            if (!constructor.trySetAccessible()) {
+                return null;
+            }
+            return () -> invoke(constructor);
+        }
+    }
+
+    private static Supplier<?> resolveFallback(Class<?> type) {
+        try {
+            Class<?> factoryType = Class.forName(REFLECTION_FACTORY);
+            Object factory = factoryType.getMethod("getReflectionFactory").invoke(null);
+            Method newConstructor = factoryType.getMethod("newConstructorForSerialization", Class.class,
+                    Constructor.class);
+            Constructor<?> constructor = (Constructor<?>) newConstructor.invoke(factory, type,
+                    Object.class.getDeclaredConstructor());
+            return constructor != null ? () -> invoke(constructor) : null;
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    private static Object invoke(Constructor<?> constructor) {
+        try {
+            return constructor.newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException ex) {
+            throw new UncheckedObjectFactoryUtilException(new ObjectFactoryUtilException(ERROR_MESSAGE, ex));
+        }
+    }
+
+    /**
+     * <strong>Forma de instanciar uma classe, resolvida na primeira
+     * utilização.</strong>
+     */
+    private static final class Instantiation {
+
+        private final Class<?> type;
+        private final Supplier<?> supplier;
+        private final Exception failure;
+        private volatile Supplier<?> fallback;
+
+        private Instantiation(Class<?> type) {
+            this.type = type;
+            Supplier<?> resolved = null;
+            Exception cause = null;
+            if (type.isInterface() || type.isArray() || type.isPrimitive() || Modifier.isAbstract(type.getModifiers())) {
+                cause = new InstantiationException(type.getName());
+            } else {
+                try {
+                    resolved = resolve(type.getDeclaredConstructor());
+                    if (resolved == null) {
+                        cause = new IllegalAccessException(type.getName());
+                    }
+                } catch (NoSuchMethodException ex) {
+                    cause = ex;
+                }
+            }
+            this.supplier = resolved;
+            this.failure = cause;
+        }
+
+        private Supplier<?> supplier() throws ObjectFactoryUtilException {
+            if (supplier != null) {
+                return supplier;
+            }
+            if (ObjectFactoryUtilConfig.isInstantiationFallback() && !(failure instanceof InstantiationException)) {
+                Supplier<?> current = fallback;
+                if (current == null) {
+                    current = resolveFallback(type);
+                    fallback = current;
+                }
+                if (current != null) {
+                    return current;
+                }
+            }
+            throw new ObjectFactoryUtilException(ERROR_MESSAGE, failure);
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>{@link Writer}s e {@link Reader}s UTF-8 sobre {@link OutputStream}s,
+ * {@link InputStream}s, canais NIO e {@link ByteBuffer}s, utilizados pelos
+ * métodos de <i>streaming</i> da {@link SerializationUtil}.</strong>
+ *
+ * <p>
+ * Os caracteres são codificados e decodificados em blocos, através de buffers
+ * obtidos de um {@link ObjectPool} compartilhado e devolvidos a ele no
+ * {@link Writer#close() close}, de forma que a quantidade de memória utilizada
+ * não depende do tamanho do conteúdo. A leitura e a escrita de
+ * {@link ByteBuffer}s são feitas diretamente sobre o próprio buffer.
+ * <p>
+ *
+ * <p>
+ * O {@link Writer#close() close} dos {@link Writer}s e {@link Reader}s não
+ * fecha a origem ou o destino, que continuam sob responsabilidade de quem os
+ * abriu.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+final class JsonStreams {
+
+    private static final int BYTE_BUFFER_SIZE = 64 * 1024;
+    private static final int CHAR_BUFFER_SIZE = 8 * 1024;
+    private static final ObjectPool<Buffers> BUFFERS = ObjectPool.bounded(Runtime.getRuntime().availableProcessors() * 2);
+
+    private JsonStreams() {
+    }
+
+    static Writer writer(OutputStream output) {
+        return new EncodingWriter(acquire(), buffer -> output.write(buffer.array(),
+                buffer.arrayOffset() + buffer.position(), buffer.remaining()), output::flush);
+    }
+
+    static Writer writer(WritableByteChannel channel) {
+        return new EncodingWriter(acquire(), buffer -> {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }, () -> {
+        });
+    }
+
+    /**
+     * <strong>Cria o {@link Writer} que codifica os caracteres diretamente no
+     * {@link ByteBuffer} informado, a partir da sua posição atual.</strong>
+     * Caso o buffer não possua espaço suficiente, é lançada uma
+     * {@link BufferOverflowException}.
+     *
+     * @param target - {@link ByteBuffer}
+     * @return {@link Writer}
+     */
+    static Writer writer(ByteBuffer target) {
+        return new EncodingWriter(new Buffers(target, CharBuffer.allocate(CHAR_BUFFER_SIZE), false), buffer -> {
+        }, () -> {
+        });
+    }
+
+    static Reader reader(InputStream input) {
+        return new DecodingReader(acquire(), buffer -> {
+            int read = input.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            if (read > 0) {
+                buffer.position(buffer.position() + read);
+            }
+            return read;
+        });
+    }
+
+    static Reader reader(ReadableByteChannel channel) {
+        return new DecodingReader(acquire(), channel::read);
+    }
+
+    /**
+     * <strong>Cria o {@link Reader} que decodifica os caracteres diretamente do
+     * {@link ByteBuffer} informado, da sua posição atual até o seu
+     * limite.</strong>
+     *
+     * @param source - {@link ByteBuffer}
+     * @return {@link Reader}
+     */
+    static Reader reader(ByteBuffer source) {
+        return new DecodingReader(new Buffers(source, null, false), buffer -> -1);
+    }
+
+    private static Buffers acquire() {
+        Buffers buffers = BUFFERS.acquire();
+        if (buffers == null) {
+            buffers = new Buffers(ByteBuffer.allocate(BYTE_BUFFER_SIZE), CharBuffer.allocate(CHAR_BUFFER_SIZE), true);
+        }
+        buffers.bytes.clear();
+        buffers.chars.clear();
+        return buffers;
+    }
+
+    private static void release(Buffers buffers) {
+        if (buffers.pooled) {
+            BUFFERS.release(buffers);
+        }
+    }
+
+    /**
+     * <strong>Buffers de bytes e de caracteres de uma leitura ou
+     * escrita.</strong>
+     */
+    private static final class Buffers {
+
+        private final ByteBuffer bytes;
+        private final CharBuffer chars;
+        private final boolean pooled;
+
+        private Buffers(ByteBuffer bytes, CharBuffer chars, boolean pooled) {
+            this.bytes = bytes;
+            this.chars = chars;
+            this.pooled = pooled;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ByteSink {
+
+        void drain(ByteBuffer buffer) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ByteSource {
+
+        int fill(ByteBuffer buffer) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Flusher {
+
+        void flush() throws IOException;
+    }
+
+    /**
+     * <strong>{@link Writer} que acumula os caracteres no buffer de
+     * caracteres e os codifica em UTF-8 no buffer de bytes, que é descarregado
+     * no destino sempre que fica cheio.</strong> Um caractere <i>surrogate</i>
+     * sem o seu par, no final de um bloco, é mantido para o bloco seguinte.
+     */
+    private static final class EncodingWriter extends Writer {
+
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final Buffers buffers;
+        private final ByteSink sink;
+        private final Flusher flusher;
+        private boolean closed;
+
+        private EncodingWriter(Buffers buffers, ByteSink sink, Flusher flusher) {
+            this.buffers = buffers;
+            this.sink = sink;
+            this.flusher = flusher;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            ensureOpen();
+            CharBuffer chars = buffers.chars;
+            while (len > 0) {
+                if (!chars.hasRemaining()) {
+                    encode(false);
+                }
+                int count = Math.min(len, chars.remaining());
+                chars.put(cbuf, off, count);
+                off += count;
+                len -= count;
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            ensureOpen();
+            CharBuffer chars = buffers.chars;
+            while (len > 0) {
+                if (!chars.hasRemaining()) {
+                    encode(false);
+                }
+                int count = Math.min(len, chars.remaining());
+                chars.put(str, off, off + count);
+                off += count;
+                len -= count;
+            }
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            ensureOpen();
+            if (!buffers.chars.hasRemaining()) {
+                encode(false);
+            }
+            buffers.chars.put((char) c);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            ensureOpen();
+            encode(false);
+            drain();
+            flusher.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            try {
+                encode(true);
+                while (encoder.flush(buffers.bytes).isOverflow()) {
+                    overflow();
+                }
+                drain();
+                flusher.flush();
+            } finally {
+                closed = true;
+                release(buffers);
+            }
+        }
+
+        private void encode(boolean endOfInput) throws IOException {
+            CharBuffer chars = buffers.chars;
+            chars.flip();
+            while (encoder.encode(chars, buffers.bytes, endOfInput).isOverflow()) {
+                overflow();
+            }
+            chars.compact();
+        }
+
+        private void overflow() throws IOException {
+            if (!buffers.pooled) {
+                throw new BufferOverflowException();
+            }
+            drain();
+        }
+
+        private void drain() throws IOException {
+            if (!buffers.pooled) {
+                return;
+            }
+            ByteBuffer bytes = buffers.bytes;
+            bytes.flip();
+            sink.drain(bytes);
+            bytes.clear();
+        }
+
+        private void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("O Writer já foi fechado.");
+            }
+        }
+    }
+
+    /**
+     * <strong>{@link Reader} que decodifica em UTF-8 os bytes do buffer de
+     * bytes, preenchido a partir da origem sempre que é consumido.</strong>
+     */
+    private static final class DecodingReader extends Reader {
+
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final Buffers buffers;
+        private final ByteSource source;
+        private final CharBuffer pair = CharBuffer.allocate(2);
+        private boolean endOfInput;
+        private boolean flushed;
+        private boolean closed;
+
+        private DecodingReader(Buffers buffers, ByteSource source) {
+            this.buffers = buffers;
+            this.source = source;
+            if (buffers.pooled) {
+                buffers.bytes.flip();
+            }
+            pair.flip();
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (closed) {
+                throw new IOException("O Reader já foi fechado.");
+            }
+            if (len == 0) {
+                return 0;
+            }
+            if (flushed) {
+                return -1;
+            }
+            if (pair.hasRemaining()) {
+                cbuf[off] = pair.get();
+                return 1;
+            }
+            CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+            while (true) {
+                CoderResult result = decoder.decode(buffers.bytes, out, endOfInput);
+                if (endOfInput && result.isUnderflow()) {
+                    decoder.flush(out);
+                    flushed = true;
+                }
+                int read = out.position() - off;
+                if (read > 0) {
+                    return read;
+                }
+                if (result.isOverflow()) {
+                    return readPair(cbuf, off);
+                }
+                if (flushed) {
+                    return -1;
+                }
+                fill();
+            }
+        }
+
+        /**
+         * <strong>Lê um par de <i>surrogates</i> quando há espaço para apenas
+         * um caractere, mantendo o segundo para a próxima leitura.</strong>
+         */
+        private int readPair(char[] cbuf, int off) {
+            pair.clear();
+            decoder.decode(buffers.bytes, pair, endOfInput);
+            pair.flip();
+            cbuf[off] = pair.get();
+            return 1;
+        }
+
+        private void fill() throws IOException {
+            ByteBuffer bytes = buffers.bytes;
+            if (!buffers.pooled) {
+                endOfInput = true;
+                return;
+            }
+            bytes.compact();
+            int read;
+            try {
+                read = source.fill(bytes);
+            } finally {
+                bytes.flip();
+            }
+            if (read < 0) {
+                endOfInput = true;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release(buffers);
+            }
+        }
+    }
+}
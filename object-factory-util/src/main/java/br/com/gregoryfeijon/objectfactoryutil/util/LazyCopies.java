@@ -0,0 +1,625 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import br.com.gregoryfeijon.objectfactoryutil.exception.UncheckedObjectFactoryUtilException;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Cópia tardia dos campos declarados com interfaces, no modo
+ * {@link ObjectFactoryUtilConfig#isLazyCopy() habilitado pela
+ * configuração}.</strong>
+ *
+ * <p>
+ * Ao invés da cópia, o campo de destino recebe um objeto que guarda o valor
+ * de origem e o {@link ValueCopier} do campo, e só executa a cópia no primeiro
+ * acesso, seja de leitura ou de alteração, passando então a delegar todas as
+ * chamadas para o valor copiado. Campos declarados como {@link List},
+ * {@link Set}, {@link Collection} e {@link Map} recebem <i>wrappers</i> que
+ * implementam a própria interface, e campos declarados com interfaces
+ * públicas da aplicação recebem um {@link Proxy}. Os demais tipos (incluindo
+ * as outras interfaces do JDK) e os campos cujo valor de origem precisa ser
+ * convertido continuam sendo copiados imediatamente.
+ * <p>
+ *
+ * <p>
+ * A cópia no primeiro acesso é sincronizada, de forma que os valores podem
+ * ser compartilhados entre threads. As exceptions lançadas nessa cópia são
+ * encapsuladas em {@link UncheckedObjectFactoryUtilException}s.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+final class LazyCopies {
+
+    private LazyCopies() {
+    }
+
+    /**
+     * <strong>Método que retorna o {@link ValueCopier} do campo declarado com
+     * o tipo informado, fazendo a cópia tardia quando o modo estiver
+     * habilitado e o tipo permitir.</strong>
+     *
+     * @param declaredType - {@link Class}&lt?&gt
+     * @param copier       - {@link ValueCopier} - cópia imediata do campo
+     * @return {@link ValueCopier}
+     */
+    static ValueCopier wrap(Class<?> declaredType, ValueCopier copier) {
+        if (copier == ValueCopier.IDENTITY || !declaredType.isInterface() || declaredType.isAnnotation()) {
+            return copier;
+        }
+        LazyFactory factory = resolveFactory(declaredType);
+        if (factory == null) {
+            return copier;
+        }
+        return new LazyValueCopier(copier, factory);
+    }
+
+    private static LazyFactory resolveFactory(Class<?> declaredType) {
+        if (declaredType == List.class) {
+            return LazyList::new;
+        }
+        if (declaredType == Set.class) {
+            return LazySet::new;
+        }
+        if (declaredType == Collection.class) {
+            return LazyCollection::new;
+        }
+        if (declaredType == Map.class) {
+            return LazyMap::new;
+        }
+        if (ObjectGraphCopier.isJdkType(declaredType) || !Modifier.isPublic(declaredType.getModifiers())) {
+            return null;
+        }
+        ClassLoader loader = declaredType.getClassLoader();
+        Class<?>[] interfaces = {declaredType};
+        return (source, copier) -> Proxy.newProxyInstance(loader, interfaces, new LazyHandler(source, copier));
+    }
+
+    /**
+     * <strong>Método que verifica se as instâncias da classe informada podem
+     * ser valores de cópia tardia, que devem ser resolvidos pelo
+     * {@link #unwrap(Object) unwrap} antes de serem copiados
+     * novamente.</strong>
+     *
+     * @param type - {@link Class}&lt?&gt
+     * @return boolean
+     */
+    static boolean isLazyType(Class<?> type) {
+        return LazyValue.class.isAssignableFrom(type) || Proxy.isProxyClass(type);
+    }
+
+    /**
+     * <strong>Método que retorna o valor copiado de um valor de cópia
+     * tardia, fazendo a cópia caso ainda não tenha sido feita, ou o próprio
+     * valor informado, caso ele não seja de cópia tardia.</strong>
+     *
+     * @param value - {@link Object}
+     * @return {@link Object}
+     */
+    static Object unwrap(Object value) {
+        if (value instanceof LazyValue) {
+            return ((LazyValue) value).target();
+        }
+        if (value != null && Proxy.isProxyClass(value.getClass())) {
+            InvocationHandler handler = Proxy.getInvocationHandler(value);
+            if (handler instanceof LazyHandler) {
+                return ((LazyHandler) handler).target();
+            }
+        }
+        return value;
+    }
+
+    @FunctionalInterface
+    private interface LazyFactory {
+
+        Object create(Object source, ValueCopier copier);
+    }
+
+    /**
+     * <strong>{@link ValueCopier} que cria o valor de cópia tardia, quando o
+     * modo estiver habilitado.</strong> As cópias para valores já presentes no
+     * destino continuam sendo imediatas.
+     */
+    private static final class LazyValueCopier implements ValueCopier {
+
+        private final ValueCopier copier;
+        private final LazyFactory factory;
+
+        private LazyValueCopier(ValueCopier copier, LazyFactory factory) {
+            this.copier = copier;
+            this.factory = factory;
+        }
+
+        @Override
+        public Object copy(Object sourceValue) throws ObjectFactoryUtilException {
+            if (sourceValue == null || !ObjectFactoryUtilConfig.isLazyCopy() || CopyContext.active() != null) {
+                return copier.copy(sourceValue);
+            }
+            return factory.create(sourceValue, copier);
+        }
+
+        @Override
+        public Object copyInto(Object sourceValue, Object destValue) throws ObjectFactoryUtilException {
+            return copier.copyInto(sourceValue, destValue);
+        }
+    }
+
+    /**
+     * <strong>Base dos valores de cópia tardia, com a cópia sincronizada no
+     * primeiro acesso.</strong> Após a cópia, a referência ao valor de origem é
+     * descartada.
+     */
+    private abstract static class LazyValue implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private transient ValueCopier copier;
+        private transient Object source;
+        private transient volatile Object target;
+
+        private LazyValue(Object source, ValueCopier copier) {
+            this.source = source;
+            this.copier = copier;
+        }
+
+        final Object target() {
+            Object current = target;
+            if (current == null) {
+                synchronized (this) {
+                    current = target;
+                    if (current == null) {
+                        try {
+                            current = copier.copy(source);
+                        } catch (ObjectFactoryUtilException ex) {
+                            throw new UncheckedObjectFactoryUtilException(ex);
+                        }
+                        resolve(current);
+                    }
+                }
+            }
+            return current;
+        }
+
+        final synchronized void resolve(Object value) {
+            target = value;
+            source = null;
+            copier = null;
+        }
+    }
+
+    /**
+     * <strong>{@link Collection} de cópia tardia.</strong>
+     */
+    private static class LazyCollection extends LazyValue implements Collection<Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        private LazyCollection(Object source, ValueCopier copier) {
+            super(source, copier);
+        }
+
+        /**
+         * <strong>Na serialização Java, a coleção de cópia tardia é
+         * substituída pela coleção copiada.</strong>
+         */
+        final Object writeReplace() {
+            return target();
+        }
+
+        @SuppressWarnings("unchecked")
+        Collection<Object> delegate() {
+            return (Collection<Object>) target();
+        }
+
+        @Override
+        public int size() {
+            return delegate().size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return delegate().isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return delegate().contains(o);
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return delegate().iterator();
+        }
+
+        @Override
+        public Object[] toArray() {
+            return delegate().toArray();
+        }
+
+        @Override
+        public <A> A[] toArray(A[] a) {
+            return delegate().toArray(a);
+        }
+
+        @Override
+        public boolean add(Object o) {
+            return delegate().add(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return delegate().remove(o);
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            return delegate().containsAll(c);
+        }
+
+        @Override
+        public boolean addAll(Collection<?> c) {
+            return delegate().addAll(c);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            return delegate().removeAll(c);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            return delegate().retainAll(c);
+        }
+
+        @Override
+        public void clear() {
+            delegate().clear();
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super Object> filter) {
+            return delegate().removeIf(filter);
+        }
+
+        @Override
+        public Spliterator<Object> spliterator() {
+            return delegate().spliterator();
+        }
+
+        @Override
+        public Stream<Object> stream() {
+            return delegate().stream();
+        }
+
+        @Override
+        public void forEach(Consumer<? super Object> action) {
+            delegate().forEach(action);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o == this || delegate().equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return delegate().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return delegate().toString();
+        }
+    }
+
+    /**
+     * <strong>{@link Set} de cópia tardia.</strong>
+     */
+    private static final class LazySet extends LazyCollection implements Set<Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        private LazySet(Object source, ValueCopier copier) {
+            super(source, copier);
+        }
+    }
+
+    /**
+     * <strong>{@link List} de cópia tardia.</strong>
+     */
+    private static final class LazyList extends LazyCollection implements List<Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        private LazyList(Object source, ValueCopier copier) {
+            super(source, copier);
+        }
+
+        @Override
+        List<Object> delegate() {
+            return (List<Object>) super.delegate();
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<?> c) {
+            return delegate().addAll(index, c);
+        }
+
+        @Override
+        public Object get(int index) {
+            return delegate().get(index);
+        }
+
+        @Override
+        public Object set(int index, Object element) {
+            return delegate().set(index, element);
+        }
+
+        @Override
+        public void add(int index, Object element) {
+            delegate().add(index, element);
+        }
+
+        @Override
+        public Object remove(int index) {
+            return delegate().remove(index);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return delegate().indexOf(o);
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return delegate().lastIndexOf(o);
+        }
+
+        @Override
+        public ListIterator<Object> listIterator() {
+            return delegate().listIterator();
+        }
+
+        @Override
+        public ListIterator<Object> listIterator(int index) {
+            return delegate().listIterator(index);
+        }
+
+        @Override
+        public List<Object> subList(int fromIndex, int toIndex) {
+            return delegate().subList(fromIndex, toIndex);
+        }
+
+        @Override
+        public void replaceAll(UnaryOperator<Object> operator) {
+            delegate().replaceAll(operator);
+        }
+
+        @Override
+        public void sort(Comparator<? super Object> c) {
+            delegate().sort(c);
+        }
+    }
+
+    /**
+     * <strong>{@link Map} de cópia tardia.</strong>
+     */
+    private static final class LazyMap extends LazyValue implements Map<Object, Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        private LazyMap(Object source, ValueCopier copier) {
+            super(source, copier);
+        }
+
+        /**
+         * <strong>Na serialização Java, o {@link Map} de cópia tardia é
+         * substituído pelo {@link Map} copiado.</strong>
+         */
+        private Object writeReplace() {
+            return target();
+        }
+
+        @SuppressWarnings("unchecked")
+        private Map<Object, Object> delegate() {
+            return (Map<Object, Object>) target();
+        }
+
+        @Override
+        public int size() {
+            return delegate().size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return delegate().isEmpty();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return delegate().containsKey(key);
+        }
+
+        @Override
+        public boolean containsValue(Object value) {
+            return delegate().containsValue(value);
+        }
+
+        @Override
+        public Object get(Object key) {
+            return delegate().get(key);
+        }
+
+        @Override
+        public Object put(Object key, Object value) {
+            return delegate().put(key, value);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return delegate().remove(key);
+        }
+
+        @Override
+        public void putAll(Map<?, ?> m) {
+            delegate().putAll(m);
+        }
+
+        @Override
+        public void clear() {
+            delegate().clear();
+        }
+
+        @Override
+        public Set<Object> keySet() {
+            return delegate().keySet();
+        }
+
+        @Override
+        public Collection<Object> values() {
+            return delegate().values();
+        }
+
+        @Override
+        public Set<Entry<Object, Object>> entrySet() {
+            return delegate().entrySet();
+        }
+
+        @Override
+        public Object getOrDefault(Object key, Object defaultValue) {
+            return delegate().getOrDefault(key, defaultValue);
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super Object, ? super Object> action) {
+            delegate().forEach(action);
+        }
+
+        @Override
+        public void replaceAll(BiFunction<? super Object, ? super Object, ?> function) {
+            delegate().replaceAll(function);
+        }
+
+        @Override
+        public Object putIfAbsent(Object key, Object value) {
+            return delegate().putIfAbsent(key, value);
+        }
+
+        @Override
+        public boolean remove(Object key, Object value) {
+            return delegate().remove(key, value);
+        }
+
+        @Override
+        public boolean replace(Object key, Object oldValue, Object newValue) {
+            return delegate().replace(key, oldValue, newValue);
+        }
+
+        @Override
+        public Object replace(Object key, Object value) {
+            return delegate().replace(key, value);
+        }
+
+        @Override
+        public Object computeIfAbsent(Object key, Function<? super Object, ?> mappingFunction) {
+            return delegate().computeIfAbsent(key, mappingFunction);
+        }
+
+        @Override
+        public Object computeIfPresent(Object key, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+            return delegate().computeIfPresent(key, remappingFunction);
+        }
+
+        @Override
+        public Object compute(Object key, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+            return delegate().compute(key, remappingFunction);
+        }
+
+        @Override
+        public Object merge(Object key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+            return delegate().merge(key, value, remappingFunction);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o == this || delegate().equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return delegate().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return delegate().toString();
+        }
+    }
+
+    /**
+     * <strong>{@link InvocationHandler} dos {@link Proxy}s de cópia tardia das
+     * interfaces da aplicação, que delega todas as chamadas, inclusive as de
+     * {@link Object#equals(Object) equals}, {@link Object#hashCode() hashCode}
+     * e {@link Object#toString() toString}, para o valor copiado.</strong>
+     *
+     * <p>
+     * Como o {@link Proxy} é serializado junto com o seu
+     * {@link InvocationHandler}, o próprio <i>handler</i> é gravado na
+     * serialização Java, com o valor copiado. Na leitura, o {@link Proxy}
+     * continua delegando as chamadas para esse valor.
+     * <p>
+     */
+    private static final class LazyHandler extends LazyValue implements InvocationHandler {
+
+        private static final long serialVersionUID = 1L;
+
+        private LazyHandler(Object source, ValueCopier copier) {
+            super(source, copier);
+        }
+
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            out.defaultWriteObject();
+            try {
+                out.writeObject(target());
+            } catch (UncheckedObjectFactoryUtilException ex) {
+                throw new IOException(ex.getCause());
+            }
+        }
+
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            resolve(in.readObject());
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class && method.getName().equals("equals") && args[0] == proxy) {
+                return true;
+            }
+            try {
+                return method.invoke(target(), args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.annotation.ObjectConstructor;
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+
+/**
+ * 18/10/2026
+ *
+ * <p>
+ * <strong>Copiador dedicado de um tipo específico, utilizado pela
+ * {@link ObjectFactoryUtil} no lugar da cópia via reflexão quando a origem e o
+ * destino são exatamente desse tipo.</strong>
+ * </p>
+ *
+ * <p>
+ * As implementações são descobertas via {@link java.util.ServiceLoader}.
+ * Normalmente são geradas em tempo de compilação pelo processador de
+ * annotations do módulo <i>object-factory-util-processor</i>, como
+ * <i>&lt;Tipo&gt;Copier</i>, para cada classe anotada com
+ * {@link ObjectConstructor}.
+ * </p>
+ *
+ * @param <T> tipo copiado
+ * @author gregory.feijon
+ */
+public interface ObjectCopier<T> {
+
+    Class<T> getType();
+
+    void copy(T source, T dest) throws ObjectFactoryUtilException;
+}
@@ -0,0 +1,55 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Registro dos {@link ObjectCopier}s disponíveis, descobertos via
+ * {@link ServiceLoader} na primeira utilização.</strong>
+ *
+ * @author gregory.feijon
+ */
+final class ObjectCopiers {
+
+    private static final LoggerUtil LOGGER = LoggerUtil.getLog(ObjectCopiers.class);
+
+    private ObjectCopiers() {
+    }
+
+    /**
+     * <strong>Método que retorna o {@link ObjectCopier} registrado para a
+     * classe informada, ou null, caso não exista.</strong>
+     *
+     * @param <T>   tipo copiado
+     * @param clazz - {@link Class}&lt T &gt
+     * @return {@link ObjectCopier}&lt T &gt
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ObjectCopier<T> get(Class<T> clazz) {
+        return (ObjectCopier<T>) Holder.COPIERS.get(clazz);
+    }
+
+    private static Map<Class<?>, ObjectCopier<?>> load() {
+        Map<Class<?>, ObjectCopier<?>> copiers = new HashMap<>();
+        Iterator<?> iterator = ServiceLoader.load(ObjectCopier.class).iterator();
+        while (iterator.hasNext()) {
+            try {
+                ObjectCopier<?> copier = (ObjectCopier<?>) iterator.next();
+                copiers.put(copier.getType(), copier);
+            } catch (ServiceConfigurationError ex) {
+                LOGGER.warning("Não foi possível carregar o ObjectCopier: {0}", ex.getMessage());
+            }
+        }
+        return copiers;
+    }
+
+    private static final class Holder {
+
+        private static final Map<Class<?>, ObjectCopier<?>> COPIERS = load();
+    }
+}
@@ -0,0 +1,569 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.annotation.ObjectConstructor;
+import br.com.gregoryfeijon.objectfactoryutil.annotation.SyncKey;
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import br.com.gregoryfeijon.objectfactoryutil.exception.UncheckedObjectFactoryUtilException;
+import org.apache.commons.collections4.CollectionUtils;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 12/05/2020 as 16:56:03
+ *
+ * @author gregory.feijon
+ * @see ObjectConstructor
+ */
+public final class ObjectFactoryUtil {
+
+    private static final String NULL_SOURCE_MESSAGE = "Os objetos a serem copiados são nulos!";
+
+    private ObjectFactoryUtil() {
+    }
+
+    public static <T> List<T> copyAllObjectsFromCollection(Collection<T> entitiesToCopy) throws ObjectFactoryUtilException {
+        verifyCollection(entitiesToCopy);
+        return BulkCopier.copyAll(entitiesToCopy, ElementCopier.sameType(), new ArrayList<>(entitiesToCopy.size()));
+    }
+
+    /**
+     * <strong>Método que retorna uma cópia de uma lista de objetos.</strong>
+     *
+     * <p>
+     * O Tipo da coleção retornada não precisa ser igual ao tipo da coleção
+     * copiada, basta que os objetos possuam atributos com o mesmo nome, que os
+     * valores desses atributos serão copiados.
+     * <p>
+     *
+     * <p>
+     * Coleções com mais elementos que o
+     * {@link ObjectFactoryUtilConfig#getParallelThreshold() limite
+     * configurado} são copiadas em paralelo pelo {@link BulkCopier},
+     * preservando a ordem dos elementos.
+     * <p>
+     *
+     * @param <T>            tipo dos objetos da lista de retorno
+     * @param entitiesToCopy - {@linkplain Collection}&lt?&gt
+     * @param returnType     - {@linkplain Class}&ltT&gt
+     * @return {@linkplain List}&ltT&gt
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    public static <T> List<T> copyAllObjectsFromCollection(Collection<?> entitiesToCopy, Class<T> returnType) throws ObjectFactoryUtilException {
+        verifyCollection(entitiesToCopy);
+        return BulkCopier.copyAll(entitiesToCopy, ElementCopier.to(returnType), new ArrayList<>(entitiesToCopy.size()));
+    }
+
+    public static <T, U extends Collection<T>> U copyAllObjectsFromCollection(Collection<T> entitiesToCopy, Supplier<U> supplier) throws ObjectFactoryUtilException {
+        verifyCollectionAndSupplier(entitiesToCopy, supplier);
+        return BulkCopier.copyAll(entitiesToCopy, ElementCopier.sameType(), supplier.get());
+    }
+
+    /**
+     * <strong> Método para copiar todos os elementos de uma {@linkplain Collection
+     * coleção} e retornar em um tipo escolhido de {@linkplain Collection
+     * coleção}.</strong>
+     *
+     * <p>
+     * O Tipo da coleção retornada não precisa ser igual ao tipo da coleção
+     * copiada, basta que os objetos possuam atributos com o mesmo nome, que os
+     * valores desses atributos serão copiados.
+     * <p>
+     *
+     * @param <T>            tipo dos objetos da lista de retorno
+     * @param <U>            tipo de lista a ser retornada
+     * @param entitiesToCopy - {@linkplain Collection}&lt?&gt
+     * @param supplier       - {@linkplain Supplier}&ltU&gt
+     * @param returnType     - {@linkplain Class}&ltT&gt
+     * @return U
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    public static <T, U extends Collection<T>> U copyAllObjectsFromCollection(Collection<?> entitiesToCopy,
+                                                                              Supplier<U> supplier, Class<T> returnType) throws ObjectFactoryUtilException {
+        verifyCollectionAndSupplier(entitiesToCopy, supplier);
+        return BulkCopier.copyAll(entitiesToCopy, ElementCopier.to(returnType), supplier.get());
+    }
+
+    /**
+     * <strong>Método que copia todos os elementos de uma {@linkplain Collection
+     * coleção} para instâncias obtidas do {@link ObjectPool} informado.</strong>
+     *
+     * <p>
+     * Cada instância retirada do pool é preenchida no modo
+     * {@link #copyInto(Object, Object) copyInto}, reaproveitando os objetos
+     * aninhados e as coleções que ela já possuir; novas instâncias só são
+     * criadas quando o pool está vazio. Após utilizar as cópias, basta
+     * devolvê-las pelo {@link ObjectPool#releaseAll(Collection) releaseAll}.
+     * <p>
+     *
+     * @param <T>            tipo dos objetos da lista de retorno
+     * @param entitiesToCopy - {@linkplain Collection}&lt?&gt
+     * @param returnType     - {@linkplain Class}&ltT&gt
+     * @param pool           - {@linkplain ObjectPool}&ltT&gt
+     * @return {@linkplain List}&ltT&gt
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    public static <T> List<T> copyAllObjectsFromCollection(Collection<?> entitiesToCopy, Class<T> returnType,
+                                                           ObjectPool<T> pool) throws ObjectFactoryUtilException {
+        verifyCollection(entitiesToCopy);
+        if (pool == null) {
+            throw new ObjectFactoryUtilException("O pool especificado é nulo.");
+        }
+        return BulkCopier.copyAll(entitiesToCopy, ElementCopier.pooled(returnType, pool), new ArrayList<>(entitiesToCopy.size()));
+    }
+
+    /**
+     * <strong>Método que copia todos os elementos de uma {@linkplain Collection
+     * coleção} para instâncias da classe informada, apenas com os campos da
+     * {@link Projection} informada.</strong>
+     *
+     * <p>
+     * Mesma lógica do
+     * {@link #createFromObject(Object, Class, Projection) createFromObject}
+     * com projeção, aplicada a cada elemento, com a cópia em paralelo do
+     * {@link #copyAllObjectsFromCollection(Collection, Class)
+     * copyAllObjectsFromCollection}.
+     * <p>
+     *
+     * @param <T>            tipo dos objetos da lista de retorno
+     * @param entitiesToCopy - {@linkplain Collection}&lt?&gt
+     * @param returnType     - {@linkplain Class}&ltT&gt
+     * @param projection     - {@linkplain Projection}
+     * @return {@linkplain List}&ltT&gt
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    public static <T> List<T> copyAllObjectsFromCollection(Collection<?> entitiesToCopy, Class<T> returnType,
+                                                           Projection projection) throws ObjectFactoryUtilException {
+        verifyCollection(entitiesToCopy);
+        verifyProjection(projection);
+        return BulkCopier.copyAll(entitiesToCopy, ElementCopier.projected(returnType, projection),
+                new ArrayList<>(entitiesToCopy.size()));
+    }
+
+    public static <T> Stream<T> copyAllObjectsFromStream(Stream<T> entitiesToCopy) {
+        return copyLazily(entitiesToCopy, ElementCopier.sameType());
+    }
+
+    /**
+     * <strong>Método que retorna um {@link Stream} com as cópias dos objetos do
+     * {@link Stream} informado.</strong>
+     *
+     * <p>
+     * As cópias são feitas sob demanda, conforme o {@link Stream} retornado é
+     * consumido, de forma que nem os objetos de origem nem as cópias precisam
+     * estar todos em memória ao mesmo tempo. Um {@link Stream} vazio resulta em
+     * um {@link Stream} vazio. Como a cópia é feita durante o consumo, os erros
+     * são lançados como {@link UncheckedObjectFactoryUtilException}. Para
+     * consumir o resultado como {@link Iterator}, basta utilizar o
+     * {@link Stream#iterator()}.
+     * <p>
+     *
+     * @param <T>            tipo dos objetos retornados
+     * @param entitiesToCopy - {@linkplain Stream}&lt?&gt
+     * @param returnType     - {@linkplain Class}&ltT&gt
+     * @return {@linkplain Stream}&ltT&gt
+     */
+    public static <T> Stream<T> copyAllObjectsFromStream(Stream<?> entitiesToCopy, Class<T> returnType) {
+        return copyLazily(entitiesToCopy, ElementCopier.to(returnType));
+    }
+
+    public static <T> Stream<T> copyAllObjectsFromIterator(Iterator<T> entitiesToCopy) {
+        return copyAllObjectsFromSpliterator(Spliterators.spliteratorUnknownSize(
+                Objects.requireNonNull(entitiesToCopy, NULL_SOURCE_MESSAGE), Spliterator.ORDERED));
+    }
+
+    /**
+     * <strong>Método que retorna um {@link Stream} com as cópias dos objetos do
+     * {@link Iterator} informado, como um cursor paginado de banco de
+     * dados.</strong> Mesma lógica do
+     * {@link #copyAllObjectsFromStream(Stream, Class)
+     * copyAllObjectsFromStream}.
+     *
+     * @param <T>            tipo dos objetos retornados
+     * @param entitiesToCopy - {@linkplain Iterator}&lt?&gt
+     * @param returnType     - {@linkplain Class}&ltT&gt
+     * @return {@linkplain Stream}&ltT&gt
+     */
+    public static <T> Stream<T> copyAllObjectsFromIterator(Iterator<?> entitiesToCopy, Class<T> returnType) {
+        return copyAllObjectsFromSpliterator(Spliterators.spliteratorUnknownSize(
+                Objects.requireNonNull(entitiesToCopy, NULL_SOURCE_MESSAGE), Spliterator.ORDERED), returnType);
+    }
+
+    public static <T> Stream<T> copyAllObjectsFromSpliterator(Spliterator<T> entitiesToCopy) {
+        return copyAllObjectsFromStream(StreamSupport.stream(
+                Objects.requireNonNull(entitiesToCopy, NULL_SOURCE_MESSAGE), false));
+    }
+
+    /**
+     * <strong>Método que retorna um {@link Stream} com as cópias dos objetos do
+     * {@link Spliterator} informado.</strong> Mesma lógica do
+     * {@link #copyAllObjectsFromStream(Stream, Class)
+     * copyAllObjectsFromStream}.
+     *
+     * @param <T>            tipo dos objetos retornados
+     * @param entitiesToCopy - {@linkplain Spliterator}&lt?&gt
+     * @param returnType     - {@linkplain Class}&ltT&gt
+     * @return {@linkplain Stream}&ltT&gt
+     */
+    public static <T> Stream<T> copyAllObjectsFromSpliterator(Spliterator<?> entitiesToCopy, Class<T> returnType) {
+        return copyAllObjectsFromStream(StreamSupport.stream(
+                Objects.requireNonNull(entitiesToCopy, NULL_SOURCE_MESSAGE), false), returnType);
+    }
+
+    private static <S, T> Stream<T> copyLazily(Stream<? extends S> entitiesToCopy, ElementCopier<S, T> copier) {
+        return Objects.requireNonNull(entitiesToCopy, NULL_SOURCE_MESSAGE).map(entity -> {
+            try {
+                return copier.apply(entity);
+            } catch (ObjectFactoryUtilException ex) {
+                throw new UncheckedObjectFactoryUtilException(ex);
+            }
+        });
+    }
+
+    private static <T, U> void verifyCollectionAndSupplier(Collection<T> entitiesToCopy, Supplier<U> supplier) throws ObjectFactoryUtilException {
+        verifyCollection(entitiesToCopy);
+        if (supplier == null) {
+            throw new ObjectFactoryUtilException("O tipo de coleção especificada para retorno é nulo.");
+        }
+    }
+
+    private static <T> void verifyCollection(Collection<T> entitiesToCopy) throws ObjectFactoryUtilException {
+        if (CollectionUtils.isEmpty(entitiesToCopy)) {
+            throw new ObjectFactoryUtilException("A lista a ser copiada não possui elementos.");
+        }
+    }
+
+    /**
+     * <strong>Método que retorna um objeto copiado à partir de outro de tipo
+     * DIFERENTE.Utiliza a lógica do
+     * {@linkplain #createFromObject(Object, Object) createFromObject} para
+     * copiar </strong>
+     *
+     * @param <T>        tipo do objeto de retorno
+     * @param <S>        tipo do objeto copiado
+     * @param source     S
+     * @param returnType {@linkplain Class}&ltT&gt
+     * @return T
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, S> T createFromObject(S source, Class<T> returnType) throws ObjectFactoryUtilException {
+        verifySourceObject(source);
+        return (T) create(source, returnType);
+    }
+
+    /**
+     * <strong>Método que retorna um objeto da classe informada, copiando de
+     * source apenas os campos da {@link Projection} informada.</strong>
+     *
+     * <p>
+     * Mesma lógica do {@link #createFromObject(Object, Class)
+     * createFromObject}, porém os campos fora da projeção não são lidos nem
+     * copiados, mantendo o valor padrão da classe de destino, e os objetos
+     * aninhados, coleções e arrays com caminhos projetados (como
+     * <i>"bar.barName"</i>) são criados apenas com esses campos. Útil quando
+     * apenas alguns campos de um objeto grande são necessários, evitando a
+     * cópia de coleções aninhadas que seriam descartadas. Os planos de cópia
+     * ficam em cache na própria projeção, que deve ser reutilizada entre as
+     * chamadas.
+     * <p>
+     *
+     * @param <T>        tipo do objeto de retorno
+     * @param <S>        tipo do objeto copiado
+     * @param source     S
+     * @param returnType {@linkplain Class}&ltT&gt
+     * @param projection {@linkplain Projection}
+     * @return T
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    public static <T, S> T createFromObject(S source, Class<T> returnType, Projection projection)
+            throws ObjectFactoryUtilException {
+        verifySourceObject(source);
+        verifyProjection(projection);
+        return ElementCopier.<S, T>projected(returnType, projection).apply(source);
+    }
+
+    /**
+     * <strong>Método para retornar um novo objeto criado. Mesma lógica de cópia
+     * do {@link #createFromObject(Object, Object) createFromObject}.</strong>
+     *
+     * @param <T>    - Tipo do retorno e do objeto copiado
+     * @param source T
+     * @return {@link Object}
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T createFromObject(T source) throws ObjectFactoryUtilException {
+        verifySourceObject(source);
+        return (T) create(source, source.getClass());
+    }
+
+    /**
+     * <strong>Cria a cópia de source na classe informada.</strong> Classes com
+     * {@link CreationPlan plano de criação} (como <i>records</i>) recebem os
+     * valores na própria criação; as demais são instanciadas e preenchidas pelo
+     * {@link #createFromObject(Object, Object) createFromObject}.
+     */
+    private static Object create(Object source, Class<?> destClass) throws ObjectFactoryUtilException {
+        CreationPlan plan = CreationPlan.of(source.getClass(), destClass);
+        if (plan == null) {
+            Object dest = Instantiators.newInstance(destClass);
+            createFromObject(source, dest);
+            return dest;
+        }
+        CopyContext context = CopyContext.open();
+        try {
+            return plan.create(source);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * <strong>Método para criar um novo objeto (dest) a partir de um outro
+     * objeto do mesmo tipo (source).</strong>
+     *
+     * <p>
+     * Caso origem e destino sejam exatamente da mesma classe e exista um
+     * {@link ObjectCopier} gerado para ela, a cópia é feita por ele, sem
+     * reflexão. Caso contrário, obtém o {@link CopyPlan} do par de classes
+     * envolvido, que é compilado apenas na primeira cópia e mantido em cache.
+     * Na compilação, são obtidos os campos do objeto de origem, dos quais os
+     * valores serão copiados, excluindo os campos definidos no parâmetro
+     * {@link ObjectConstructor#exclude() exclude} da Annotation
+     * {@link ObjectConstructor}, o campo correspondente de cada um deles no
+     * objeto de destino e a forma de conversão do valor. A cópia em si apenas
+     * percorre os pares de campos já resolvidos. Os objetos aninhados são
+     * copiados da mesma forma, pelo {@link ObjectGraphCopier}, dentro de um
+     * mesmo {@link CopyContext} quando a
+     * {@link ObjectFactoryUtilConfig#isPreserveIdentity() preservação de
+     * identidade} estiver habilitada.
+     * <p>
+     *
+     * @param <T>    method type definer
+     * @param <S>    method type definer
+     * @param source &lt T &gt
+     * @param dest   &lt T &gt
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    public static <T, S> void createFromObject(S source, T dest) throws ObjectFactoryUtilException {
+        verifySourceAndDestObjects(source, dest);
+        CopyContext context = CopyContext.open();
+        try {
+            if (context != null) {
+                context.putCopy(source, dest);
+            }
+            ObjectGraphCopier.copyProperties(source, dest);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * <strong>Versão assíncrona do {@link #createFromObject(Object)
+     * createFromObject}, executada no
+     * {@link ObjectFactoryUtilConfig#getAsyncExecutor() executor
+     * configurado}.</strong>
+     *
+     * @param <T>    - Tipo do retorno e do objeto copiado
+     * @param source T
+     * @return {@link CompletableFuture}&ltT&gt - concluído com a cópia, ou com
+     * a {@link ObjectFactoryUtilException} lançada na cópia
+     */
+    public static <T> CompletableFuture<T> createFromObjectAsync(T source) {
+        return createFromObjectAsync(source, ObjectFactoryUtilConfig.getAsyncExecutor());
+    }
+
+    public static <T> CompletableFuture<T> createFromObjectAsync(T source, Executor executor) {
+        return supplyAsync(() -> createFromObject(source), executor);
+    }
+
+    /**
+     * <strong>Versão assíncrona do {@link #createFromObject(Object, Class)
+     * createFromObject}, executada no
+     * {@link ObjectFactoryUtilConfig#getAsyncExecutor() executor
+     * configurado}.</strong>
+     *
+     * @param <T>        tipo do objeto de retorno
+     * @param <S>        tipo do objeto copiado
+     * @param source     S
+     * @param returnType {@linkplain Class}&ltT&gt
+     * @return {@link CompletableFuture}&ltT&gt - concluído com a cópia, ou com
+     * a {@link ObjectFactoryUtilException} lançada na cópia
+     */
+    public static <T, S> CompletableFuture<T> createFromObjectAsync(S source, Class<T> returnType) {
+        return createFromObjectAsync(source, returnType, ObjectFactoryUtilConfig.getAsyncExecutor());
+    }
+
+    public static <T, S> CompletableFuture<T> createFromObjectAsync(S source, Class<T> returnType, Executor executor) {
+        return supplyAsync(() -> createFromObject(source, returnType), executor);
+    }
+
+    /**
+     * <strong>Versão assíncrona do
+     * {@link #copyAllObjectsFromCollection(Collection, Class)
+     * copyAllObjectsFromCollection}, executada no
+     * {@link ObjectFactoryUtilConfig#getAsyncExecutor() executor
+     * configurado}.</strong>
+     *
+     * @param <T>            tipo dos objetos da lista de retorno
+     * @param entitiesToCopy - {@linkplain Collection}&lt?&gt
+     * @param returnType     - {@linkplain Class}&ltT&gt
+     * @return {@link CompletableFuture}&lt{@link List}&ltT&gt&gt - concluído
+     * com as cópias, ou com a {@link ObjectFactoryUtilException} lançada na
+     * cópia
+     */
+    public static <T> CompletableFuture<List<T>> copyAllObjectsFromCollectionAsync(Collection<?> entitiesToCopy, Class<T> returnType) {
+        return copyAllObjectsFromCollectionAsync(entitiesToCopy, returnType, ObjectFactoryUtilConfig.getAsyncExecutor());
+    }
+
+    public static <T> CompletableFuture<List<T>> copyAllObjectsFromCollectionAsync(Collection<?> entitiesToCopy, Class<T> returnType,
+                                                                                   Executor executor) {
+        return supplyAsync(() -> copyAllObjectsFromCollection(entitiesToCopy, returnType), executor);
+    }
+
+    public static <T> CompletableFuture<List<T>> copyAllObjectsFromCollectionAsync(Collection<T> entitiesToCopy) {
+        return copyAllObjectsFromCollectionAsync(entitiesToCopy, ObjectFactoryUtilConfig.getAsyncExecutor());
+    }
+
+    public static <T> CompletableFuture<List<T>> copyAllObjectsFromCollectionAsync(Collection<T> entitiesToCopy, Executor executor) {
+        return supplyAsync(() -> copyAllObjectsFromCollection(entitiesToCopy), executor);
+    }
+
+    /**
+     * <strong>Executa a cópia no {@link Executor} informado, concluindo o
+     * {@link CompletableFuture} com a própria exception lançada, sem o
+     * encapsulamento do {@link CompletableFuture#supplyAsync(Supplier, Executor)
+     * supplyAsync}.</strong>
+     *
+     * @param <T>      tipo do retorno
+     * @param task     - cópia a ser executada
+     * @param executor - {@link Executor}
+     * @return {@link CompletableFuture}&ltT&gt
+     */
+    private static <T> CompletableFuture<T> supplyAsync(AsyncCopy<T> task, Executor executor) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(task.copy());
+                } catch (Throwable ex) {
+                    future.completeExceptionally(ex);
+                }
+            });
+        } catch (RuntimeException ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    @FunctionalInterface
+    private interface AsyncCopy<T> {
+
+        T copy() throws ObjectFactoryUtilException;
+    }
+
+    /**
+     * <strong>Método para copiar os valores de source sobre um objeto dest já
+     * existente, reaproveitando os objetos aninhados, as coleções e os arrays
+     * que dest já possuir.</strong>
+     *
+     * <p>
+     * Mesma lógica do {@link #createFromObject(Object, Object)
+     * createFromObject}, porém, quando o campo de dest já possui um objeto da
+     * mesma classe que seria criada, os valores são copiados sobre ele, ao
+     * invés de uma nova instância. Da mesma forma, {@link Collection}s e
+     * {@link Map}s modificáveis são esvaziados e preenchidos novamente (nas
+     * {@link List}s, cada elemento é copiado sobre o elemento da mesma
+     * posição), e arrays de mesmo tamanho são sobrescritos. Campos não
+     * copiados (como os do {@link ObjectConstructor#exclude() exclude})
+     * mantêm os valores atuais de dest.
+     * <p>
+     *
+     * @param <T>    method type definer
+     * @param <S>    method type definer
+     * @param source &lt S &gt
+     * @param dest   &lt T &gt
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    public static <T, S> void copyInto(S source, T dest) throws ObjectFactoryUtilException {
+        verifySourceAndDestObjects(source, dest);
+        CopyContext context = CopyContext.open();
+        try {
+            if (context != null) {
+                context.putCopy(source, dest);
+            }
+            ObjectGraphCopier.copyPropertiesInto(source, dest);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * <strong>Método para sincronizar um objeto dest já existente com os
+     * valores de source, atribuindo apenas os campos cujos valores forem
+     * diferentes.</strong>
+     *
+     * <p>
+     * Diferente do {@link #copyInto(Object, Object) copyInto}, que sobrescreve
+     * todos os campos, os valores de source e dest são comparados e os campos
+     * iguais não são alterados. Objetos aninhados são sincronizados
+     * recursivamente, e os elementos de {@link Collection}s são associados pelo
+     * campo anotado com {@link SyncKey} (ou pela posição, nas {@link List}s),
+     * de forma que apenas os elementos novos são copiados e os que não existem
+     * mais em source são removidos. Útil para aplicar o resultado de uma
+     * consulta sobre objetos já gerenciados (como entidades JPA ou estados de
+     * interface), em que cada escrita desnecessária tem custo.
+     * <p>
+     *
+     * @param <T>    method type definer
+     * @param <S>    method type definer
+     * @param source &lt S &gt
+     * @param dest   &lt T &gt
+     * @return {@link SyncResult} - quantidade de campos e elementos alterados
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    public static <T, S> SyncResult sync(S source, T dest) throws ObjectFactoryUtilException {
+        verifySourceAndDestObjects(source, dest);
+        CopyContext context = CopyContext.open();
+        try {
+            if (context != null) {
+                context.putCopy(source, dest);
+            }
+            return ObjectSynchronizer.sync(source, dest);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static <T, S> void verifySourceAndDestObjects(S source, T dest) throws ObjectFactoryUtilException {
+        verifySourceObject(source);
+        if (dest == null) {
+            throw new ObjectFactoryUtilException("O objeto de destino é nulo!");
+        }
+    }
+
+    private static void verifyProjection(Projection projection) throws ObjectFactoryUtilException {
+        if (projection == null) {
+            throw new ObjectFactoryUtilException("A projeção especificada é nula.");
+        }
+    }
+
+    private static <S> void verifySourceObject(S source) throws ObjectFactoryUtilException {
+        if (source == null) {
+            throw new ObjectFactoryUtilException("O objeto a ser copiado é nulo!");
+        }
+    }
+}
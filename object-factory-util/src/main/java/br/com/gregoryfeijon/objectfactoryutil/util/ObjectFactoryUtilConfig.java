@@ -0,0 +1,281 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 18/10/2026
+ *
+ * <p>
+ * <strong>Configurações globais do mecanismo de cópia da
+ * {@link ObjectFactoryUtil}.</strong>
+ * </p>
+ *
+ * <p>
+ * Os valores iniciais podem ser definidos via <i>system properties</i>, e
+ * alterados em tempo de execução pelos respectivos setters.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public final class ObjectFactoryUtilConfig {
+
+    public static final String TIERED_THRESHOLD_PROPERTY = "objectfactoryutil.tiered.threshold";
+    public static final String COPY_STRATEGY_PROPERTY = "objectfactoryutil.copy.strategy";
+    public static final String PRESERVE_IDENTITY_PROPERTY = "objectfactoryutil.preserve.identity";
+    public static final String PARALLEL_THRESHOLD_PROPERTY = "objectfactoryutil.parallel.threshold";
+    public static final String PARALLELISM_PROPERTY = "objectfactoryutil.parallel.parallelism";
+    public static final String INSTANTIATION_FALLBACK_PROPERTY = "objectfactoryutil.instantiation.fallback";
+    public static final String LAZY_COPY_PROPERTY = "objectfactoryutil.lazy.copy";
+
+    private static volatile int tieredThreshold = Integer.getInteger(TIERED_THRESHOLD_PROPERTY, 1000);
+    private static volatile CopyStrategy copyStrategy =
+            CopyStrategy.valueOf(System.getProperty(COPY_STRATEGY_PROPERTY, CopyStrategy.REFLECTION.name()));
+    private static volatile boolean preserveIdentity = Boolean.getBoolean(PRESERVE_IDENTITY_PROPERTY);
+    private static volatile int parallelThreshold = Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY, -1);
+    private static volatile int parallelism =
+            Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors());
+    private static volatile boolean instantiationFallback = Boolean.getBoolean(INSTANTIATION_FALLBACK_PROPERTY);
+    private static volatile boolean lazyCopy = Boolean.getBoolean(LAZY_COPY_PROPERTY);
+    private static volatile Executor parallelExecutor = ForkJoinPool.commonPool();
+    private static volatile Executor asyncExecutor = AsyncExecutors.defaultExecutor();
+    private static final ConcurrentMap<Class<?>, Class<?>> COLLECTION_IMPLEMENTATIONS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, TypeConverter<?, ?>>> CONVERTERS = new ConcurrentHashMap<>();
+
+    private ObjectFactoryUtilConfig() {
+    }
+
+    /**
+     * <strong>Quantidade de cópias de um mesmo par de classes a partir da qual
+     * o seu plano de cópia é compilado em um único
+     * {@link java.lang.invoke.MethodHandle}.</strong> Valores negativos
+     * desabilitam a compilação.
+     *
+     * @return int
+     */
+    public static int getTieredThreshold() {
+        return tieredThreshold;
+    }
+
+    public static void setTieredThreshold(int tieredThreshold) {
+        ObjectFactoryUtilConfig.tieredThreshold = tieredThreshold;
+    }
+
+    /**
+     * <strong>Estratégia utilizada na cópia dos objetos aninhados.</strong> O
+     * padrão é {@link CopyStrategy#REFLECTION}; o {@link CopyStrategy#GSON}
+     * permanece disponível como alternativa.
+     *
+     * @return {@link CopyStrategy}
+     */
+    public static CopyStrategy getCopyStrategy() {
+        return copyStrategy;
+    }
+
+    public static void setCopyStrategy(CopyStrategy copyStrategy) {
+        ObjectFactoryUtilConfig.copyStrategy = Objects.requireNonNull(copyStrategy);
+    }
+
+    /**
+     * <strong>Indica se as cópias preservam a identidade dos objetos.</strong>
+     *
+     * <p>
+     * Quando habilitado, cada objeto de origem é copiado uma única vez por
+     * operação: um mesmo objeto referenciado em mais de um ponto do grafo (por
+     * exemplo, em um atributo e em uma lista) resulta em uma única cópia,
+     * referenciada nos mesmos pontos, e grafos cíclicos são copiados sem
+     * recursão infinita. Um mesmo objeto copiado para campos de tipos
+     * diferentes resulta em uma cópia por tipo. No
+     * {@link ObjectFactoryUtil#copyAllObjectsFromCollection(java.util.Collection)
+     * copyAllObjectsFromCollection}, a operação abrange toda a coleção, que
+     * passa a ser copiada sequencialmente; nos
+     * {@link java.util.stream.Stream Stream}s, cada elemento é uma operação.
+     * </p>
+     *
+     * @return boolean
+     */
+    public static boolean isPreserveIdentity() {
+        return preserveIdentity;
+    }
+
+    public static void setPreserveIdentity(boolean preserveIdentity) {
+        ObjectFactoryUtilConfig.preserveIdentity = preserveIdentity;
+    }
+
+    /**
+     * <strong>Indica se as classes de destino sem construtor sem argumentos
+     * podem ser instanciadas sem a execução de nenhum construtor.</strong>
+     *
+     * <p>
+     * Desabilitado por padrão: nesse caso, a cópia para essas classes lança
+     * uma {@link br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException
+     * ObjectFactoryUtilException} e os objetos aninhados dessas classes são
+     * copiados via {@link com.google.gson.Gson Gson}. Quando habilitado, as
+     * instâncias são criadas como na desserialização, sem que nem os valores
+     * das declarações dos campos sejam atribuídos, e então preenchidas pela
+     * cópia.
+     * </p>
+     *
+     * @return boolean
+     */
+    public static boolean isInstantiationFallback() {
+        return instantiationFallback;
+    }
+
+    public static void setInstantiationFallback(boolean instantiationFallback) {
+        ObjectFactoryUtilConfig.instantiationFallback = instantiationFallback;
+    }
+
+    /**
+     * <strong>Indica se os campos declarados com interfaces são copiados de
+     * forma tardia.</strong>
+     *
+     * <p>
+     * Desabilitado por padrão. Quando habilitado, os campos declarados como
+     * {@link java.util.List List}, {@link java.util.Set Set}, {@link Collection},
+     * {@link Map} ou com interfaces da própria aplicação recebem um
+     * <i>wrapper</i> (ou um {@link java.lang.reflect.Proxy Proxy}) que só faz
+     * a cópia do valor de origem no primeiro acesso. Como a cópia é feita no
+     * momento do acesso, alterações feitas no valor de origem até lá são
+     * refletidas na cópia. Não se aplica às cópias no modo de
+     * {@link #isPreserveIdentity() preservação de identidade}, que precisam
+     * copiar todo o grafo na mesma operação.
+     * </p>
+     *
+     * @return boolean
+     */
+    public static boolean isLazyCopy() {
+        return lazyCopy;
+    }
+
+    public static void setLazyCopy(boolean lazyCopy) {
+        ObjectFactoryUtilConfig.lazyCopy = lazyCopy;
+    }
+
+    /**
+     * <strong>Implementação utilizada nas cópias de campos declarados com o
+     * tipo de {@link Collection} ou {@link Map} informado.</strong>
+     *
+     * <p>
+     * Por padrão, a cópia preserva a classe da coleção de origem, quando
+     * possível. A implementação configurada tem precedência sobre ela e é
+     * considerada na primeira cópia de cada campo, devendo ser registrada na
+     * inicialização da aplicação.
+     * </p>
+     *
+     * @param declaredType - {@link Class}&lt?&gt - tipo declarado no campo
+     * @return {@link Class}&lt?&gt - a implementação configurada ou null
+     */
+    public static Class<?> getCollectionImplementation(Class<?> declaredType) {
+        return COLLECTION_IMPLEMENTATIONS.get(declaredType);
+    }
+
+    public static <T> void setCollectionImplementation(Class<T> declaredType, Class<? extends T> implementation) {
+        if (!Collection.class.isAssignableFrom(declaredType) && !Map.class.isAssignableFrom(declaredType)) {
+            throw new IllegalArgumentException(declaredType.getName() + " não é uma Collection ou um Map.");
+        }
+        COLLECTION_IMPLEMENTATIONS.put(declaredType, Objects.requireNonNull(implementation));
+    }
+
+    /**
+     * <strong>{@link TypeConverter} registrado para a conversão entre os tipos
+     * informados.</strong>
+     *
+     * <p>
+     * Os conversores registrados têm precedência sobre os embutidos e sobre o
+     * tratamento padrão de cada tipo. São considerados na compilação do plano
+     * de cópia de cada par de classes, devendo ser registrados na
+     * inicialização da aplicação. Tipos primitivos devem ser registrados pelos
+     * seus <i>wrappers</i>.
+     * </p>
+     *
+     * @param sourceType - {@link Class}&lt?&gt - tipo do campo de origem
+     * @param destType   - {@link Class}&lt?&gt - tipo do campo de destino
+     * @return {@link TypeConverter}&lt?, ?&gt - o conversor registrado ou null
+     */
+    public static TypeConverter<?, ?> getConverter(Class<?> sourceType, Class<?> destType) {
+        Map<Class<?>, TypeConverter<?, ?>> converters = CONVERTERS.get(sourceType);
+        return converters != null ? converters.get(destType) : null;
+    }
+
+    public static <S, T> void registerConverter(Class<S> sourceType, Class<T> destType,
+                                                TypeConverter<? super S, ? extends T> converter) {
+        Objects.requireNonNull(converter);
+        CONVERTERS.computeIfAbsent(TypeConverters.box(sourceType), key -> new ConcurrentHashMap<>())
+                .put(TypeConverters.box(destType), converter);
+    }
+
+    /**
+     * <strong>Quantidade de elementos a partir da qual o
+     * {@link ObjectFactoryUtil#copyAllObjectsFromCollection(java.util.Collection)
+     * copyAllObjectsFromCollection} copia os elementos em paralelo.</strong>
+     *
+     * <p>
+     * Por padrão (valores negativos), a cópia em paralelo fica desabilitada,
+     * pois os objetos de origem passam a ser lidos por outras threads, o que
+     * não é seguro, por exemplo, para entidades com relacionamentos
+     * carregados sob demanda.
+     * </p>
+     *
+     * @return int
+     */
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public static void setParallelThreshold(int parallelThreshold) {
+        ObjectFactoryUtilConfig.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * <strong>Quantidade máxima de threads, incluindo a thread chamadora,
+     * utilizadas em uma mesma cópia em paralelo.</strong> O padrão é a
+     * quantidade de processadores disponíveis.
+     *
+     * @return int
+     */
+    public static int getParallelism() {
+        return parallelism;
+    }
+
+    public static void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("O paralelismo deve ser maior que zero.");
+        }
+        ObjectFactoryUtilConfig.parallelism = parallelism;
+    }
+
+    /**
+     * <strong>{@link Executor} das cópias em paralelo.</strong> O padrão é o
+     * {@link ForkJoinPool#commonPool()}.
+     *
+     * @return {@link Executor}
+     */
+    public static Executor getParallelExecutor() {
+        return parallelExecutor;
+    }
+
+    public static void setParallelExecutor(Executor parallelExecutor) {
+        ObjectFactoryUtilConfig.parallelExecutor = Objects.requireNonNull(parallelExecutor);
+    }
+
+    /**
+     * <strong>{@link Executor} padrão das cópias assíncronas.</strong> Até o
+     * Java 20, o padrão é o {@link ForkJoinPool#commonPool()}; a partir do Java
+     * 21, uma thread virtual por cópia.
+     *
+     * @return {@link Executor}
+     */
+    public static Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    public static void setAsyncExecutor(Executor asyncExecutor) {
+        ObjectFactoryUtilConfig.asyncExecutor = Objects.requireNonNull(asyncExecutor);
+    }
+}
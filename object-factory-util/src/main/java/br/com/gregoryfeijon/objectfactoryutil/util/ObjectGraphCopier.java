@@ -0,0 +1,389 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Cópia direta do grafo de objetos, sem passar por serialização.</strong>
+ *
+ * <p>
+ * Os objetos aninhados (como o <i>bar</i> de um <i>Foo</i>) são instanciados e
+ * preenchidos com o mesmo mecanismo do objeto principal: um
+ * {@link ObjectCopier} gerado, quando existir, ou o {@link CopyPlan} do par de
+ * classes. A forma de copiar cada classe encontrada em tempo de execução é
+ * resolvida uma única vez por campo e mantida em cache, de forma que valores
+ * sempre da mesma classe não repetem nenhuma análise.
+ * <p>
+ *
+ * <p>
+ * Classes do próprio JDK que não são tratadas de forma específica, classes
+ * abstratas e classes sem construtor sem argumentos (sem o
+ * {@link ObjectFactoryUtilConfig#isInstantiationFallback() fallback} de
+ * instanciação habilitado) continuam sendo copiadas
+ * via {@link com.google.gson.Gson Gson}, assim como todos os objetos aninhados
+ * quando a estratégia {@link CopyStrategy#GSON} estiver configurada.
+ * <p>
+ *
+ * <p>
+ * Coleções e mapas são copiados pelos {@link CollectionCopiers}, e arrays
+ * pelos {@link ArrayCopiers}. No modo de
+ * {@link ObjectFactoryUtilConfig#isPreserveIdentity() preservação de
+ * identidade}, cada objeto e coleção copiados são registrados no
+ * {@link CopyContext} da operação antes de terem seus valores copiados, de
+ * forma que referências repetidas ou cíclicas reutilizem a mesma cópia.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+final class ObjectGraphCopier {
+
+    private static final ClassValue<Boolean> BEAN_TYPES = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return !type.isPrimitive() && !type.isArray() && !Enum.class.isAssignableFrom(type)
+                    && !Collection.class.isAssignableFrom(type) && !Map.class.isAssignableFrom(type)
+                    && !ImmutableTypes.isImmutable(type) && !ReflectionUtil.isWrapperType(type) && !isJdkType(type)
+                    && !LazyCopies.isLazyType(type);
+        }
+    };
+
+    private ObjectGraphCopier() {
+    }
+
+    /**
+     * <strong>Método que copia os valores de source para dest, utilizando o
+     * {@link ObjectCopier} gerado para a classe ou o {@link CopyPlan} do par de
+     * classes.</strong>
+     *
+     * @param source {@link Object}
+     * @param dest   {@link Object}
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    @SuppressWarnings("unchecked")
+    static void copyProperties(Object source, Object dest) throws ObjectFactoryUtilException {
+        if (source.getClass() == dest.getClass()) {
+            ObjectCopier<Object> copier = (ObjectCopier<Object>) ObjectCopiers.get(source.getClass());
+            if (copier != null) {
+                copier.copy(source, dest);
+                return;
+            }
+        }
+        CopyPlan.of(source.getClass(), dest.getClass()).execute(source, dest);
+    }
+
+    /**
+     * <strong>Método que copia os valores de source para dest, reaproveitando
+     * os objetos, coleções e arrays já presentes nos campos de dest.</strong>
+     *
+     * <p>
+     * Sempre utiliza o {@link CopyPlan} do par de classes, já que os
+     * {@link ObjectCopier}s gerados apenas criam novas instâncias.
+     * <p>
+     *
+     * @param source {@link Object}
+     * @param dest   {@link Object}
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    static void copyPropertiesInto(Object source, Object dest) throws ObjectFactoryUtilException {
+        CopyPlan.of(source.getClass(), dest.getClass()).executeInto(source, dest);
+    }
+
+    /**
+     * <strong>Método que resolve, para uso repetido, a forma de copiar os
+     * valores entre as classes informadas, com as mesmas regras do
+     * {@link #copyProperties(Object, Object) copyProperties}.</strong>
+     *
+     * @param sourceClass - {@link Class}&lt?&gt
+     * @param destClass   - {@link Class}&lt?&gt
+     * @return {@link PropertiesCopier}
+     */
+    @SuppressWarnings("unchecked")
+    static PropertiesCopier propertiesCopier(Class<?> sourceClass, Class<?> destClass) {
+        if (sourceClass == destClass) {
+            ObjectCopier<Object> copier = (ObjectCopier<Object>) ObjectCopiers.get(sourceClass);
+            if (copier != null) {
+                return copier::copy;
+            }
+        }
+        return CopyPlan.of(sourceClass, destClass)::execute;
+    }
+
+    /**
+     * <strong>Método que retorna o {@link ValueCopier} de um campo de objeto,
+     * declarado com o tipo informado.</strong>
+     *
+     * @param declaredType - {@link Class}&lt?&gt - tipo declarado no destino
+     * @return {@link ValueCopier}
+     */
+    static ValueCopier forDeclaredType(Class<?> declaredType) {
+        return new GraphValueCopier(declaredType);
+    }
+
+    /**
+     * <strong>Método que retorna o {@link ValueCopier} da cópia de apenas um
+     * nível de um campo de objeto: uma nova instância da classe do valor, com
+     * os valores dos campos compartilhados por referência.</strong>
+     *
+     * <p>
+     * Valores imutáveis são compartilhados, {@link Collection}s, {@link Map}s
+     * e arrays seguem a cópia de um nível dos {@link CollectionCopiers} e
+     * {@link ArrayCopiers}, e os demais valores que não podem ser
+     * instanciados e preenchidos campo a campo, como os criados por um
+     * {@link CreationPlan}, são copiados por completo.
+     * <p>
+     *
+     * @param declaredType - {@link Class}&lt?&gt - tipo declarado no destino
+     * @return {@link ValueCopier}
+     * @see CopyPolicy#SHALLOW
+     */
+    static ValueCopier shallow(Class<?> declaredType) {
+        return new ShallowValueCopier(declaredType);
+    }
+
+    private static ValueCopier resolveShallow(Class<?> runtimeClass, Class<?> declaredType) {
+        if (isBeanType(runtimeClass) && !CreationPlan.hasCreator(runtimeClass)) {
+            try {
+                Supplier<?> instantiator = Instantiators.of(runtimeClass);
+                CopyPlan plan = CopyPlan.shallow(runtimeClass);
+                return value -> {
+                    Object copy = Instantiators.newInstance(instantiator);
+                    plan.execute(value, copy);
+                    return copy;
+                };
+            } catch (ObjectFactoryUtilException ex) {
+                return resolve(runtimeClass, declaredType);
+            }
+        }
+        if (ImmutableTypes.isImmutable(runtimeClass)) {
+            return ValueCopier.IDENTITY;
+        }
+        if (Collection.class.isAssignableFrom(runtimeClass) || Map.class.isAssignableFrom(runtimeClass)) {
+            return CollectionCopiers.shallow(runtimeClass);
+        }
+        if (runtimeClass.isArray()) {
+            return ArrayCopiers.shallow();
+        }
+        return resolve(runtimeClass, declaredType);
+    }
+
+    /**
+     * <strong>Método que resolve a forma de copiar um valor da classe
+     * informada, encontrada em tempo de execução.</strong>
+     *
+     * @param runtimeClass - {@link Class}&lt?&gt
+     * @param declaredType - {@link Class}&lt?&gt
+     * @return {@link ValueCopier}
+     */
+    private static ValueCopier resolve(Class<?> runtimeClass, Class<?> declaredType) {
+        if (LazyCopies.isLazyType(runtimeClass)) {
+            ValueCopier copier = forDeclaredType(declaredType);
+            return value -> {
+                Object target = LazyCopies.unwrap(value);
+                return target != value ? copier.copy(target) : ValueCopiers.gsonClone(value, declaredType);
+            };
+        }
+        if (ImmutableTypes.isImmutable(runtimeClass)) {
+            return ValueCopier.IDENTITY;
+        }
+        if (ReflectionUtil.isWrapperType(runtimeClass)) {
+            return ValueCopiers.resolve(runtimeClass, runtimeClass, runtimeClass);
+        }
+        Class<?> targetClass = declaredType.isAssignableFrom(runtimeClass) ? runtimeClass : declaredType;
+        if (Collection.class.isAssignableFrom(runtimeClass) || Map.class.isAssignableFrom(runtimeClass)) {
+            return CollectionCopiers.resolve(targetClass, targetClass);
+        }
+        if (runtimeClass.isArray()) {
+            return ArrayCopiers.forArray(targetClass);
+        }
+        if (isJdkType(targetClass) || Modifier.isAbstract(targetClass.getModifiers())) {
+            return value -> ValueCopiers.gsonClone(value, declaredType);
+        }
+        CreationPlan creation;
+        try {
+            creation = CreationPlan.of(runtimeClass, targetClass);
+        } catch (ObjectFactoryUtilException ex) {
+            return value -> {
+                throw ex;
+            };
+        }
+        if (creation != null) {
+            return creation::create;
+        }
+        Supplier<?> instantiator;
+        try {
+            instantiator = Instantiators.of(targetClass);
+        } catch (ObjectFactoryUtilException ex) {
+            return value -> ValueCopiers.gsonClone(value, targetClass);
+        }
+        return new BeanValueCopier(targetClass, instantiator);
+    }
+
+    /**
+     * <strong>Método que verifica se os valores da classe informada são
+     * objetos copiados campo a campo, ao invés de valores simples, coleções,
+     * arrays ou classes do JDK.</strong>
+     *
+     * @param clazz - {@link Class}&lt?&gt
+     * @return boolean
+     */
+    static boolean isBeanType(Class<?> clazz) {
+        return BEAN_TYPES.get(clazz);
+    }
+
+    static boolean isJdkType(Class<?> clazz) {
+        String name = clazz.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.")
+                || name.startsWith("sun.") || name.startsWith("com.sun.");
+    }
+
+    /**
+     * <strong>{@link ValueCopier} de um campo de objeto, com cache da forma de
+     * cópia da última classe encontrada em tempo de execução.</strong>
+     */
+    private static final class GraphValueCopier implements ValueCopier {
+
+        private final Class<?> declaredType;
+        private volatile RuntimeTarget last;
+
+        private GraphValueCopier(Class<?> declaredType) {
+            this.declaredType = declaredType;
+        }
+
+        @Override
+        public Object copy(Object value) throws ObjectFactoryUtilException {
+            if (value == null) {
+                return null;
+            }
+            CopyContext context = CopyContext.active();
+            if (context != null) {
+                Object copy = context.getCopy(value, declaredType);
+                if (copy != null) {
+                    return copy;
+                }
+            }
+            if (ObjectFactoryUtilConfig.getCopyStrategy() == CopyStrategy.GSON && context == null) {
+                return ValueCopiers.gsonClone(value, declaredType);
+            }
+            return target(value).copy(value);
+        }
+
+        @Override
+        public Object copyInto(Object value, Object destValue) throws ObjectFactoryUtilException {
+            if (value == null || destValue == null || destValue == value
+                    || ObjectFactoryUtilConfig.getCopyStrategy() == CopyStrategy.GSON) {
+                return copy(value);
+            }
+            CopyContext context = CopyContext.active();
+            if (context != null) {
+                Object copy = context.getCopy(value, declaredType);
+                if (copy != null) {
+                    return copy;
+                }
+            }
+            return target(value).copyInto(value, destValue);
+        }
+
+        private ValueCopier target(Object value) {
+            RuntimeTarget target = last;
+            if (target == null || target.runtimeClass != value.getClass()) {
+                target = new RuntimeTarget(value.getClass(), resolve(value.getClass(), declaredType));
+                last = target;
+            }
+            return target.copier;
+        }
+    }
+
+    /**
+     * <strong>{@link ValueCopier} da cópia de apenas um nível, com cache da
+     * forma de cópia da última classe encontrada em tempo de
+     * execução.</strong>
+     */
+    private static final class ShallowValueCopier implements ValueCopier {
+
+        private final Class<?> declaredType;
+        private volatile RuntimeTarget last;
+
+        private ShallowValueCopier(Class<?> declaredType) {
+            this.declaredType = declaredType;
+        }
+
+        @Override
+        public Object copy(Object value) throws ObjectFactoryUtilException {
+            if (value == null) {
+                return null;
+            }
+            Object target = LazyCopies.unwrap(value);
+            RuntimeTarget runtimeTarget = last;
+            if (runtimeTarget == null || runtimeTarget.runtimeClass != target.getClass()) {
+                runtimeTarget = new RuntimeTarget(target.getClass(), resolveShallow(target.getClass(), declaredType));
+                last = runtimeTarget;
+            }
+            return runtimeTarget.copier.copy(target);
+        }
+    }
+
+    /**
+     * <strong>{@link ValueCopier} de objetos copiados campo a campo, para uma
+     * nova instância ou para a instância já presente no destino.</strong>
+     */
+    private static final class BeanValueCopier implements ValueCopier {
+
+        private final Class<?> targetClass;
+        private final Supplier<?> instantiator;
+
+        private BeanValueCopier(Class<?> targetClass, Supplier<?> instantiator) {
+            this.targetClass = targetClass;
+            this.instantiator = instantiator;
+        }
+
+        @Override
+        public Object copy(Object value) throws ObjectFactoryUtilException {
+            Object copy = Instantiators.newInstance(instantiator);
+            CopyContext context = CopyContext.active();
+            if (context != null) {
+                context.putCopy(value, copy);
+            }
+            copyProperties(value, copy);
+            return copy;
+        }
+
+        @Override
+        public Object copyInto(Object value, Object destValue) throws ObjectFactoryUtilException {
+            if (destValue.getClass() != targetClass) {
+                return copy(value);
+            }
+            CopyContext context = CopyContext.active();
+            if (context != null) {
+                context.putCopy(value, destValue);
+            }
+            copyPropertiesInto(value, destValue);
+            return destValue;
+        }
+    }
+
+    private static final class RuntimeTarget {
+
+        private final Class<?> runtimeClass;
+        private final ValueCopier copier;
+
+        private RuntimeTarget(Class<?> runtimeClass, ValueCopier copier) {
+            this.runtimeClass = runtimeClass;
+            this.copier = copier;
+        }
+    }
+
+    /**
+     * <strong>Cópia dos valores entre um par de classes já resolvido.</strong>
+     */
+    @FunctionalInterface
+    interface PropertiesCopier {
+
+        void copy(Object source, Object dest) throws ObjectFactoryUtilException;
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import java.util.Collection;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Pool de instâncias de destino, reaproveitadas nas cópias em
+ * lote.</strong>
+ *
+ * <p>
+ * Nas cópias com pool, cada instância de destino é obtida pelo
+ * {@link #acquire()} e preenchida no modo
+ * {@link ObjectFactoryUtil#copyInto(Object, Object) copyInto}, reaproveitando
+ * também os objetos aninhados e as coleções que ela já possuir. Uma nova
+ * instância só é criada quando o pool está vazio. Cabe a quem consome as
+ * cópias devolvê-las pelo {@link #release(Object)} quando não forem mais
+ * utilizadas.
+ * <p>
+ *
+ * @param <T> tipo das instâncias
+ * @author gregory.feijon
+ * @see #bounded(int)
+ */
+public interface ObjectPool<T> {
+
+    /**
+     * <strong>Retira uma instância do pool.</strong>
+     *
+     * @return T - a instância, ou null se o pool estiver vazio
+     */
+    T acquire();
+
+    /**
+     * <strong>Devolve uma instância ao pool.</strong> Implementações limitadas
+     * podem descartá-la, caso estejam cheias.
+     *
+     * @param instance - T
+     */
+    void release(T instance);
+
+    default void releaseAll(Collection<? extends T> instances) {
+        for (T instance : instances) {
+            release(instance);
+        }
+    }
+
+    /**
+     * <strong>Cria um pool seguro para uso entre threads, que mantém até a
+     * quantidade de instâncias informada e não aloca memória para guardá-las
+     * ou retirá-las.</strong>
+     *
+     * @param <T>      tipo das instâncias
+     * @param capacity - int
+     * @return {@link ObjectPool}&ltT&gt
+     */
+    static <T> ObjectPool<T> bounded(int capacity) {
+        return new BoundedObjectPool<>(capacity);
+    }
+}
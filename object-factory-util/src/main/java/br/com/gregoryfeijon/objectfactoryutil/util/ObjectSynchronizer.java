@@ -0,0 +1,402 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.annotation.SyncKey;
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Sincronização de um objeto de destino já existente com os valores
+ * de um objeto de origem, alterando apenas o que for diferente.</strong>
+ *
+ * <p>
+ * Os campos sincronizados são os mesmos do {@link CopyPlan} do par de
+ * classes, e os valores novos são criados pelos mesmos {@link ValueCopier}s da
+ * cópia. Para cada campo:
+ * <ul>
+ * <li>valores simples (primitivos, <i>wrappers</i>, {@link Enum}s, tipos
+ * imutáveis e arrays) são comparados via <i>equals</i> e só são atribuídos
+ * quando diferentes;</li>
+ * <li>objetos aninhados já presentes no destino, da mesma classe que seria
+ * criada na cópia, são sincronizados recursivamente. Nos demais casos, como
+ * nas classes criadas por um {@link CreationPlan}, a cópia é comparada via
+ * <i>equals</i> com o valor atual;</li>
+ * <li>os elementos de {@link Collection}s cuja classe possua um campo anotado
+ * com {@link SyncKey} são associados pelo valor desse campo: os associados são
+ * sincronizados, os novos são copiados e os que não existem mais na origem
+ * são removidos. Sem o {@link SyncKey}, os elementos de {@link List}s são
+ * associados pela posição, e as demais coleções são substituídas por completo
+ * quando os seus elementos forem diferentes;</li>
+ * <li>os valores de {@link Map}s são associados pelas chaves;</li>
+ * <li>os campos anotados com
+ * {@link br.com.gregoryfeijon.objectfactoryutil.annotation.ShareReference
+ * ShareReference} apenas recebem a referência da origem, quando
+ * diferente.</li>
+ * </ul>
+ * Coleções e mapas que não podem ser alterados (ver
+ * {@link CollectionCopiers#isModifiable(Object)}) são substituídos por uma
+ * cópia, quando ela for diferente via <i>equals</i>, sem que eles ou os seus
+ * elementos sejam alterados.
+ * <p>
+ *
+ * <p>
+ * Cada objeto de origem é sincronizado uma única vez por operação, de forma
+ * que grafos cíclicos não provocam recursão infinita. Quando o mesmo objeto de
+ * origem é encontrado novamente, associado a outro objeto do destino, o campo
+ * passa a referenciar o objeto já sincronizado, como na origem.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+final class ObjectSynchronizer {
+
+    private static final Object UNCHANGED = new Object();
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, FieldSync[]>> PLANS = new ConcurrentHashMap<>();
+    private static final ClassValue<Optional<FieldAccessor>> KEYS = new ClassValue<Optional<FieldAccessor>>() {
+        @Override
+        protected Optional<FieldAccessor> computeValue(Class<?> type) {
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (field.isAnnotationPresent(SyncKey.class)) {
+                        return Optional.of(FieldAccessors.of(field));
+                    }
+                }
+            }
+            return Optional.empty();
+        }
+    };
+
+    private final SyncResult result = new SyncResult();
+    private final Map<Object, Object> visited = new IdentityHashMap<>();
+
+    private ObjectSynchronizer() {
+    }
+
+    /**
+     * <strong>Método que sincroniza os valores de dest com os de
+     * source.</strong>
+     *
+     * @param source - {@link Object}
+     * @param dest   - {@link Object}
+     * @return {@link SyncResult}
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    static SyncResult sync(Object source, Object dest) throws ObjectFactoryUtilException {
+        ObjectSynchronizer synchronizer = new ObjectSynchronizer();
+        synchronizer.syncObject(source, dest);
+        return synchronizer.result;
+    }
+
+    private void syncObject(Object source, Object dest) throws ObjectFactoryUtilException {
+        if (visited.put(source, dest) != null) {
+            return;
+        }
+        for (FieldSync field : plan(source.getClass(), dest.getClass())) {
+            field.sync(this, source, dest);
+        }
+    }
+
+    private static FieldSync[] plan(Class<?> sourceClass, Class<?> destClass) {
+        ConcurrentMap<Class<?>, FieldSync[]> plans = PLANS.computeIfAbsent(sourceClass, key -> new ConcurrentHashMap<>());
+        FieldSync[] plan = plans.get(destClass);
+        if (plan != null) {
+            return plan;
+        }
+        return plans.computeIfAbsent(destClass, key -> Arrays.stream(CopyPlan.of(sourceClass, destClass).getMappings())
+                .map(FieldSync::new)
+                .toArray(FieldSync[]::new));
+    }
+
+    /**
+     * <strong>Sincroniza um valor de destino com o valor de origem.</strong>
+     *
+     * @return {@link Object} - o novo valor a ser atribuído ao destino, ou
+     * {@link #UNCHANGED}, caso o valor atual deva ser mantido
+     */
+    private Object reconcile(Object sourceValue, Object destValue, Class<?> declaredType, ValueCopier copier)
+            throws ObjectFactoryUtilException {
+        if (sourceValue == null) {
+            return destValue == null ? UNCHANGED : null;
+        }
+        if (destValue == null) {
+            return copier.copy(sourceValue);
+        }
+        Object source = LazyCopies.unwrap(sourceValue);
+        Object dest = LazyCopies.unwrap(destValue);
+        Class<?> sourceClass = source.getClass();
+        if (ObjectGraphCopier.isBeanType(sourceClass)) {
+            Class<?> targetClass = declaredType.isAssignableFrom(sourceClass) ? sourceClass : declaredType;
+            if (dest.getClass() == targetClass && !CreationPlan.hasCreator(targetClass)) {
+                Object synced = visited.get(source);
+                if (synced != null && synced != dest) {
+                    return synced;
+                }
+                syncObject(source, dest);
+                return UNCHANGED;
+            }
+        } else if (sourceClass == dest.getClass() && Objects.deepEquals(source, dest)) {
+            return UNCHANGED;
+        }
+        Object copy = copier.copy(sourceValue);
+        return Objects.deepEquals(LazyCopies.unwrap(copy), dest) ? UNCHANGED : copy;
+    }
+
+    /**
+     * <strong>Sincroniza um elemento de coleção ou valor de mapa, contando-o
+     * como atualizado caso ele seja substituído ou tenha alguma alteração
+     * interna.</strong>
+     */
+    private Object reconcileElement(Object sourceValue, Object destValue, Class<?> declaredType, ValueCopier copier)
+            throws ObjectFactoryUtilException {
+        int changes = result.changes();
+        Object value = reconcile(sourceValue, destValue, declaredType, copier);
+        if (value != UNCHANGED || result.changes() != changes) {
+            result.elementUpdated();
+        }
+        return value;
+    }
+
+    private Object syncCollection(Collection<?> source, Collection<Object> dest, FieldSync field)
+            throws ObjectFactoryUtilException {
+        if (!CollectionCopiers.isModifiable(dest)) {
+            return replaceUnmodifiable(source, dest, field);
+        }
+        try {
+            if (isKeyed(source)) {
+                syncKeyed(source, dest, field);
+            } else if (source instanceof List && dest instanceof List) {
+                syncPositional(source, (List<Object>) dest, field);
+            } else if (source.size() != dest.size() || !dest.containsAll(source)) {
+                replaceContent(source, dest, field);
+            }
+            return UNCHANGED;
+        } catch (UnsupportedOperationException ex) {
+            return field.copier.copy(source);
+        }
+    }
+
+    private static boolean isKeyed(Collection<?> source) {
+        for (Object element : source) {
+            if (element != null) {
+                return KEYS.get(element.getClass()).isPresent();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <strong>Sincroniza os elementos associados pelo {@link SyncKey}.</strong>
+     * Enquanto os elementos estiverem na mesma ordem na origem e no destino,
+     * são associados pela posição, sem a criação do índice das chaves do
+     * destino.
+     */
+    private void syncKeyed(Collection<?> source, Collection<Object> dest, FieldSync field)
+            throws ObjectFactoryUtilException {
+        Object[] destElements = dest.toArray();
+        List<Object> reconciled = new ArrayList<>(source.size());
+        Map<Object, Object> byKey = null;
+        boolean structural = false;
+        int matched = 0;
+        int position = 0;
+        int updated = result.getUpdatedElements();
+        for (Object sourceElement : source) {
+            Object key = keyOf(sourceElement);
+            Object destElement = null;
+            if (byKey == null && position < destElements.length && key != null
+                    && key.equals(keyOf(destElements[position]))) {
+                destElement = destElements[position];
+            } else if (key != null) {
+                if (byKey == null) {
+                    byKey = index(destElements, position);
+                }
+                destElement = byKey.remove(key);
+            }
+            position++;
+            if (destElement == null) {
+                reconciled.add(field.elementCopier.copy(sourceElement));
+                result.elementsAdded(1);
+                structural = true;
+                continue;
+            }
+            matched++;
+            Object value = reconcileElement(sourceElement, destElement, field.elementType, field.elementCopier);
+            if (value != UNCHANGED) {
+                reconciled.add(value);
+                structural = true;
+            } else {
+                reconciled.add(destElement);
+            }
+        }
+        int removed = destElements.length - matched;
+        result.elementsRemoved(removed);
+        structural |= removed > 0 || byKey != null;
+        if (structural || !(dest instanceof List) && result.getUpdatedElements() != updated) {
+            dest.clear();
+            dest.addAll(reconciled);
+        }
+    }
+
+    private static Map<Object, Object> index(Object[] destElements, int from) throws ObjectFactoryUtilException {
+        Map<Object, Object> byKey = new HashMap<>();
+        for (int i = from; i < destElements.length; i++) {
+            Object key = keyOf(destElements[i]);
+            if (key != null) {
+                byKey.putIfAbsent(key, destElements[i]);
+            }
+        }
+        return byKey;
+    }
+
+    private static Object keyOf(Object element) throws ObjectFactoryUtilException {
+        if (element == null) {
+            return null;
+        }
+        Optional<FieldAccessor> key = KEYS.get(element.getClass());
+        return key.isPresent() ? key.get().get(element) : null;
+    }
+
+    private void syncPositional(Collection<?> source, List<Object> dest, FieldSync field) throws ObjectFactoryUtilException {
+        ListIterator<Object> iterator = dest.listIterator();
+        for (Object sourceElement : source) {
+            if (iterator.hasNext()) {
+                Object value = reconcileElement(sourceElement, iterator.next(), field.elementType, field.elementCopier);
+                if (value != UNCHANGED) {
+                    iterator.set(value);
+                }
+            } else {
+                iterator.add(field.elementCopier.copy(sourceElement));
+                result.elementsAdded(1);
+            }
+        }
+        while (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            result.elementsRemoved(1);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void replaceContent(Collection<?> source, Collection<Object> dest, FieldSync field)
+            throws ObjectFactoryUtilException {
+        Collection<Object> copy = (Collection<Object>) LazyCopies.unwrap(field.copier.copy(source));
+        int added = 0;
+        for (Object element : copy) {
+            if (!dest.contains(element)) {
+                added++;
+            }
+        }
+        int removed = 0;
+        for (Object element : dest) {
+            if (!copy.contains(element)) {
+                removed++;
+            }
+        }
+        dest.clear();
+        dest.addAll(copy);
+        result.elementsAdded(added);
+        result.elementsRemoved(removed);
+    }
+
+    private Object syncMap(Map<?, ?> source, Map<Object, Object> dest, FieldSync field) throws ObjectFactoryUtilException {
+        if (!CollectionCopiers.isModifiable(dest)) {
+            return replaceUnmodifiable(source, dest, field);
+        }
+        try {
+            for (Map.Entry<?, ?> entry : source.entrySet()) {
+                Object key = field.keyCopier.copy(entry.getKey());
+                if (dest.containsKey(key)) {
+                    Object value = reconcileElement(entry.getValue(), dest.get(key), field.elementType, field.elementCopier);
+                    if (value != UNCHANGED) {
+                        dest.put(key, value);
+                    }
+                } else {
+                    dest.put(key, field.elementCopier.copy(entry.getValue()));
+                    result.elementsAdded(1);
+                }
+            }
+            if (dest.size() > source.size()) {
+                Set<Object> keys = new HashSet<>();
+                for (Object key : source.keySet()) {
+                    keys.add(field.keyCopier.copy(key));
+                }
+                int size = dest.size();
+                dest.keySet().retainAll(keys);
+                result.elementsRemoved(size - dest.size());
+            }
+            return UNCHANGED;
+        } catch (UnsupportedOperationException ex) {
+            return field.copier.copy(source);
+        }
+    }
+
+    private static Object replaceUnmodifiable(Object source, Object dest, FieldSync field)
+            throws ObjectFactoryUtilException {
+        Object copy = field.copier.copy(source);
+        return Objects.equals(LazyCopies.unwrap(copy), dest) ? UNCHANGED : copy;
+    }
+
+    /**
+     * <strong>Sincronização de um par de campos do {@link CopyPlan}, com o
+     * tipo dos elementos já resolvido no caso de {@link Collection}s e
+     * {@link Map}s.</strong>
+     */
+    private static final class FieldSync {
+
+        private final FieldAccessor sourceAccessor;
+        private final FieldAccessor destAccessor;
+        private final ValueCopier copier;
+        private final Class<?> destType;
+        private final boolean shared;
+        private final boolean collection;
+        private final boolean map;
+        private final Class<?> elementType;
+        private final ValueCopier elementCopier;
+        private final ValueCopier keyCopier;
+
+        private FieldSync(CopyPlan.FieldMapping mapping) {
+            this.sourceAccessor = mapping.getSourceAccessor();
+            this.destAccessor = mapping.getDestAccessor();
+            this.copier = mapping.getCopier();
+            Class<?> sourceType = sourceAccessor.getField().getType();
+            Field destField = destAccessor.getField();
+            Type genericType = destField.getGenericType();
+            this.destType = destField.getType();
+            this.shared = CopyPolicy.of(sourceAccessor.getField(), destField) == CopyPolicy.SHARE
+                    && destType.isAssignableFrom(sourceType);
+            this.collection = Collection.class.isAssignableFrom(destType) && Collection.class.isAssignableFrom(sourceType);
+            this.map = Map.class.isAssignableFrom(destType) && Map.class.isAssignableFrom(sourceType);
+            int elementIndex = map ? 1 : 0;
+            this.elementType = CollectionCopiers.getTypeArgument(genericType, elementIndex);
+            this.elementCopier = CollectionCopiers.elementCopier(genericType, elementIndex);
+            this.keyCopier = map ? CollectionCopiers.elementCopier(genericType, 0) : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void sync(ObjectSynchronizer synchronizer, Object source, Object dest) throws ObjectFactoryUtilException {
+            Object sourceValue = sourceAccessor.get(source);
+            Object destValue = destAccessor.get(dest);
+            Object value;
+            if (shared) {
+                value = sourceValue == destValue ? UNCHANGED : sourceValue;
+            } else if (collection && sourceValue != null && destValue != null) {
+                value = synchronizer.syncCollection((Collection<?>) LazyCopies.unwrap(sourceValue),
+                        (Collection<Object>) LazyCopies.unwrap(destValue), this);
+            } else if (map && sourceValue != null && destValue != null) {
+                value = synchronizer.syncMap((Map<?, ?>) LazyCopies.unwrap(sourceValue),
+                        (Map<Object, Object>) LazyCopies.unwrap(destValue), this);
+            } else {
+                value = synchronizer.reconcile(sourceValue, destValue, destType, copier);
+            }
+            if (value != UNCHANGED) {
+                destAccessor.set(dest, value);
+                synchronizer.result.fieldChanged();
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Classe responsável por resolver os {@link ValueCopier}s dos campos
+ * com caminhos aninhados em uma {@link Projection}.</strong>
+ *
+ * <p>
+ * Objetos aninhados são criados apenas com os campos projetados, pelo
+ * {@link CopyPlan} ou {@link CreationPlan} da própria {@link Projection}.
+ * Em {@link Collection}s, {@link Map}s e arrays de objetos, a projeção é
+ * aplicada a cada elemento (nos {@link Map}s, aos valores). Valores que não
+ * são objetos copiados campo a campo, como os imutáveis, os de classes do JDK
+ * e os convertidos por um {@link TypeConverter}, são copiados por completo,
+ * já que não possuem campos a serem projetados.
+ * <p>
+ *
+ * <p>
+ * Como não são cópias completas da origem, os valores projetados não são
+ * registrados no {@link CopyContext}. Os campos copiados por completo dentro
+ * deles seguem normalmente a
+ * {@link ObjectFactoryUtilConfig#isPreserveIdentity() preservação de
+ * identidade}.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+final class ProjectedCopiers {
+
+    private ProjectedCopiers() {
+    }
+
+    /**
+     * <strong>Método que retorna o {@link ValueCopier} que aplica a projeção
+     * informada aos valores de um campo.</strong>
+     *
+     * @param sourceType  - {@link Class}&lt?&gt - tipo declarado na origem
+     * @param destType    - {@link Class}&lt?&gt - tipo declarado no destino
+     * @param genericType - {@link Type} - tipo genérico declarado no destino
+     * @param projection  - {@link Projection} - projeção dos caminhos aninhados
+     *                    no campo
+     * @return {@link ValueCopier}
+     */
+    static ValueCopier resolve(Class<?> sourceType, Class<?> destType, Type genericType, Projection projection) {
+        if (sourceType != destType && TypeConverters.resolve(sourceType, destType) != null) {
+            return ValueCopiers.resolve(sourceType, destType, genericType);
+        }
+        if (Collection.class.isAssignableFrom(destType) && Collection.class.isAssignableFrom(sourceType)) {
+            Class<?> elementType = CollectionCopiers.getTypeArgument(genericType, 0);
+            return CollectionCopiers.withElementCopier(destType, genericType, forDeclaredType(elementType, projection));
+        }
+        if (Map.class.isAssignableFrom(destType) && Map.class.isAssignableFrom(sourceType)) {
+            Class<?> valueType = CollectionCopiers.getTypeArgument(genericType, 1);
+            return CollectionCopiers.withElementCopier(destType, genericType, forDeclaredType(valueType, projection));
+        }
+        if (destType.isArray() && sourceType.isArray() && !destType.getComponentType().isPrimitive()) {
+            return forArray(destType.getComponentType(), forDeclaredType(destType.getComponentType(), projection));
+        }
+        if (destType.isPrimitive() || destType.isArray() || destType.isEnum() || sourceType.isPrimitive()
+                || sourceType.isArray() || sourceType.isEnum()) {
+            return ValueCopiers.resolve(sourceType, destType, genericType);
+        }
+        return forDeclaredType(destType, projection);
+    }
+
+    private static ValueCopier forDeclaredType(Class<?> declaredType, Projection projection) {
+        return new ProjectedValueCopier(declaredType, projection);
+    }
+
+    private static ValueCopier forArray(Class<?> componentType, ValueCopier elementCopier) {
+        return value -> {
+            if (value == null) {
+                return null;
+            }
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(componentType, length);
+            for (int i = 0; i < length; i++) {
+                Array.set(copy, i, elementCopier.copy(Array.get(value, i)));
+            }
+            return copy;
+        };
+    }
+
+    /**
+     * <strong>{@link ValueCopier} que cria os objetos de um campo apenas com
+     * os campos projetados, na classe encontrada em tempo de execução, quando
+     * compatível com o tipo declarado, ou no próprio tipo declarado.</strong>
+     */
+    private static final class ProjectedValueCopier implements ValueCopier {
+
+        private final Class<?> declaredType;
+        private final ValueCopier fallback;
+        private final ElementCopier<Object, Object> sameType;
+        private final ElementCopier<Object, ?> converted;
+
+        private ProjectedValueCopier(Class<?> declaredType, Projection projection) {
+            this.declaredType = declaredType;
+            this.fallback = ObjectGraphCopier.forDeclaredType(declaredType);
+            this.sameType = ElementCopier.projected(null, projection);
+            this.converted = isInstantiable(declaredType) ? ElementCopier.projected(declaredType, projection) : null;
+        }
+
+        @Override
+        public Object copy(Object value) throws ObjectFactoryUtilException {
+            if (value == null) {
+                return null;
+            }
+            Object source = LazyCopies.unwrap(value);
+            Class<?> runtimeClass = source.getClass();
+            if (!ObjectGraphCopier.isBeanType(runtimeClass)) {
+                return fallback.copy(value);
+            }
+            if (declaredType.isAssignableFrom(runtimeClass)) {
+                return sameType.apply(source);
+            }
+            return converted != null ? converted.apply(source) : fallback.copy(value);
+        }
+
+        private static boolean isInstantiable(Class<?> type) {
+            return ObjectGraphCopier.isBeanType(type) && !type.isInterface() && !Modifier.isAbstract(type.getModifiers());
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.annotation.ObjectConstructor;
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Projeção dos campos a serem copiados em uma chamada, definida por
+ * caminhos de campos, como <i>"fooName"</i> ou <i>"bar.barName"</i>.</strong>
+ *
+ * <p>
+ * Diferente do {@link ObjectConstructor#exclude() exclude}, fixo para a
+ * classe de destino e restrito aos campos do primeiro nível, a projeção é
+ * informada em cada cópia e alcança os objetos aninhados:
+ * <ul>
+ * <li>{@link #of(String...)} copia apenas os caminhos informados. Um caminho
+ * que termina em um objeto (como <i>"bar"</i>) o copia por completo, enquanto
+ * <i>"bar.barName"</i> cria o <i>bar</i> apenas com o <i>barName</i>;</li>
+ * <li>{@link #allExcept(String...)} copia todos os campos, exceto os caminhos
+ * informados;</li>
+ * <li>{@link #except(String...)} remove caminhos de uma projeção já
+ * existente, como em <i>Projection.of("bar").except("bar.barId")</i>.</li>
+ * </ul>
+ * Em campos do tipo {@link Collection}, {@link Map} (valores) e array, os
+ * caminhos aninhados se aplicam a cada elemento, de forma que
+ * <i>"bars.barName"</i> copia a lista com elementos contendo apenas o
+ * <i>barName</i>. Os nomes dos campos ignoram maiúsculas e minúsculas, e
+ * caminhos inexistentes são ignorados.
+ * <p>
+ *
+ * <p>
+ * Os campos fora da projeção não são lidos da origem nem atribuídos no
+ * destino: cada par de classes é compilado, na primeira cópia, em um
+ * {@link CopyPlan} contendo apenas os campos projetados, mantido em cache na
+ * própria projeção. Por isso, as projeções devem ser criadas uma única vez e
+ * reutilizadas, por exemplo, em constantes. As instâncias são imutáveis e
+ * podem ser compartilhadas entre threads.
+ * <p>
+ *
+ * @author gregory.feijon
+ * @see ObjectFactoryUtil#createFromObject(Object, Class, Projection)
+ */
+public final class Projection {
+
+    /**
+     * <strong>Projeção sem restrições, utilizada internamente pelas cópias
+     * completas.</strong>
+     */
+    static final Projection ALL = new Projection(new Node(false));
+
+    private final List<String> includes;
+    private final List<String> excludes;
+    private final boolean restricted;
+    private final boolean excluded;
+    private final Map<String, Projection> children;
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, CopyPlan>> copyPlans = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Optional<CreationPlan>>> creationPlans = new ConcurrentHashMap<>();
+
+    private Projection(List<String> includes, List<String> excludes) {
+        Node root = new Node(!includes.isEmpty());
+        includes.forEach(path -> root.include(split(path), 0));
+        excludes.forEach(path -> root.exclude(split(path), 0));
+        this.includes = includes;
+        this.excludes = excludes;
+        this.restricted = root.restricted;
+        this.excluded = false;
+        this.children = toProjections(root);
+    }
+
+    private Projection(Node node) {
+        this.includes = Collections.emptyList();
+        this.excludes = Collections.emptyList();
+        this.restricted = node.restricted;
+        this.excluded = node.excluded;
+        this.children = toProjections(node);
+    }
+
+    /**
+     * <strong>Cria a projeção que copia apenas os caminhos de campos
+     * informados.</strong>
+     *
+     * @param paths - {@link String}... - caminhos separados por ponto, como
+     *              <i>"bar.barName"</i>
+     * @return {@link Projection}
+     * @throws IllegalArgumentException - caso nenhum caminho seja informado ou
+     *                                  algum deles seja inválido
+     */
+    public static Projection of(String... paths) {
+        return new Projection(validate(paths), Collections.emptyList());
+    }
+
+    /**
+     * <strong>Cria a projeção que copia todos os campos, exceto os caminhos
+     * informados.</strong>
+     *
+     * @param paths - {@link String}... - caminhos separados por ponto, como
+     *              <i>"bar.barName"</i>
+     * @return {@link Projection}
+     * @throws IllegalArgumentException - caso nenhum caminho seja informado ou
+     *                                  algum deles seja inválido
+     */
+    public static Projection allExcept(String... paths) {
+        return new Projection(Collections.emptyList(), validate(paths));
+    }
+
+    /**
+     * <strong>Cria uma nova projeção, igual a esta, mas sem os caminhos
+     * informados.</strong> As exclusões prevalecem sobre as inclusões.
+     *
+     * @param paths - {@link String}... - caminhos separados por ponto
+     * @return {@link Projection}
+     * @throws IllegalArgumentException - caso nenhum caminho seja informado ou
+     *                                  algum deles seja inválido
+     */
+    public Projection except(String... paths) {
+        List<String> allExcludes = new ArrayList<>(excludes);
+        allExcludes.addAll(validate(paths));
+        return new Projection(includes, Collections.unmodifiableList(allExcludes));
+    }
+
+    public List<String> getIncludes() {
+        return includes;
+    }
+
+    public List<String> getExcludes() {
+        return excludes;
+    }
+
+    /**
+     * <strong>Verifica se o campo de destino informado faz parte da
+     * projeção.</strong>
+     *
+     * @param fieldName - {@link String}
+     * @return boolean
+     */
+    boolean includes(String fieldName) {
+        Projection child = children.get(fieldName.toLowerCase(Locale.ROOT));
+        return child != null ? !child.excluded : !restricted;
+    }
+
+    /**
+     * <strong>Verifica se a projeção copia todos os campos, sem nenhuma
+     * restrição.</strong>
+     *
+     * @return boolean
+     */
+    boolean isFull() {
+        return !restricted && children.isEmpty();
+    }
+
+    /**
+     * <strong>Resolve o {@link ValueCopier} de um par de campos projetado:
+     * o mesmo da cópia completa ou, caso existam caminhos aninhados no campo,
+     * o que aplica a projeção desses caminhos ao valor.</strong>
+     *
+     * @param sourceField - {@link Field}
+     * @param destField   - {@link Field}
+     * @return {@link ValueCopier}
+     */
+    ValueCopier copier(Field sourceField, Field destField) {
+        Projection nested = nested(destField.getName());
+        if (nested == null) {
+            return ValueCopiers.resolve(sourceField, destField);
+        }
+        return ProjectedCopiers.resolve(sourceField.getType(), destField.getType(), destField.getGenericType(), nested);
+    }
+
+    /**
+     * <strong>Resolve o {@link ValueCopier} de um parâmetro de criação
+     * projetado, com a mesma lógica do {@link #copier(Field, Field)}.</strong>
+     *
+     * @param name        - {@link String} - nome do parâmetro
+     * @param policy      - {@link CopyPolicy} - forma de cópia do campo
+     * @param sourceType  - {@link Class}&lt?&gt
+     * @param destType    - {@link Class}&lt?&gt
+     * @param genericType - {@link Type}
+     * @return {@link ValueCopier}
+     */
+    ValueCopier copier(String name, CopyPolicy policy, Class<?> sourceType, Class<?> destType, Type genericType) {
+        Projection nested = nested(name);
+        if (nested == null) {
+            return ValueCopiers.resolve(policy, sourceType, destType, genericType);
+        }
+        return ProjectedCopiers.resolve(sourceType, destType, genericType, nested);
+    }
+
+    private Projection nested(String fieldName) {
+        Projection child = children.get(fieldName.toLowerCase(Locale.ROOT));
+        return child == null || child.isFull() ? null : child;
+    }
+
+    /**
+     * <strong>Retorna o {@link CopyPlan} do par de classes, apenas com os
+     * campos projetados, compilando-o na primeira chamada.</strong>
+     *
+     * @param sourceClass - {@link Class}&lt?&gt
+     * @param destClass   - {@link Class}&lt?&gt
+     * @return {@link CopyPlan}
+     */
+    CopyPlan copyPlan(Class<?> sourceClass, Class<?> destClass) {
+        ConcurrentMap<Class<?>, CopyPlan> plans = copyPlans.computeIfAbsent(sourceClass, key -> new ConcurrentHashMap<>());
+        CopyPlan plan = plans.get(destClass);
+        if (plan != null) {
+            return plan;
+        }
+        return plans.computeIfAbsent(destClass, key -> CopyPlan.projected(sourceClass, destClass, this));
+    }
+
+    /**
+     * <strong>Retorna o {@link CreationPlan} do par de classes, apenas com os
+     * campos projetados, resolvendo-o na primeira chamada.</strong>
+     *
+     * @param sourceClass - {@link Class}&lt?&gt
+     * @param destClass   - {@link Class}&lt?&gt
+     * @return {@link CreationPlan} - ou null, se a classe de destino for
+     * instanciada e preenchida campo a campo
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando a
+     *                                    forma de criação anotada for inválida
+     */
+    CreationPlan creationPlan(Class<?> sourceClass, Class<?> destClass) throws ObjectFactoryUtilException {
+        ConcurrentMap<Class<?>, Optional<CreationPlan>> plans = creationPlans.computeIfAbsent(sourceClass,
+                key -> new ConcurrentHashMap<>());
+        Optional<CreationPlan> plan = plans.get(destClass);
+        if (plan == null) {
+            plan = Optional.ofNullable(CreationPlan.projected(sourceClass, destClass, this));
+            plans.putIfAbsent(destClass, plan);
+        }
+        return plan.orElse(null);
+    }
+
+    private static List<String> validate(String[] paths) {
+        if (paths == null || paths.length == 0) {
+            throw new IllegalArgumentException("Nenhum caminho de campo informado para a projeção.");
+        }
+        for (String path : paths) {
+            split(path);
+        }
+        return Collections.unmodifiableList(Arrays.asList(paths.clone()));
+    }
+
+    private static String[] split(String path) {
+        String[] segments = path == null ? new String[0] : path.trim().split("\\.", -1);
+        if (segments.length == 0 || Arrays.stream(segments).anyMatch(String::isEmpty)) {
+            throw new IllegalArgumentException("Caminho de campo inválido na projeção: " + path);
+        }
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = segments[i].trim().toLowerCase(Locale.ROOT);
+        }
+        return segments;
+    }
+
+    private static Map<String, Projection> toProjections(Node node) {
+        if (node.children.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Projection> projections = new HashMap<>();
+        node.children.forEach((name, child) -> projections.put(name, new Projection(child)));
+        return Collections.unmodifiableMap(projections);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Projection)) {
+            return false;
+        }
+        Projection other = (Projection) obj;
+        return includes.equals(other.includes) && excludes.equals(other.excludes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(includes, excludes);
+    }
+
+    @Override
+    public String toString() {
+        return "Projection(includes=" + includes + ", excludes=" + excludes + ")";
+    }
+
+    /**
+     * <strong>Nó da árvore de caminhos, utilizado apenas durante a criação da
+     * projeção.</strong>
+     */
+    private static final class Node {
+
+        private boolean restricted;
+        private boolean excluded;
+        private final Map<String, Node> children = new HashMap<>();
+
+        private Node(boolean restricted) {
+            this.restricted = restricted;
+        }
+
+        private void include(String[] segments, int index) {
+            Node child = children.computeIfAbsent(segments[index], key -> new Node(true));
+            if (index == segments.length - 1) {
+                child.restricted = false;
+                child.children.clear();
+            } else if (child.restricted) {
+                child.include(segments, index + 1);
+            }
+        }
+
+        private void exclude(String[] segments, int index) {
+            if (index == segments.length - 1) {
+                children.computeIfAbsent(segments[index], key -> new Node(false)).excluded = true;
+                return;
+            }
+            Node child = children.get(segments[index]);
+            if (child == null) {
+                if (restricted) {
+                    return;
+                }
+                child = new Node(false);
+                children.put(segments[index], child);
+            }
+            if (!child.excluded) {
+                child.exclude(segments, index + 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 27 de fev de 2020
+ *
+ * <p>
+ * Os métodos baseados em arrays de bytes mantêm o formato original (o JSON
+ * gravado como uma {@link String} via {@link ObjectOutputStream}). Os métodos
+ * de <i>streaming</i>, que recebem um {@link OutputStream},
+ * {@link WritableByteChannel} ou {@link ByteBuffer} (e as respectivas
+ * origens, na leitura), gravam e leem o JSON diretamente em UTF-8, através do
+ * {@link JsonWriter}/{@link JsonReader} do {@link Gson}, sem montar o conteúdo
+ * completo em memória.
+ * </p>
+ *
+ * <p>
+ * Para grandes volumes, os métodos de snapshot gravam e leem coleções em um
+ * formato binário compacto (ver {@link SnapshotFormat}), com acesso direto a
+ * cada registro pelo {@link Snapshot}.
+ * </p>
+ *
+ * @author gregory.feijon
+ */
+public final class SerializationUtil {
+
+    private static final String SERIALIZATION_ERROR = "Erro ao serializar objetos!";
+    private static final String DESERIALIZATION_ERROR = "Erro ao desserializar objetos!";
+
+    private SerializationUtil() {}
+
+    public static ByteArrayOutputStream deserialize(byte[] serializedObjects) throws ObjectFactoryUtilException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(serializedObjects.length);
+        baos.write(serializedObjects, 0, serializedObjects.length);
+        return baos;
+    }
+
+    public static Object getObject(byte[] byteArr) throws ObjectFactoryUtilException {
+        InputStream input = new ByteArrayInputStream(byteArr);
+        Object retorno;
+        try (ObjectInputStream in = new ObjectInputStream(input)) {
+            retorno = in.readObject();
+        } catch (IOException | ClassNotFoundException ex) {
+            throw new ObjectFactoryUtilException("Erro ao serializar objetos!", ex);
+        }
+        return retorno;
+    }
+
+    public static <T> ByteArrayOutputStream serializaObjeto(T entity) throws ObjectFactoryUtilException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Gson gson = GsonUtil.getGson();
+        String json = gson.toJson(entity);
+        try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+            out.writeObject(json);
+        } catch (IOException ex) {
+            throw new ObjectFactoryUtilException("Erro ao serializar objetos!", ex);
+        }
+        return baos;
+    }
+
+    public static <T> ByteArrayOutputStream serializaObjeto(Collection<T> entities) throws ObjectFactoryUtilException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Gson gson = GsonUtil.getGson();
+        String json = gson.toJson(entities);
+        try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+            out.writeObject(json);
+        } catch (IOException ex) {
+            throw new ObjectFactoryUtilException("Erro ao serializar objetos!", ex);
+        }
+        return baos;
+    }
+
+    public static <T> byte[] serializaObjetoGetAsByte(T entity) throws ObjectFactoryUtilException {
+        return serializaObjeto(entity).toByteArray();
+    }
+
+    public static <T> byte[] serializaObjetoGetAsByte(Collection<T> entities) throws ObjectFactoryUtilException {
+        return serializaObjeto(entities).toByteArray();
+    }
+
+    /**
+     * <strong>Grava o JSON do objeto informado (que pode ser uma
+     * {@link Collection}) no {@link OutputStream}, sem fechá-lo.</strong>
+     *
+     * @param <T>    tipo do objeto
+     * @param entity - T
+     * @param output - {@link OutputStream}
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    public static <T> void serializaObjeto(T entity, OutputStream output) throws ObjectFactoryUtilException {
+        write(entity, JsonStreams.writer(output));
+    }
+
+    public static <T> void serializaObjeto(T entity, WritableByteChannel channel) throws ObjectFactoryUtilException {
+        write(entity, JsonStreams.writer(channel));
+    }
+
+    /**
+     * <strong>Grava o JSON do objeto informado no {@link ByteBuffer}, a partir
+     * da sua posição atual.</strong>
+     *
+     * @param <T>    tipo do objeto
+     * @param entity - T
+     * @param buffer - {@link ByteBuffer}
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros, inclusive
+     *                                    quando o buffer não possuir espaço suficiente
+     */
+    public static <T> void serializaObjeto(T entity, ByteBuffer buffer) throws ObjectFactoryUtilException {
+        write(entity, JsonStreams.writer(buffer));
+    }
+
+    /**
+     * <strong>Lê o JSON do {@link InputStream}, sem fechá-lo, para o tipo
+     * informado.</strong> Para coleções, o tipo pode ser obtido pelo
+     * {@link GsonUtil#getListType(Class)}, por exemplo.
+     *
+     * @param <T>   tipo do objeto
+     * @param input - {@link InputStream}
+     * @param type  - {@link Type}
+     * @return T
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    public static <T> T desserializaObjeto(InputStream input, Type type) throws ObjectFactoryUtilException {
+        return read(JsonStreams.reader(input), type);
+    }
+
+    public static <T> T desserializaObjeto(ReadableByteChannel channel, Type type) throws ObjectFactoryUtilException {
+        return read(JsonStreams.reader(channel), type);
+    }
+
+    /**
+     * <strong>Lê o JSON do {@link ByteBuffer}, da sua posição atual até o seu
+     * limite, para o tipo informado.</strong>
+     *
+     * @param <T>    tipo do objeto
+     * @param buffer - {@link ByteBuffer}
+     * @param type   - {@link Type}
+     * @return T
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    public static <T> T desserializaObjeto(ByteBuffer buffer, Type type) throws ObjectFactoryUtilException {
+        return read(JsonStreams.reader(buffer), type);
+    }
+
+    private static void write(Object entity, Writer writer) throws ObjectFactoryUtilException {
+        Gson gson = GsonUtil.getCompactGson();
+        try (JsonWriter jsonWriter = gson.newJsonWriter(writer)) {
+            if (entity == null) {
+                gson.toJson(JsonNull.INSTANCE, jsonWriter);
+            } else {
+                gson.toJson(entity, entity.getClass(), jsonWriter);
+            }
+        } catch (IOException | JsonIOException | BufferOverflowException ex) {
+            throw new ObjectFactoryUtilException(SERIALIZATION_ERROR, ex);
+        }
+    }
+
+    private static <T> T read(Reader reader, Type type) throws ObjectFactoryUtilException {
+        Gson gson = GsonUtil.getCompactGson();
+        try (JsonReader jsonReader = gson.newJsonReader(reader)) {
+            return gson.fromJson(jsonReader, type);
+        } catch (IOException | JsonParseException ex) {
+            throw new ObjectFactoryUtilException(DESERIALIZATION_ERROR, ex);
+        }
+    }
+
+    /**
+     * <strong>Grava os objetos informados no arquivo, no formato binário de
+     * snapshot, substituindo o seu conteúdo, caso ele já exista.</strong>
+     *
+     * <p>
+     * Referências repetidas dentro de um mesmo objeto são gravadas uma única
+     * vez e continuam compartilhadas na leitura. Cada objeto da coleção é
+     * gravado de forma independente, para que possa ser lido diretamente pelo
+     * {@link Snapshot#get(int)}.
+     * <p>
+     *
+     * @param <T>      tipo dos objetos
+     * @param entities - {@link Collection}&lt;T&gt;
+     * @param path     - {@link Path}
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     * @see SnapshotFormat
+     */
+    public static <T> void salvaSnapshot(Collection<T> entities, Path path) throws ObjectFactoryUtilException {
+        SnapshotWriter.write(entities, path);
+    }
+
+    /**
+     * <strong>Lê todos os objetos do snapshot gravado no arquivo
+     * informado.</strong>
+     *
+     * @param <T>   tipo dos objetos
+     * @param path  - {@link Path}
+     * @param clazz - {@link Class}&lt;T&gt;
+     * @return {@link List}&lt;T&gt;
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    public static <T> List<T> carregaSnapshot(Path path, Class<T> clazz) throws ObjectFactoryUtilException {
+        try (Snapshot<T> snapshot = abreSnapshot(path, clazz)) {
+            return snapshot.toList();
+        }
+    }
+
+    /**
+     * <strong>Abre o snapshot gravado no arquivo informado, para a leitura
+     * direta de objetos pela sua posição.</strong> O {@link Snapshot}
+     * retornado deve ser fechado após o uso.
+     *
+     * @param <T>   tipo dos objetos
+     * @param path  - {@link Path}
+     * @param clazz - {@link Class}&lt;T&gt;
+     * @return {@link Snapshot}&lt;T&gt;
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    public static <T> Snapshot<T> abreSnapshot(Path path, Class<T> clazz) throws ObjectFactoryUtilException {
+        return Snapshot.open(path, clazz);
+    }
+
+    public static Object getDesserealizedObject(byte[] serializedObjects) throws ObjectFactoryUtilException {
+        return getObject(serializedObjects);
+    }
+
+    public static String getDesserealizedObjectAsString(byte[] serializedObjects) throws ObjectFactoryUtilException {
+        return (String) getObject(serializedObjects);
+    }
+}
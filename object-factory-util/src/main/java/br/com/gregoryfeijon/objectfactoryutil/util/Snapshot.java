@@ -0,0 +1,611 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.function.Supplier;
+
+import static br.com.gregoryfeijon.objectfactoryutil.util.SnapshotFormat.*;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Snapshot binário aberto para leitura, gravado pela
+ * {@link SerializationUtil#salvaSnapshot(Collection, Path)}.</strong>
+ *
+ * <p>
+ * O arquivo é lido através de {@link MappedByteBuffer}s: o índice é mapeado
+ * na abertura, e os registros, em janelas de até 256MB, mapeadas conforme são
+ * acessados. Assim, o {@link #get(int) get} de qualquer registro lê apenas os
+ * bytes daquele registro, e a leitura sequencial percorre o arquivo sem
+ * carregá-lo inteiro em memória.
+ * <p>
+ *
+ * <p>
+ * As instâncias não podem ser compartilhadas entre threads e devem ser
+ * fechadas após o uso.
+ * <p>
+ *
+ * @param <T> tipo dos registros
+ * @author gregory.feijon
+ * @see SnapshotFormat
+ */
+public final class Snapshot<T> implements AutoCloseable {
+
+    private static final long WINDOW_SIZE = 256L * 1024 * 1024;
+    private static final String ERROR_MESSAGE = "Erro ao ler o snapshot.";
+    private static final Gson GSON = GsonUtil.getCompactGson();
+
+    private final Class<T> type;
+    private final FileChannel channel;
+    private final int size;
+    private final long dataEnd;
+    private final LongBuffer index;
+    private final ClassEntry[] dictionary;
+    private final List<Object> references = new ArrayList<>();
+    private byte[] scratch = new byte[256];
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long windowEnd;
+
+    private Snapshot(Class<T> type, FileChannel channel) throws IOException, ObjectFactoryUtilException {
+        this.type = type;
+        this.channel = channel;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new ObjectFactoryUtilException("Arquivo de snapshot inválido.");
+            }
+        }
+        header.flip();
+        if (header.getInt() != MAGIC || header.get() != VERSION) {
+            throw new ObjectFactoryUtilException("Arquivo de snapshot inválido.");
+        }
+        header.position(8);
+        this.size = Math.toIntExact(header.getLong());
+        this.dataEnd = header.getLong();
+        long indexOffset = header.getLong();
+        this.dictionary = readDictionary(channel.map(FileChannel.MapMode.READ_ONLY, dataEnd, indexOffset - dataEnd),
+                type.getClassLoader() != null ? type.getClassLoader() : Snapshot.class.getClassLoader());
+        this.index = channel.map(FileChannel.MapMode.READ_ONLY, indexOffset, (long) size * Long.BYTES).asLongBuffer();
+    }
+
+    /**
+     * <strong>Método que abre o snapshot gravado no arquivo informado.</strong>
+     *
+     * @param <T>  tipo dos registros
+     * @param path - {@link Path}
+     * @param type - {@link Class}&lt;T&gt;
+     * @return {@link Snapshot}&lt;T&gt;
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    static <T> Snapshot<T> open(Path path, Class<T> type) throws ObjectFactoryUtilException {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            return new Snapshot<>(type, channel);
+        } catch (IOException | RuntimeException | ObjectFactoryUtilException ex) {
+            ObjectFactoryUtilException exception = ex instanceof ObjectFactoryUtilException
+                    ? (ObjectFactoryUtilException) ex : new ObjectFactoryUtilException(ERROR_MESSAGE, ex);
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException closeException) {
+                    exception.addSuppressed(closeException);
+                }
+            }
+            throw exception;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * <strong>Método que lê o registro da posição informada.</strong>
+     *
+     * @param position - int
+     * @return T
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    public T get(int position) throws ObjectFactoryUtilException {
+        Objects.checkIndex(position, size);
+        long start = index.get(position);
+        long end = position + 1 < size ? index.get(position + 1) : dataEnd;
+        Object value;
+        try {
+            ByteBuffer in = window(start, end);
+            references.clear();
+            value = readValue(in);
+        } catch (IOException | RuntimeException ex) {
+            throw new ObjectFactoryUtilException(ERROR_MESSAGE, ex);
+        }
+        if (value != null && !type.isInstance(value)) {
+            throw new ObjectFactoryUtilException("O registro " + position + " do snapshot não é do tipo "
+                    + type.getName() + ".");
+        }
+        return type.cast(value);
+    }
+
+    /**
+     * <strong>Método que lê todos os registros do snapshot, em ordem.</strong>
+     *
+     * @return {@link List}&lt;T&gt;
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    public List<T> toList() throws ObjectFactoryUtilException {
+        List<T> records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            records.add(get(i));
+        }
+        return records;
+    }
+
+    @Override
+    public void close() throws ObjectFactoryUtilException {
+        window = null;
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            throw new ObjectFactoryUtilException(ERROR_MESSAGE, ex);
+        }
+    }
+
+    /**
+     * <strong>Retorna a janela mapeada que contém o trecho informado do
+     * arquivo, posicionada no seu início, mapeando uma nova janela a partir
+     * dele caso a atual não o contenha.</strong>
+     */
+    private ByteBuffer window(long start, long end) throws IOException, ObjectFactoryUtilException {
+        if (window == null || start < windowStart || end > windowEnd) {
+            long length = end - start;
+            if (length > Integer.MAX_VALUE) {
+                throw new ObjectFactoryUtilException("Registro do snapshot maior que o tamanho máximo suportado.");
+            }
+            long mapped = Math.max(length, Math.min(WINDOW_SIZE, dataEnd - start));
+            window = channel.map(FileChannel.MapMode.READ_ONLY, start, mapped);
+            windowStart = start;
+            windowEnd = start + mapped;
+        }
+        window.position((int) (start - windowStart));
+        return window;
+    }
+
+    private Object readValue(ByteBuffer in) throws ObjectFactoryUtilException {
+        return readValue(in, null);
+    }
+
+    /**
+     * <strong>Lê o próximo valor, construindo as {@link Collection}s e os
+     * {@link Map}s de forma compatível com o tipo do campo informado, quando
+     * o valor for atribuído a um campo.</strong>
+     */
+    private Object readValue(ByteBuffer in, Field field) throws ObjectFactoryUtilException {
+        byte tag = in.get();
+        switch (tag) {
+            case NULL:
+                return null;
+            case REFERENCE:
+                return references.get(readVarInt(in));
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case BYTE:
+                return in.get();
+            case SHORT:
+                return (short) readZigZag(in);
+            case CHAR:
+                return (char) readVarInt(in);
+            case INT:
+                return (int) readZigZag(in);
+            case LONG:
+                return readZigZag(in);
+            case FLOAT:
+                return in.getFloat();
+            case DOUBLE:
+                return in.getDouble();
+            case STRING:
+                return readString(in);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(in));
+            case BIG_DECIMAL:
+                int scale = (int) readZigZag(in);
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            case DATE:
+                return new Date(readZigZag(in));
+            case INSTANT:
+                return Instant.ofEpochSecond(readZigZag(in), readVarInt(in));
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(readZigZag(in));
+            case LOCAL_DATE_TIME:
+                LocalDate date = LocalDate.ofEpochDay(readZigZag(in));
+                return LocalDateTime.of(date, LocalTime.ofNanoOfDay(readVarLong(in)));
+            case UUID_VALUE:
+                return new UUID(in.getLong(), in.getLong());
+            case ENUM:
+                ClassEntry enumEntry = entry(in);
+                return enumEntry.constant(readVarInt(in));
+            case JSON:
+                ClassEntry jsonEntry = entry(in);
+                try {
+                    return GSON.fromJson(readString(in), jsonEntry.type());
+                } catch (JsonParseException ex) {
+                    throw new ObjectFactoryUtilException(ERROR_MESSAGE, ex);
+                }
+            case OBJECT:
+                return readObject(entry(in), in);
+            case ARRAY:
+                return readArray(entry(in), in);
+            case COLLECTION:
+                return readCollection(entry(in), in, field);
+            case MAP:
+                return readMap(entry(in), in, field);
+            case ENUM_SET:
+                return readEnumSet(in, field);
+            case ENUM_MAP:
+                return readEnumMap(in, field);
+            default:
+                throw new ObjectFactoryUtilException("Snapshot corrompido: tipo de valor " + tag + " desconhecido.");
+        }
+    }
+
+    private Object readObject(ClassEntry entry, ByteBuffer in) throws ObjectFactoryUtilException {
+        Object object = Instantiators.newInstance(entry.instantiator());
+        references.add(object);
+        for (int i = 0; i < entry.accessors.length; i++) {
+            Object value = readValue(in, entry.fields[i]);
+            if (entry.accessors[i] != null) {
+                entry.accessors[i].set(object, value);
+            }
+        }
+        return object;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readCollection(ClassEntry entry, ByteBuffer in, Field field) throws ObjectFactoryUtilException {
+        Collection<Object> collection = (Collection<Object>) Instantiators.newInstance(entry.instantiator(field));
+        references.add(collection);
+        int length = readVarInt(in);
+        for (int i = 0; i < length; i++) {
+            collection.add(readValue(in));
+        }
+        return collection;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readMap(ClassEntry entry, ByteBuffer in, Field field) throws ObjectFactoryUtilException {
+        Map<Object, Object> map = (Map<Object, Object>) Instantiators.newInstance(entry.instantiator(field));
+        references.add(map);
+        int length = readVarInt(in);
+        for (int i = 0; i < length; i++) {
+            Object key = readValue(in);
+            map.put(key, readValue(in));
+        }
+        return map;
+    }
+
+    /**
+     * <strong>Lê um {@link EnumSet}. As constantes que não existem mais,
+     * lidas como null, são descartadas.</strong>
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object readEnumSet(ByteBuffer in, Field field) throws ObjectFactoryUtilException {
+        EnumSet set = EnumSet.noneOf((Class) enumType(in, field));
+        references.add(set);
+        int length = readVarInt(in);
+        for (int i = 0; i < length; i++) {
+            Object constant = readValue(in);
+            if (constant != null) {
+                set.add(constant);
+            }
+        }
+        return set;
+    }
+
+    /**
+     * <strong>Lê um {@link EnumMap}. Os valores das constantes que não
+     * existem mais, lidas como null, são descartados.</strong>
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object readEnumMap(ByteBuffer in, Field field) throws ObjectFactoryUtilException {
+        EnumMap map = new EnumMap((Class) enumType(in, field));
+        references.add(map);
+        int length = readVarInt(in);
+        for (int i = 0; i < length; i++) {
+            Object key = readValue(in);
+            Object value = readValue(in);
+            if (key != null) {
+                map.put(key, value);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * <strong>Lê o tipo das constantes de um {@link EnumSet} ou
+     * {@link EnumMap}. Quando ele não foi gravado (como nos {@link EnumMap}s
+     * vazios), é obtido do tipo genérico do campo.</strong>
+     */
+    private Class<?> enumType(ByteBuffer in, Field field) throws ObjectFactoryUtilException {
+        int id = readVarInt(in);
+        if (id > 0) {
+            return entry(id - 1).type();
+        }
+        Type genericType = field != null ? field.getGenericType() : null;
+        if (genericType instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+            if (argument instanceof Class && ((Class<?>) argument).isEnum()) {
+                return (Class<?>) argument;
+            }
+        }
+        throw new ObjectFactoryUtilException("Não foi possível determinar o tipo das constantes do "
+                + (field != null ? "campo " + field.getName() : "EnumMap vazio") + " do snapshot.");
+    }
+
+    private Object readArray(ClassEntry entry, ByteBuffer in) throws ObjectFactoryUtilException {
+        Class<?> componentType = entry.type().getComponentType();
+        int length = readVarInt(in);
+        Object array = Array.newInstance(componentType, length);
+        references.add(array);
+        if (componentType == byte.class) {
+            in.get((byte[]) array);
+        } else if (!componentType.isPrimitive()) {
+            Object[] elements = (Object[]) array;
+            for (int i = 0; i < length; i++) {
+                elements[i] = readValue(in);
+            }
+        } else if (componentType == int.class) {
+            int[] elements = (int[]) array;
+            for (int i = 0; i < length; i++) {
+                elements[i] = (int) readZigZag(in);
+            }
+        } else if (componentType == long.class) {
+            long[] elements = (long[]) array;
+            for (int i = 0; i < length; i++) {
+                elements[i] = readZigZag(in);
+            }
+        } else if (componentType == double.class) {
+            in.asDoubleBuffer().get((double[]) array);
+            in.position(in.position() + length * Double.BYTES);
+        } else if (componentType == float.class) {
+            in.asFloatBuffer().get((float[]) array);
+            in.position(in.position() + length * Float.BYTES);
+        } else if (componentType == short.class) {
+            short[] elements = (short[]) array;
+            for (int i = 0; i < length; i++) {
+                elements[i] = (short) readZigZag(in);
+            }
+        } else if (componentType == char.class) {
+            char[] elements = (char[]) array;
+            for (int i = 0; i < length; i++) {
+                elements[i] = (char) readVarInt(in);
+            }
+        } else {
+            boolean[] elements = (boolean[]) array;
+            for (int i = 0; i < length; i++) {
+                elements[i] = in.get() == TRUE;
+            }
+        }
+        return array;
+    }
+
+    private ClassEntry entry(ByteBuffer in) throws ObjectFactoryUtilException {
+        return entry(readVarInt(in));
+    }
+
+    private ClassEntry entry(int id) throws ObjectFactoryUtilException {
+        if (id >= dictionary.length) {
+            throw new ObjectFactoryUtilException("Snapshot corrompido: classe " + id + " não encontrada no dicionário.");
+        }
+        return dictionary[id];
+    }
+
+    private String readString(ByteBuffer in) {
+        int length = readVarInt(in);
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        in.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(ByteBuffer in) {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.get(bytes);
+        return bytes;
+    }
+
+    private static long readZigZag(ByteBuffer in) {
+        long value = readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int readVarInt(ByteBuffer in) {
+        return (int) readVarLong(in);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            current = in.get();
+            value |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while (current < 0);
+        return value;
+    }
+
+    private ClassEntry[] readDictionary(ByteBuffer in, ClassLoader loader) {
+        ClassEntry[] entries = new ClassEntry[readVarInt(in)];
+        for (int i = 0; i < entries.length; i++) {
+            byte kind = in.get();
+            String name = readString(in);
+            String[] members = new String[readVarInt(in)];
+            for (int j = 0; j < members.length; j++) {
+                members[j] = readString(in);
+            }
+            entries[i] = new ClassEntry(kind, name, members, loader);
+        }
+        return entries;
+    }
+
+    /**
+     * <strong>Entrada do dicionário de classes do snapshot, resolvida para as
+     * classes atuais na primeira utilização.</strong>
+     *
+     * <p>
+     * Os campos gravados são associados aos campos atuais da classe pelo nome,
+     * e as constantes de {@link Enum}s, pelo {@link Enum#name() name}. Campos
+     * que não existem mais são lidos e descartados, e constantes que não
+     * existem mais são lidas como null. {@link Collection}s e {@link Map}s
+     * cuja classe não possua um construtor público sem argumentos (como as
+     * coleções imutáveis do JDK) são lidas na implementação padrão da
+     * interface, ou, caso ela não seja compatível com o tipo do campo que
+     * recebe o valor, na do tipo do campo.
+     * <p>
+     */
+    private static final class ClassEntry {
+
+        private final byte kind;
+        private final String name;
+        private final String[] members;
+        private final ClassLoader loader;
+        private Class<?> type;
+        private Class<?> containerType;
+        private Supplier<?> instantiator;
+        private Field[] fields;
+        private FieldAccessor[] accessors;
+        private Object[] constants;
+
+        private ClassEntry(byte kind, String name, String[] members, ClassLoader loader) {
+            this.kind = kind;
+            this.name = name;
+            this.members = members;
+            this.loader = loader;
+        }
+
+        private Class<?> type() throws ObjectFactoryUtilException {
+            if (type == null) {
+                try {
+                    type = Class.forName(name, false, loader);
+                } catch (ClassNotFoundException | LinkageError ex) {
+                    throw new ObjectFactoryUtilException("Classe " + name + " do snapshot não encontrada.", ex);
+                }
+                if (kind == OBJECT) {
+                    resolveAccessors(type);
+                }
+            }
+            return type;
+        }
+
+        private Supplier<?> instantiator() throws ObjectFactoryUtilException {
+            if (instantiator == null) {
+                Class<?> resolved = type();
+                containerType = kind == OBJECT || isPublicInstantiable(resolved) ? resolved
+                        : defaultImplementation(resolved);
+                instantiator = Instantiators.of(containerType);
+            }
+            return instantiator;
+        }
+
+        /**
+         * <strong>Retorna a forma de instanciar a {@link Collection} ou o
+         * {@link Map} que será atribuído ao campo informado, utilizando o
+         * tipo do campo quando a classe da entrada não for compatível com
+         * ele.</strong>
+         */
+        private Supplier<?> instantiator(Field field) throws ObjectFactoryUtilException {
+            Supplier<?> resolved = instantiator();
+            if (field == null || field.getType().isAssignableFrom(containerType)) {
+                return resolved;
+            }
+            Class<?> target = field.getType();
+            Class<?> fitting = isPublicInstantiable(target) ? target : defaultImplementation(target);
+            return target.isAssignableFrom(fitting) ? Instantiators.of(fitting) : resolved;
+        }
+
+        private Object constant(int ordinal) throws ObjectFactoryUtilException {
+            if (constants == null) {
+                Object[] resolved = new Object[members.length];
+                for (Object constant : type().getEnumConstants()) {
+                    int position = Arrays.asList(members).indexOf(((Enum<?>) constant).name());
+                    if (position >= 0) {
+                        resolved[position] = constant;
+                    }
+                }
+                constants = resolved;
+            }
+            return ordinal < constants.length ? constants[ordinal] : null;
+        }
+
+        private void resolveAccessors(Class<?> resolved) {
+            List<Field> current = fieldsOf(resolved);
+            Field[] resolvedFields = new Field[members.length];
+            FieldAccessor[] resolvedAccessors = new FieldAccessor[members.length];
+            for (int i = 0; i < members.length; i++) {
+                for (Iterator<Field> iterator = current.iterator(); iterator.hasNext(); ) {
+                    Field field = iterator.next();
+                    if (field.getName().equals(members[i])) {
+                        resolvedFields[i] = field;
+                        resolvedAccessors[i] = FieldAccessors.of(field);
+                        iterator.remove();
+                        break;
+                    }
+                }
+            }
+            fields = resolvedFields;
+            accessors = resolvedAccessors;
+        }
+
+        private static boolean isPublicInstantiable(Class<?> type) {
+            if (!Modifier.isPublic(type.getModifiers()) || Modifier.isAbstract(type.getModifiers())) {
+                return false;
+            }
+            try {
+                return Modifier.isPublic(type.getDeclaredConstructor().getModifiers());
+            } catch (NoSuchMethodException ex) {
+                return false;
+            }
+        }
+
+        private static Class<?> defaultImplementation(Class<?> type) {
+            if (Map.class.isAssignableFrom(type)) {
+                return SortedMap.class.isAssignableFrom(type) ? TreeMap.class : LinkedHashMap.class;
+            }
+            if (SortedSet.class.isAssignableFrom(type)) {
+                return TreeSet.class;
+            }
+            if (Set.class.isAssignableFrom(type)) {
+                return LinkedHashSet.class;
+            }
+            if (Queue.class.isAssignableFrom(type) && !List.class.isAssignableFrom(type)) {
+                return ArrayDeque.class;
+            }
+            return ArrayList.class;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Definição do formato binário dos snapshots gravados pelo
+ * {@link SnapshotWriter} e lidos pelo {@link Snapshot}.</strong>
+ *
+ * <p>
+ * O arquivo começa por um cabeçalho de tamanho fixo, com o identificador do
+ * formato, a versão, a quantidade de registros e as posições do dicionário e
+ * do índice, seguido pelos registros, pelo dicionário de classes e pelo
+ * índice:
+ * <ul>
+ * <li>cada registro é um valor codificado com uma <i>tag</i> de um byte,
+ * seguida do seu conteúdo. Inteiros utilizam <i>varints</i> (com
+ * <i>zigzag</i> para os que podem ser negativos), e objetos, arrays, coleções
+ * e mapas repetidos dentro do mesmo registro são gravados como referências
+ * para a primeira ocorrência. {@link java.util.EnumSet EnumSet}s e
+ * {@link java.util.EnumMap EnumMap}s são gravados com o tipo das suas
+ * constantes, já que as suas classes não podem ser instanciadas
+ * diretamente;</li>
+ * <li>o dicionário contém, para cada classe encontrada, o seu nome e os nomes
+ * dos seus campos (ou das constantes, no caso de {@link Enum}s), na ordem em
+ * que os valores aparecem nos registros;</li>
+ * <li>o índice contém a posição de cada registro no arquivo, em <i>longs</i>
+ * de tamanho fixo, permitindo o acesso direto ao N-ésimo registro.</li>
+ * </ul>
+ * <p>
+ *
+ * <p>
+ * Os campos gravados de cada classe são todos os campos da classe e das suas
+ * superclasses, desconsiderando os campos estáticos e <i>transient</i>, assim
+ * como na serialização via {@link com.google.gson.Gson Gson}. As
+ * configurações de cópia, como o
+ * {@link br.com.gregoryfeijon.objectfactoryutil.annotation.ObjectConstructor#exclude()
+ * exclude} e as {@link CopyPolicy formas de cópia}, não se aplicam aos
+ * snapshots, que devem restaurar o objeto gravado. Na leitura, os campos
+ * são associados pelo nome, de forma que campos removidos da classe são
+ * ignorados e campos novos mantêm o valor da sua inicialização.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+final class SnapshotFormat {
+
+    static final int MAGIC = 0x4F465553;
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = 32;
+
+    static final byte NULL = 0;
+    static final byte REFERENCE = 1;
+    static final byte TRUE = 2;
+    static final byte FALSE = 3;
+    static final byte BYTE = 4;
+    static final byte SHORT = 5;
+    static final byte CHAR = 6;
+    static final byte INT = 7;
+    static final byte LONG = 8;
+    static final byte FLOAT = 9;
+    static final byte DOUBLE = 10;
+    static final byte STRING = 11;
+    static final byte BIG_INTEGER = 12;
+    static final byte BIG_DECIMAL = 13;
+    static final byte DATE = 14;
+    static final byte INSTANT = 15;
+    static final byte LOCAL_DATE = 16;
+    static final byte LOCAL_DATE_TIME = 17;
+    static final byte UUID_VALUE = 18;
+    static final byte ENUM = 19;
+    static final byte OBJECT = 20;
+    static final byte ARRAY = 21;
+    static final byte COLLECTION = 22;
+    static final byte MAP = 23;
+    static final byte JSON = 24;
+    static final byte ENUM_SET = 25;
+    static final byte ENUM_MAP = 26;
+
+    private static final Map<Class<?>, Byte> SCALAR_TAGS = new HashMap<>();
+
+    static {
+        SCALAR_TAGS.put(Boolean.class, TRUE);
+        SCALAR_TAGS.put(Byte.class, BYTE);
+        SCALAR_TAGS.put(Short.class, SHORT);
+        SCALAR_TAGS.put(Character.class, CHAR);
+        SCALAR_TAGS.put(Integer.class, INT);
+        SCALAR_TAGS.put(Long.class, LONG);
+        SCALAR_TAGS.put(Float.class, FLOAT);
+        SCALAR_TAGS.put(Double.class, DOUBLE);
+        SCALAR_TAGS.put(String.class, STRING);
+        SCALAR_TAGS.put(BigInteger.class, BIG_INTEGER);
+        SCALAR_TAGS.put(BigDecimal.class, BIG_DECIMAL);
+        SCALAR_TAGS.put(Date.class, DATE);
+        SCALAR_TAGS.put(Instant.class, INSTANT);
+        SCALAR_TAGS.put(LocalDate.class, LOCAL_DATE);
+        SCALAR_TAGS.put(LocalDateTime.class, LOCAL_DATE_TIME);
+        SCALAR_TAGS.put(UUID.class, UUID_VALUE);
+    }
+
+    private SnapshotFormat() {
+    }
+
+    /**
+     * <strong>Método que retorna a <i>tag</i> dos valores da classe
+     * informada, caso ela seja codificada diretamente pelo formato.</strong>
+     *
+     * @param type - {@link Class}&lt?&gt
+     * @return {@link Byte} - ou null, se a classe não for um valor simples
+     */
+    static Byte scalarTag(Class<?> type) {
+        return SCALAR_TAGS.get(type);
+    }
+
+    /**
+     * <strong>Método que retorna os campos gravados nos snapshots para a
+     * classe informada.</strong>
+     *
+     * @param type - {@link Class}&lt?&gt
+     * @return {@link List}&lt{@link Field}&gt
+     */
+    static List<Field> fieldsOf(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,486 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import com.google.gson.Gson;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static br.com.gregoryfeijon.objectfactoryutil.util.SnapshotFormat.*;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Gravação de uma {@link Collection} no formato binário do
+ * {@link SnapshotFormat}, através de um {@link FileChannel}.</strong>
+ *
+ * <p>
+ * Os registros são codificados em um buffer em memória, descarregado no canal
+ * sempre que atinge o seu tamanho, de forma que a memória utilizada não
+ * depende da quantidade de registros. O dicionário de classes e o índice são
+ * gravados ao final, e o cabeçalho, por último, no início do arquivo.
+ * <p>
+ *
+ * <p>
+ * Classes do próprio JDK que não são codificadas diretamente pelo formato e
+ * classes que não podem ser instanciadas pelos {@link Instantiators} são
+ * gravadas como JSON, via {@link Gson}.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+final class SnapshotWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String ERROR_MESSAGE = "Erro ao gravar o snapshot.";
+    private static final Gson GSON = GsonUtil.getCompactGson();
+
+    private final FileChannel channel;
+    private final Map<Class<?>, ClassEntry> dictionary = new HashMap<>();
+    private final List<ClassEntry> entries = new ArrayList<>();
+    private final Map<Object, Integer> references = new IdentityHashMap<>();
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private long flushed;
+
+    private SnapshotWriter(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * <strong>Método que grava os objetos informados no arquivo, substituindo
+     * o seu conteúdo, caso ele já exista.</strong>
+     *
+     * @param entities - {@link Collection}&lt?&gt
+     * @param path     - {@link Path}
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    static void write(Collection<?> entities, Path path) throws ObjectFactoryUtilException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            new SnapshotWriter(channel).write(entities);
+        } catch (IOException ex) {
+            throw new ObjectFactoryUtilException(ERROR_MESSAGE, ex);
+        } catch (UncheckedIOException ex) {
+            throw new ObjectFactoryUtilException(ERROR_MESSAGE, ex.getCause());
+        }
+    }
+
+    private void write(Collection<?> entities) throws IOException, ObjectFactoryUtilException {
+        Object[] records = entities.toArray();
+        long[] offsets = new long[records.length];
+        flushed = HEADER_SIZE;
+        channel.position(HEADER_SIZE);
+        for (int i = 0; i < records.length; i++) {
+            offsets[i] = flushed + position;
+            references.clear();
+            writeValue(records[i]);
+        }
+        long dictionaryOffset = flushed + position;
+        writeDictionary();
+        long indexOffset = flushed + position;
+        for (long offset : offsets) {
+            writeLong(offset);
+        }
+        flush();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).put(VERSION).position(8);
+        header.putLong(records.length).putLong(dictionaryOffset).putLong(indexOffset).flip();
+        long headerPosition = 0;
+        while (header.hasRemaining()) {
+            headerPosition += channel.write(header, headerPosition);
+        }
+    }
+
+    private void writeDictionary() {
+        writeVarLong(entries.size());
+        for (ClassEntry entry : entries) {
+            writeByte(entry.kind);
+            writeString(entry.name);
+            writeVarLong(entry.members.length);
+            for (String member : entry.members) {
+                writeString(member);
+            }
+        }
+    }
+
+    private void writeValue(Object value) throws ObjectFactoryUtilException {
+        if (value == null) {
+            writeByte(NULL);
+            return;
+        }
+        Byte tag = scalarTag(value.getClass());
+        if (tag != null) {
+            writeScalar(tag, value);
+            return;
+        }
+        value = LazyCopies.unwrap(value);
+        if (value instanceof Enum) {
+            Enum<?> constant = (Enum<?>) value;
+            writeByte(ENUM);
+            writeVarLong(entry(constant.getDeclaringClass()).id);
+            writeVarLong(constant.ordinal());
+            return;
+        }
+        if (value instanceof EnumSet || value instanceof EnumMap) {
+            if (!writeReference(value)) {
+                writeEnumContainer(value);
+            }
+            return;
+        }
+        ClassEntry entry = entry(value.getClass());
+        if (entry.kind == JSON) {
+            writeByte(JSON);
+            writeVarLong(entry.id);
+            writeString(GSON.toJson(value));
+            return;
+        }
+        if (writeReference(value)) {
+            return;
+        }
+        writeByte(entry.kind);
+        writeVarLong(entry.id);
+        if (entry.kind == OBJECT) {
+            for (FieldAccessor accessor : entry.accessors) {
+                writeValue(accessor.get(value));
+            }
+        } else if (entry.kind == ARRAY) {
+            writeArray(value);
+        } else if (entry.kind == COLLECTION) {
+            writeElements((Collection<?>) value);
+        } else {
+            writeEntries((Map<?, ?>) value);
+        }
+    }
+
+    /**
+     * <strong>Grava a referência para o valor, caso ele já tenha sido gravado
+     * no registro atual, retornando se a referência foi gravada.</strong>
+     */
+    private boolean writeReference(Object value) {
+        Integer reference = references.putIfAbsent(value, references.size());
+        if (reference == null) {
+            return false;
+        }
+        writeByte(REFERENCE);
+        writeVarLong(reference);
+        return true;
+    }
+
+    /**
+     * <strong>Grava o {@link EnumSet} ou {@link EnumMap} informado,
+     * precedido pela entrada do tipo das suas constantes, ou por 0, caso ele
+     * não possa ser obtido (como nos {@link EnumMap}s vazios).</strong>
+     */
+    private void writeEnumContainer(Object value) throws ObjectFactoryUtilException {
+        Class<?> enumType = enumTypeOf(value);
+        writeByte(value instanceof EnumSet ? ENUM_SET : ENUM_MAP);
+        writeVarLong(enumType != null ? entry(enumType).id + 1L : 0);
+        if (value instanceof EnumSet) {
+            writeElements((Collection<?>) value);
+        } else {
+            writeEntries((Map<?, ?>) value);
+        }
+    }
+
+    private void writeElements(Collection<?> collection) throws ObjectFactoryUtilException {
+        Object[] elements = collection.toArray();
+        writeVarLong(elements.length);
+        for (Object element : elements) {
+            writeValue(element);
+        }
+    }
+
+    private void writeEntries(Map<?, ?> map) throws ObjectFactoryUtilException {
+        Object[] mapEntries = map.entrySet().toArray();
+        writeVarLong(mapEntries.length);
+        for (Object mapEntry : mapEntries) {
+            writeValue(((Map.Entry<?, ?>) mapEntry).getKey());
+            writeValue(((Map.Entry<?, ?>) mapEntry).getValue());
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Class<?> enumTypeOf(Object value) {
+        Collection<?> constants;
+        if (value instanceof EnumSet) {
+            EnumSet set = (EnumSet) value;
+            constants = set.isEmpty() ? EnumSet.complementOf(set) : set;
+        } else {
+            constants = ((Map<?, ?>) value).keySet();
+        }
+        Iterator<?> iterator = constants.iterator();
+        return iterator.hasNext() ? ((Enum<?>) iterator.next()).getDeclaringClass() : null;
+    }
+
+    private void writeScalar(byte tag, Object value) {
+        switch (tag) {
+            case TRUE:
+                writeByte((Boolean) value ? TRUE : FALSE);
+                return;
+            case BYTE:
+                writeByte(BYTE);
+                writeByte((Byte) value);
+                return;
+            case SHORT:
+                writeByte(SHORT);
+                writeZigZag((Short) value);
+                return;
+            case CHAR:
+                writeByte(CHAR);
+                writeVarLong((Character) value);
+                return;
+            case INT:
+                writeByte(INT);
+                writeZigZag((Integer) value);
+                return;
+            case LONG:
+                writeByte(LONG);
+                writeZigZag((Long) value);
+                return;
+            case FLOAT:
+                writeByte(FLOAT);
+                writeInt(Float.floatToRawIntBits((Float) value));
+                return;
+            case DOUBLE:
+                writeByte(DOUBLE);
+                writeLong(Double.doubleToRawLongBits((Double) value));
+                return;
+            case STRING:
+                writeByte(STRING);
+                writeString((String) value);
+                return;
+            case BIG_INTEGER:
+                writeByte(BIG_INTEGER);
+                writeBytes(((BigInteger) value).toByteArray());
+                return;
+            case BIG_DECIMAL:
+                writeByte(BIG_DECIMAL);
+                writeZigZag(((BigDecimal) value).scale());
+                writeBytes(((BigDecimal) value).unscaledValue().toByteArray());
+                return;
+            case DATE:
+                writeByte(DATE);
+                writeZigZag(((Date) value).getTime());
+                return;
+            case INSTANT:
+                writeByte(INSTANT);
+                writeZigZag(((Instant) value).getEpochSecond());
+                writeVarLong(((Instant) value).getNano());
+                return;
+            case LOCAL_DATE:
+                writeByte(LOCAL_DATE);
+                writeZigZag(((LocalDate) value).toEpochDay());
+                return;
+            case LOCAL_DATE_TIME:
+                writeByte(LOCAL_DATE_TIME);
+                writeZigZag(((LocalDateTime) value).toLocalDate().toEpochDay());
+                writeVarLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+                return;
+            default:
+                writeByte(UUID_VALUE);
+                writeLong(((UUID) value).getMostSignificantBits());
+                writeLong(((UUID) value).getLeastSignificantBits());
+        }
+    }
+
+    /**
+     * <strong>Grava os elementos do array. Arrays de tipos primitivos são
+     * gravados sem <i>tags</i>, e arrays de bytes, em bloco.</strong>
+     */
+    private void writeArray(Object array) throws ObjectFactoryUtilException {
+        Class<?> componentType = array.getClass().getComponentType();
+        int length = Array.getLength(array);
+        if (componentType == byte.class) {
+            writeBytes((byte[]) array);
+            return;
+        }
+        writeVarLong(length);
+        if (!componentType.isPrimitive()) {
+            for (Object element : (Object[]) array) {
+                writeValue(element);
+            }
+        } else if (componentType == int.class) {
+            for (int element : (int[]) array) {
+                writeZigZag(element);
+            }
+        } else if (componentType == long.class) {
+            for (long element : (long[]) array) {
+                writeZigZag(element);
+            }
+        } else if (componentType == double.class) {
+            for (double element : (double[]) array) {
+                writeLong(Double.doubleToRawLongBits(element));
+            }
+        } else if (componentType == float.class) {
+            for (float element : (float[]) array) {
+                writeInt(Float.floatToRawIntBits(element));
+            }
+        } else if (componentType == short.class) {
+            for (short element : (short[]) array) {
+                writeZigZag(element);
+            }
+        } else if (componentType == char.class) {
+            for (char element : (char[]) array) {
+                writeVarLong(element);
+            }
+        } else {
+            for (boolean element : (boolean[]) array) {
+                writeByte(element ? TRUE : FALSE);
+            }
+        }
+    }
+
+    private ClassEntry entry(Class<?> type) {
+        ClassEntry entry = dictionary.get(type);
+        if (entry == null) {
+            entry = new ClassEntry(entries.size(), type);
+            dictionary.put(type, entry);
+            entries.add(entry);
+        }
+        return entry;
+    }
+
+    private void writeString(String value) {
+        writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeBytes(byte[] bytes) {
+        writeVarLong(bytes.length);
+        int offset = 0;
+        while (offset < bytes.length) {
+            ensure(1);
+            int count = Math.min(bytes.length - offset, buffer.length - position);
+            System.arraycopy(bytes, offset, buffer, position, count);
+            position += count;
+            offset += count;
+        }
+    }
+
+    private void writeByte(byte value) {
+        ensure(1);
+        buffer[position++] = value;
+    }
+
+    private void writeZigZag(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    private void writeVarLong(long value) {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeInt(int value) {
+        ensure(4);
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void writeLong(long value) {
+        ensure(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    /**
+     * <strong>Garante o espaço para a quantidade de bytes informada,
+     * descarregando o buffer no canal, caso necessário.</strong> Como as
+     * posições dos registros são absolutas, o buffer pode ser descarregado no
+     * meio de um registro. As {@link IOException}s são encapsuladas em
+     * {@link UncheckedIOException}s, convertidas novamente no
+     * {@link #write(Collection, Path) write}.
+     */
+    private void ensure(int count) {
+        if (position + count > buffer.length) {
+            try {
+                flush();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    private void flush() throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, position);
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        flushed += position;
+        position = 0;
+    }
+
+    /**
+     * <strong>Entrada do dicionário de classes, com a forma de gravar os
+     * valores da classe.</strong>
+     */
+    private static final class ClassEntry {
+
+        private final int id;
+        private final String name;
+        private final byte kind;
+        private final String[] members;
+        private final FieldAccessor[] accessors;
+
+        private ClassEntry(int id, Class<?> type) {
+            this.id = id;
+            this.name = type.getName();
+            List<FieldAccessor> fieldAccessors = new ArrayList<>();
+            List<String> names = new ArrayList<>();
+            if (type.isEnum()) {
+                this.kind = ENUM;
+                for (Object constant : type.getEnumConstants()) {
+                    names.add(((Enum<?>) constant).name());
+                }
+            } else if (type.isArray()) {
+                this.kind = ARRAY;
+            } else if (Collection.class.isAssignableFrom(type)) {
+                this.kind = COLLECTION;
+            } else if (Map.class.isAssignableFrom(type)) {
+                this.kind = MAP;
+            } else if (ObjectGraphCopier.isJdkType(type) || !isInstantiable(type)) {
+                this.kind = JSON;
+            } else {
+                this.kind = OBJECT;
+                for (Field field : fieldsOf(type)) {
+                    names.add(field.getName());
+                    fieldAccessors.add(FieldAccessors.of(field));
+                }
+            }
+            this.members = names.toArray(new String[0]);
+            this.accessors = fieldAccessors.toArray(new FieldAccessor[0]);
+        }
+
+        private static boolean isInstantiable(Class<?> type) {
+            if (Modifier.isAbstract(type.getModifiers())) {
+                return false;
+            }
+            try {
+                Instantiators.of(type);
+                return true;
+            } catch (ObjectFactoryUtilException ex) {
+                return false;
+            }
+        }
+    }
+}
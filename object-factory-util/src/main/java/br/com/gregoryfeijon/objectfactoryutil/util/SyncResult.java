@@ -0,0 +1,83 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Resultado de uma sincronização feita pelo
+ * {@link ObjectFactoryUtil#sync(Object, Object) sync}, com a quantidade de
+ * alterações feitas no objeto de destino e nos seus objetos
+ * aninhados.</strong>
+ *
+ * @author gregory.feijon
+ */
+public final class SyncResult {
+
+    private int changedFields;
+    private int addedElements;
+    private int removedElements;
+    private int updatedElements;
+
+    SyncResult() {
+    }
+
+    /**
+     * <strong>Quantidade de campos que receberam um novo valor.</strong>
+     *
+     * @return int
+     */
+    public int getChangedFields() {
+        return changedFields;
+    }
+
+    public int getAddedElements() {
+        return addedElements;
+    }
+
+    public int getRemovedElements() {
+        return removedElements;
+    }
+
+    /**
+     * <strong>Quantidade de elementos de coleções e mapas já existentes no
+     * destino que foram substituídos ou tiveram algum campo alterado.</strong>
+     *
+     * @return int
+     */
+    public int getUpdatedElements() {
+        return updatedElements;
+    }
+
+    public int getChangedElements() {
+        return addedElements + removedElements + updatedElements;
+    }
+
+    public boolean hasChanges() {
+        return changedFields > 0 || getChangedElements() > 0;
+    }
+
+    int changes() {
+        return changedFields + getChangedElements();
+    }
+
+    void fieldChanged() {
+        changedFields++;
+    }
+
+    void elementsAdded(int count) {
+        addedElements += count;
+    }
+
+    void elementsRemoved(int count) {
+        removedElements += count;
+    }
+
+    void elementUpdated() {
+        updatedElements++;
+    }
+
+    @Override
+    public String toString() {
+        return "SyncResult(changedFields=" + changedFields + ", addedElements=" + addedElements + ", removedElements="
+                + removedElements + ", updatedElements=" + updatedElements + ")";
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Conversão de um valor entre os tipos de um campo de origem e de um
+ * campo de destino diferentes.</strong>
+ *
+ * <p>
+ * Os conversores são resolvidos uma única vez para cada par de campos, na
+ * compilação do plano de cópia do par de classes, e recebem apenas valores não
+ * nulos. Além dos conversores embutidos (entre tipos numéricos, entre
+ * {@link String} e números, entre {@link java.util.Date Date},
+ * {@link java.time.Instant Instant}, {@link java.time.LocalDateTime
+ * LocalDateTime} e {@link java.time.LocalDate LocalDate}, e entre
+ * {@link java.util.UUID UUID} e {@link String}), novos conversores podem ser
+ * registrados pelo
+ * {@link ObjectFactoryUtilConfig#registerConverter(Class, Class, TypeConverter)
+ * registerConverter}, e têm precedência sobre os embutidos.
+ * <p>
+ *
+ * @param <S> tipo do valor de origem
+ * @param <T> tipo do valor de destino
+ * @author gregory.feijon
+ */
+@FunctionalInterface
+public interface TypeConverter<S, T> {
+
+    /**
+     * <strong>Converte o valor de origem, não nulo, para o tipo de
+     * destino.</strong>
+     *
+     * @param value - S
+     * @return T
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    T convert(S value) throws ObjectFactoryUtilException;
+}
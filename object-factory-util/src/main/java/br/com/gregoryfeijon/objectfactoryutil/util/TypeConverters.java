@@ -0,0 +1,234 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Classe responsável por resolver o {@link TypeConverter} entre os
+ * tipos de um par de campos, entre os registrados no
+ * {@link ObjectFactoryUtilConfig} e os embutidos.</strong>
+ *
+ * <p>
+ * Tipos primitivos são tratados como os seus <i>wrappers</i>, e o tipo de
+ * origem é buscado também nas suas superclasses (um campo
+ * {@link java.sql.Timestamp Timestamp} utiliza os conversores de
+ * {@link Date}). Os conversores embutidos são:
+ * <ul>
+ * <li>entre {@link Byte}, {@link Short}, {@link Integer}, {@link Long},
+ * {@link Float}, {@link Double}, {@link BigInteger} e {@link BigDecimal}, com
+ * as mesmas regras de <i>widening</i> e <i>narrowing</i> dos <i>casts</i> do
+ * Java. Como {@link BigInteger} e {@link BigDecimal} não representam NaN nem
+ * infinito, esses valores são convertidos para null;</li>
+ * <li>entre {@link String} e esses tipos numéricos, em que textos em branco
+ * são convertidos para null;</li>
+ * <li>entre {@link Date}, {@link Instant}, {@link LocalDateTime} e
+ * {@link LocalDate}, no fuso horário padrão da JVM;</li>
+ * <li>entre {@link UUID} e {@link String}.</li>
+ * </ul>
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+final class TypeConverters {
+
+    private static final Map<Class<?>, Class<?>> WRAPPERS = new HashMap<>();
+    private static final Map<Class<?>, Map<Class<?>, TypeConverter<?, ?>>> BUILT_IN = new HashMap<>();
+
+    static {
+        WRAPPERS.put(boolean.class, Boolean.class);
+        WRAPPERS.put(byte.class, Byte.class);
+        WRAPPERS.put(short.class, Short.class);
+        WRAPPERS.put(int.class, Integer.class);
+        WRAPPERS.put(long.class, Long.class);
+        WRAPPERS.put(char.class, Character.class);
+        WRAPPERS.put(float.class, Float.class);
+        WRAPPERS.put(double.class, Double.class);
+        registerNumbers();
+        registerDates();
+        register(UUID.class, String.class, UUID::toString);
+        register(String.class, UUID.class, value -> parse(value, UUID.class, UUID::fromString));
+    }
+
+    private TypeConverters() {
+    }
+
+    /**
+     * <strong>Método que resolve o {@link ValueCopier} que converte os valores
+     * do tipo de origem para o tipo de destino.</strong>
+     *
+     * @param sourceType - {@link Class}&lt?&gt
+     * @param destType   - {@link Class}&lt?&gt
+     * @return {@link ValueCopier} - ou null, se não houver conversor entre os
+     * tipos
+     */
+    @SuppressWarnings("unchecked")
+    static ValueCopier resolve(Class<?> sourceType, Class<?> destType) {
+        Class<?> source = box(sourceType);
+        Class<?> dest = box(destType);
+        if (source == dest) {
+            return null;
+        }
+        TypeConverter<Object, ?> converter = (TypeConverter<Object, ?>) find(source, dest);
+        if (converter == null) {
+            return null;
+        }
+        return value -> value == null ? null : converter.convert(value);
+    }
+
+    /**
+     * <strong>Método que associa as falhas de conversão do
+     * {@link ValueCopier} informado ao campo de destino, lançando-as como
+     * {@link ObjectFactoryUtilException} com o nome do campo, inclusive as
+     * exceções não checadas dos conversores registrados.</strong>
+     *
+     * @param destField - {@link Field}
+     * @param copier    - {@link ValueCopier} - conversor do campo
+     * @return {@link ValueCopier}
+     */
+    static ValueCopier forField(Field destField, ValueCopier copier) {
+        return value -> {
+            try {
+                return copier.copy(value);
+            } catch (ObjectFactoryUtilException | RuntimeException ex) {
+                throw new ObjectFactoryUtilException("Erro ao converter o valor do campo " + destField.getName()
+                        + " da classe " + destField.getDeclaringClass().getName() + ".", ex);
+            }
+        };
+    }
+
+    private static TypeConverter<?, ?> find(Class<?> sourceType, Class<?> destType) {
+        for (Class<?> current = sourceType; current != null; current = current.getSuperclass()) {
+            TypeConverter<?, ?> converter = ObjectFactoryUtilConfig.getConverter(current, destType);
+            if (converter != null) {
+                return converter;
+            }
+        }
+        for (Class<?> current = sourceType; current != null; current = current.getSuperclass()) {
+            Map<Class<?>, TypeConverter<?, ?>> converters = BUILT_IN.get(current);
+            if (converters != null && converters.containsKey(destType)) {
+                return converters.get(destType);
+            }
+        }
+        return null;
+    }
+
+    static Class<?> box(Class<?> type) {
+        return type.isPrimitive() ? WRAPPERS.get(type) : type;
+    }
+
+    private static <S> void register(Class<S> sourceType, Class<?> destType, TypeConverter<S, ?> converter) {
+        BUILT_IN.computeIfAbsent(sourceType, key -> new HashMap<>()).put(destType, converter);
+    }
+
+    private static void registerNumbers() {
+        Map<Class<? extends Number>, Function<Number, Number>> numbers = new HashMap<>();
+        numbers.put(Byte.class, Number::byteValue);
+        numbers.put(Short.class, Number::shortValue);
+        numbers.put(Integer.class, Number::intValue);
+        numbers.put(Long.class, Number::longValue);
+        numbers.put(Float.class, Number::floatValue);
+        numbers.put(Double.class, Number::doubleValue);
+        numbers.put(BigInteger.class, TypeConverters::toBigInteger);
+        numbers.put(BigDecimal.class, TypeConverters::toBigDecimal);
+
+        Map<Class<? extends Number>, Function<String, Number>> parsers = new HashMap<>();
+        parsers.put(Byte.class, Byte::valueOf);
+        parsers.put(Short.class, Short::valueOf);
+        parsers.put(Integer.class, Integer::valueOf);
+        parsers.put(Long.class, Long::valueOf);
+        parsers.put(Float.class, Float::valueOf);
+        parsers.put(Double.class, Double::valueOf);
+        parsers.put(BigInteger.class, BigInteger::new);
+        parsers.put(BigDecimal.class, BigDecimal::new);
+
+        numbers.forEach((destType, conversion) -> {
+            for (Class<? extends Number> sourceType : numbers.keySet()) {
+                if (sourceType != destType) {
+                    register(sourceType, destType, conversion::apply);
+                }
+            }
+            Function<String, Number> parser = parsers.get(destType);
+            register(String.class, destType, value -> parse(value, destType, parser));
+            register(destType, String.class, value -> value instanceof BigDecimal
+                    ? ((BigDecimal) value).toPlainString() : value.toString());
+        });
+    }
+
+    private static void registerDates() {
+        register(Date.class, Instant.class, value -> Instant.ofEpochMilli(value.getTime()));
+        register(Date.class, LocalDateTime.class, value -> LocalDateTime.ofInstant(Instant.ofEpochMilli(value.getTime()), zone()));
+        register(Date.class, LocalDate.class, value -> LocalDateTime.ofInstant(Instant.ofEpochMilli(value.getTime()), zone()).toLocalDate());
+        register(Instant.class, Date.class, value -> new Date(value.toEpochMilli()));
+        register(Instant.class, LocalDateTime.class, value -> LocalDateTime.ofInstant(value, zone()));
+        register(Instant.class, LocalDate.class, value -> LocalDateTime.ofInstant(value, zone()).toLocalDate());
+        register(LocalDateTime.class, Date.class, value -> new Date(value.atZone(zone()).toInstant().toEpochMilli()));
+        register(LocalDateTime.class, Instant.class, value -> value.atZone(zone()).toInstant());
+        register(LocalDateTime.class, LocalDate.class, LocalDateTime::toLocalDate);
+        register(LocalDate.class, Date.class, value -> new Date(value.atStartOfDay(zone()).toInstant().toEpochMilli()));
+        register(LocalDate.class, Instant.class, value -> value.atStartOfDay(zone()).toInstant());
+        register(LocalDate.class, LocalDateTime.class, LocalDate::atStartOfDay);
+    }
+
+    private static ZoneId zone() {
+        return ZoneId.systemDefault();
+    }
+
+    private static BigInteger toBigInteger(Number value) {
+        if (value instanceof BigInteger) {
+            return (BigInteger) value;
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toBigInteger();
+        }
+        if (value instanceof Float || value instanceof Double) {
+            return Double.isFinite(value.doubleValue()) ? BigDecimal.valueOf(value.doubleValue()).toBigInteger() : null;
+        }
+        return BigInteger.valueOf(value.longValue());
+    }
+
+    private static BigDecimal toBigDecimal(Number value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        }
+        if ((value instanceof Float || value instanceof Double) && !Double.isFinite(value.doubleValue())) {
+            return null;
+        }
+        if (value instanceof Float) {
+            return new BigDecimal(value.toString());
+        }
+        if (value instanceof Double) {
+            return BigDecimal.valueOf(value.doubleValue());
+        }
+        return BigDecimal.valueOf(value.longValue());
+    }
+
+    private static <T> T parse(String value, Class<?> destType, Function<String, T> parser) throws ObjectFactoryUtilException {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        try {
+            return parser.apply(trimmed);
+        } catch (IllegalArgumentException ex) {
+            throw new ObjectFactoryUtilException("Erro ao converter o valor \"" + value + "\" para o tipo "
+                    + destType.getName() + ".", ex);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Passo de conversão/cópia de um valor, resolvido uma única vez na
+ * compilação do {@link CopyPlan} para cada par de campos.</strong>
+ *
+ * @author gregory.feijon
+ */
+@FunctionalInterface
+interface ValueCopier {
+
+    ValueCopier IDENTITY = value -> value;
+
+    Object copy(Object sourceValue) throws ObjectFactoryUtilException;
+
+    /**
+     * <strong>Copia o valor reaproveitando, quando possível, o valor já
+     * presente no destino.</strong> Por padrão, apenas cria uma nova cópia.
+     *
+     * @param sourceValue - {@link Object} - valor de origem
+     * @param destValue   - {@link Object} - valor atual do destino
+     * @return {@link Object} - o valor a ser atribuído ao destino
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    default Object copyInto(Object sourceValue, Object destValue) throws ObjectFactoryUtilException {
+        return copy(sourceValue);
+    }
+}
@@ -0,0 +1,370 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import com.google.api.client.util.IOUtils;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Classe responsável por resolver, a partir dos tipos dos campos de
+ * origem e destino, o {@link ValueCopier} que será utilizado na cópia de cada
+ * valor.</strong>
+ *
+ * <p>
+ * Toda a análise de tipos (primitivos, <i>wrappers</i>, {@link Enum},
+ * {@link Collection} e {@link Map}) é feita uma única vez, na compilação do
+ * {@link CopyPlan}. Durante a cópia, apenas as verificações que dependem do
+ * valor (como nulos e valores default) são executadas.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+final class ValueCopiers {
+
+    private static final Gson GSON = GsonUtil.getCompactGson();
+
+    private ValueCopiers() {
+    }
+
+    /**
+     * <strong>Método para resolver o {@link ValueCopier} de um par de campos,
+     * verificando os casos especiais em que os tipos do objeto de origem e
+     * destino são diferentes e é necessário um tratamento específico para
+     * retornar o valor correto.</strong>
+     *
+     * <p>
+     * Quando houver um {@link TypeConverter} entre os tipos dos campos,
+     * registrado ou embutido (ver {@link TypeConverters}), ele é utilizado, e
+     * as suas falhas são lançadas com o nome do campo de destino.
+     * Faz tratamento específicos entre Wrappers e tipos primitivos, tanto do
+     * atributo copiado, quanto do destino. Também possui um tratamento
+     * específico no caso do atributo do objeto copiado ser uma
+     * {@linkplain String} e o atributo do destino ser um {@linkplain Enum}.
+     * Arrays, {@linkplain Collection}s e {@linkplain Map}s de tipos diferentes
+     * são convertidos quando possível, conforme o
+     * {@link #resolveContainers(Class, Class, Type) resolveContainers}.
+     * Campos de destino declarados com interfaces podem ser copiados de forma
+     * tardia, conforme os {@link LazyCopies}, exceto quando anotados com uma
+     * {@link CopyPolicy forma de cópia}.
+     * <p>
+     *
+     * @param sourceField - {@link Field}
+     * @param destField   - {@link Field}
+     * @return {@link ValueCopier}
+     */
+    static ValueCopier resolve(Field sourceField, Field destField) {
+        CopyPolicy policy = CopyPolicy.of(sourceField, destField);
+        ValueCopier copier = resolve(policy, sourceField.getType(), destField.getType(), destField.getGenericType());
+        if (sourceField.getType() != destField.getType()
+                && TypeConverters.resolve(sourceField.getType(), destField.getType()) != null) {
+            return TypeConverters.forField(destField, copier);
+        }
+        if (policy != CopyPolicy.DEFAULT || !destField.getType().isAssignableFrom(sourceField.getType())) {
+            return copier;
+        }
+        return LazyCopies.wrap(destField.getType(), copier);
+    }
+
+    /**
+     * <strong>Método para resolver o {@link ValueCopier} a partir dos tipos de
+     * origem e destino, seguindo a {@link CopyPolicy} informada.</strong>
+     *
+     * <p>
+     * O compartilhamento da referência ({@link CopyPolicy#SHARE SHARE}) e a
+     * cópia de apenas um nível ({@link CopyPolicy#SHALLOW SHALLOW}) só se
+     * aplicam quando o tipo de destino aceita o valor de origem. Caso
+     * contrário, assim como nas demais formas, o valor é copiado pelas regras
+     * padrão do {@link #resolve(Class, Class, Type) resolve}.
+     * <p>
+     *
+     * @param policy          - {@link CopyPolicy}
+     * @param sourceFieldType - {@link Class}&lt?&gt
+     * @param destFieldType   - {@link Class}&lt?&gt
+     * @param destGenericType - {@link Type} - tipo genérico do destino
+     * @return {@link ValueCopier}
+     */
+    static ValueCopier resolve(CopyPolicy policy, Class<?> sourceFieldType, Class<?> destFieldType, Type destGenericType) {
+        if (destFieldType.isAssignableFrom(sourceFieldType)) {
+            if (policy == CopyPolicy.SHARE || policy == CopyPolicy.SHALLOW && ImmutableTypes.isImmutable(destFieldType)) {
+                return ValueCopier.IDENTITY;
+            }
+            if (policy == CopyPolicy.SHALLOW) {
+                return resolveShallow(destFieldType);
+            }
+        }
+        return resolve(sourceFieldType, destFieldType, destGenericType);
+    }
+
+    private static ValueCopier resolveShallow(Class<?> destFieldType) {
+        if (isCollection(destFieldType) || isMap(destFieldType)) {
+            return CollectionCopiers.shallow(destFieldType);
+        }
+        if (destFieldType.isArray()) {
+            return ArrayCopiers.shallow();
+        }
+        return ObjectGraphCopier.shallow(destFieldType);
+    }
+
+    /**
+     * <strong>Método para resolver o {@link ValueCopier} a partir dos tipos de
+     * origem e destino.</strong>
+     *
+     * @param sourceFieldType - {@link Class}&lt?&gt
+     * @param destFieldType   - {@link Class}&lt?&gt
+     * @param destGenericType - {@link Type} - tipo genérico do destino
+     * @return {@link ValueCopier}
+     * @see #resolve(Field, Field)
+     */
+    static ValueCopier resolve(Class<?> sourceFieldType, Class<?> destFieldType, Type destGenericType) {
+        if (sourceFieldType == destFieldType) {
+            return resolveCopyValue(sourceFieldType, destFieldType, destGenericType);
+        }
+
+        ValueCopier copier = TypeConverters.resolve(sourceFieldType, destFieldType);
+        if (copier == null) {
+            if (sourceFieldType.isEnum() || destFieldType.isEnum()) {
+                copier = resolveEnums(sourceFieldType, destFieldType);
+            } else if (isContainer(destFieldType) || isContainer(sourceFieldType)) {
+                copier = resolveContainers(sourceFieldType, destFieldType, destGenericType);
+            } else {
+                copier = resolveCopyValue(sourceFieldType, destFieldType, destGenericType);
+            }
+        }
+
+        if (ReflectionUtil.isWrapperType(sourceFieldType) && destFieldType.isPrimitive()) {
+            Object defaultValue = ReflectionUtil.defaultValueFor(destFieldType);
+            ValueCopier next = copier;
+            return value -> {
+                Object copy = value == null ? null : next.copy(value);
+                return copy == null ? defaultValue : copy;
+            };
+        }
+        if (ReflectionUtil.isWrapperType(destFieldType) && sourceFieldType.isPrimitive()) {
+            Object defaultValue = ReflectionUtil.defaultValueFor(sourceFieldType);
+            ValueCopier next = copier;
+            return value -> Objects.equals(value, defaultValue) ? null : next.copy(value);
+        }
+        return copier;
+    }
+
+    /**
+     * <strong>Método que resolve a conversão entre tipos diferentes de arrays,
+     * {@link Collection}s e {@link Map}s.</strong>
+     *
+     * <p>
+     * Arrays e {@link Collection}s podem ser convertidos entre si, assim como
+     * diferentes tipos de {@link Collection} (por exemplo, de
+     * {@link List} para {@link Set}) ou de {@link Map}. Nos demais casos, como
+     * de uma {@link Collection} para um {@link Map}, apenas retorna null, pois
+     * é um tratamento mais específico de implementação.
+     * <p>
+     *
+     * @param sourceFieldType - {@link Class}&lt?&gt
+     * @param destFieldType   - {@link Class}&lt?&gt
+     * @param destGenericType - {@link Type}
+     * @return {@link ValueCopier}
+     */
+    private static ValueCopier resolveContainers(Class<?> sourceFieldType, Class<?> destFieldType, Type destGenericType) {
+        boolean sourceSequence = sourceFieldType.isArray() || isCollection(sourceFieldType);
+        if (destFieldType.isArray() && sourceSequence) {
+            return sourceFieldType.isArray() ? ArrayCopiers.forArray(destFieldType) : ArrayCopiers.fromCollection(destFieldType);
+        }
+        if (isCollection(destFieldType) && sourceSequence) {
+            return sourceFieldType.isArray() ? ArrayCopiers.toCollection(destFieldType, destGenericType)
+                    : CollectionCopiers.resolve(destFieldType, destGenericType);
+        }
+        if (isMap(destFieldType) && isMap(sourceFieldType)) {
+            return CollectionCopiers.resolve(destFieldType, destGenericType);
+        }
+        return value -> null;
+    }
+
+    /**
+     * <strong>Método validação de enum, para o caso de algum dos tipos dos
+     * atributos envolvidos na cópia seja do tipo enum</strong>
+     *
+     * <p>
+     * As constantes equivalentes são obtidas dos índices e tabelas de
+     * conversão dos {@link EnumConverters}, construídos uma única vez por
+     * {@link Enum} e por par de {@link Enum}s.
+     * <p>
+     *
+     * @param sourceFieldType - {@linkplain Class}&lt?&gt
+     * @param destFieldType   - {@linkplain Class}&lt?&gt
+     * @return {@link ValueCopier}
+     */
+    private static ValueCopier resolveEnums(Class<?> sourceFieldType, Class<?> destFieldType) {
+        if (destFieldType.isEnum()) {
+            if (sourceFieldType.equals(String.class)) {
+                EnumConverters.EnumLookup lookup = EnumConverters.lookup(destFieldType);
+                return lookup::find;
+            } else if (sourceFieldType.isEnum()) {
+                Object[] translation = EnumConverters.translation(sourceFieldType, destFieldType);
+                return value -> value != null ? translation[((Enum<?>) value).ordinal()] : null;
+            }
+        }
+        if (sourceFieldType.isEnum() && destFieldType.equals(String.class)) {
+            return value -> value != null ? value.toString() : null;
+        }
+        return value -> null;
+    }
+
+    /**
+     * <strong>Método para verificar o tipo do valor copiado, com o intuito de
+     * definir a melhor forma para copiá-lo.</strong>
+     *
+     * <p>
+     * Verifica se o tipo é primitivo, {@link Enum} ou
+     * {@link ImmutableTypes imutável} e, caso seja, apenas repassa a referência
+     * do valor. Posteriormente, verifica se é um Wrapper mutável, que será
+     * copiado apenas via serialização. Caso o valor seja uma {@link Collection} ou um {@link Map},
+     * é copiado pelos {@link CollectionCopiers}, elemento a elemento, e os
+     * arrays pelos {@link ArrayCopiers}. Se não for nenhum desses tipos, o objeto é copiado pelo
+     * {@link ObjectGraphCopier}, que cria uma nova instância do objeto e copia
+     * os seus campos, para garantir que seja feita a cópia por valor, não por
+     * referência.
+     * <p>
+     *
+     * @param sourceFieldType - {@link Class}&lt?&gt
+     * @param destFieldType   - {@link Class}&lt?&gt
+     * @param destGenericType - {@link Type}
+     * @return {@link ValueCopier}
+     */
+    private static ValueCopier resolveCopyValue(Class<?> sourceFieldType, Class<?> destFieldType, Type destGenericType) {
+        if (isPrimitiveOrEnum(sourceFieldType) || ImmutableTypes.isImmutable(sourceFieldType)) {
+            return ValueCopier.IDENTITY;
+        }
+        if (ReflectionUtil.isWrapperType(sourceFieldType)) {
+            return value -> {
+                try {
+                    return serializingClone(value, destFieldType);
+                } catch (IOException | ObjectFactoryUtilException ex) {
+                    throw new ObjectFactoryUtilException("Erro ao serializar objeto para copiar o valor.", ex);
+                }
+            };
+        }
+        if (isClassMapCollection(sourceFieldType)) {
+            return CollectionCopiers.resolve(destFieldType, destGenericType);
+        }
+        if (sourceFieldType.isArray()) {
+            return ArrayCopiers.forArray(destFieldType);
+        }
+        return ObjectGraphCopier.forDeclaredType(destFieldType);
+    }
+
+    /**
+     * <strong>Método para copiar o valor de objetos do tipo
+     * <i>Wrappers</i>.</strong>
+     *
+     * @param source - {@link Object}
+     * @param aClass - {@link Class}&lt ?&gt
+     * @return {@link Object}
+     */
+    private static Object serializingClone(Object source, Class<?> aClass) throws ObjectFactoryUtilException, IOException {
+        if (source != null) {
+            return serializingCloneObjects(source, aClass);
+        }
+        return null;
+    }
+
+    /**
+     * <strong>Método que efetivamente faz a cópia dos valores via serialização,
+     * nos casos de <i>Wrappers</i> e objetos.</strong>
+     *
+     * @param source - {@link Object}
+     * @param aClass - {@link Class}&lt ?&gt
+     * @return {@link Object}
+     */
+    private static Object serializingCloneObjects(Object source, Class<?> aClass) throws ObjectFactoryUtilException, IOException {
+        if (aClass.isPrimitive() || ReflectionUtil.isWrapperType(aClass)) {
+            return IOUtils.deserialize(IOUtils.serialize(source));
+        }
+        return gsonClone(source, aClass);
+    }
+
+    /**
+     * <strong>Método que faz a cópia de um objeto via JSON, utilizando o
+     * {@link Gson} compartilhado da {@link GsonUtil}.</strong>
+     *
+     * <p>
+     * O objeto é convertido em uma árvore de {@link com.google.gson.JsonElement
+     * JsonElement}s, lida em seguida para a classe informada, sem passar por
+     * {@link String} nem por serialização Java.
+     * <p>
+     *
+     * @param source - {@link Object}
+     * @param aClass - {@link Class}&lt ?&gt
+     * @return {@link Object}
+     * @throws ObjectFactoryUtilException - Exception interna lançada quando ocorrerem erros
+     */
+    static Object gsonClone(Object source, Class<?> aClass) throws ObjectFactoryUtilException {
+        if (source == null) {
+            return null;
+        }
+        try {
+            return GSON.fromJson(GSON.toJsonTree(source), aClass);
+        } catch (JsonParseException ex) {
+            throw new ObjectFactoryUtilException("Erro ao copiar objeto via JSON.", ex);
+        }
+    }
+
+    /**
+     * <strong>Método para verificar se é um tipo primitivo ou
+     * {@link Enum}.</strong>
+     *
+     * @param type - {@link Class}&lt ?&gt
+     * @return boolean
+     */
+    private static boolean isPrimitiveOrEnum(Class<?> type) {
+        return type.isPrimitive() || type.isEnum();
+    }
+
+    /**
+     * <strong>Método para verificar se é uma {@link Collection} ou um
+     * {@link Map}.</strong>
+     *
+     * @param clazz - {@link Class}&lt ?&gt
+     * @return boolean
+     */
+    private static boolean isClassMapCollection(Class<?> clazz) {
+        return isCollection(clazz) || isMap(clazz);
+    }
+
+    /**
+     * <strong>Método para verificar se é um array, uma {@link Collection} ou um
+     * {@link Map}.</strong>
+     *
+     * @param clazz - {@link Class}&lt ?&gt
+     * @return boolean
+     */
+    private static boolean isContainer(Class<?> clazz) {
+        return clazz.isArray() || isClassMapCollection(clazz);
+    }
+
+    /**
+     * <strong>Método para verificar se é uma {@link Collection}.</strong>
+     *
+     * @param clazz - {@link Class}&lt ?&gt
+     * @return boolean
+     */
+    private static boolean isCollection(Class<?> clazz) {
+        return Collection.class.isAssignableFrom(clazz);
+    }
+
+    /**
+     * <strong>Método para verificar se é um {@link Map}.</strong>
+     *
+     * @param clazz - {@link Class}&lt ?&gt
+     * @return boolean
+     */
+    private static boolean isMap(Class<?> clazz) {
+        return Map.class.isAssignableFrom(clazz);
+    }
+}
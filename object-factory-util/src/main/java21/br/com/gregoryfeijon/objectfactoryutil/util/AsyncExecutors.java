@@ -0,0 +1,30 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 18/10/2026
+ *
+ * <strong>Fornece o {@link Executor} padrão das cópias assíncronas da
+ * {@link ObjectFactoryUtil}.</strong>
+ *
+ * <p>
+ * Versão para o Java 21 ou superior, publicada em
+ * <i>META-INF/versions/21</i>, que executa cada cópia em uma thread virtual.
+ * <p>
+ *
+ * @author gregory.feijon
+ */
+final class AsyncExecutors {
+
+    private static final ExecutorService VIRTUAL_THREADS = Executors.newVirtualThreadPerTaskExecutor();
+
+    private AsyncExecutors() {
+    }
+
+    static Executor defaultExecutor() {
+        return VIRTUAL_THREADS;
+    }
+}
@@ -0,0 +1,113 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArrayCopiersTest {
+
+    @Test
+    void copiesArraysDeeply() throws ObjectFactoryUtilException {
+        Arrays source = arrays();
+
+        Arrays copy = ObjectFactoryUtil.createFromObject(source);
+
+        assertNotSame(source.ints, copy.ints);
+        assertArrayEquals(source.ints, copy.ints);
+        assertNotSame(source.matrix[0], copy.matrix[0]);
+        assertArrayEquals(source.matrix[1], copy.matrix[1]);
+        assertNotSame(source.items[0], copy.items[0]);
+        assertEquals("a", copy.items[0].name);
+        assertNull(copy.items[1]);
+        assertInstanceOf(Item[].class, copy.objects);
+    }
+
+    @Test
+    void convertsElementTypes() throws ObjectFactoryUtilException {
+        Converted copy = ObjectFactoryUtil.createFromObject(arrays(), Converted.class);
+
+        assertArrayEquals(new long[]{1, 2, 3}, copy.ints);
+        assertArrayEquals(new int[]{4, 0, 6}, copy.boxed);
+    }
+
+    @Test
+    void convertsBetweenArraysAndCollections() throws ObjectFactoryUtilException {
+        Arrays source = arrays();
+        source.list = new ArrayList<>(java.util.Arrays.asList(7, 8));
+        source.names = new String[]{"b", "a", "b"};
+
+        Containers copy = ObjectFactoryUtil.createFromObject(source, Containers.class);
+
+        assertEquals(java.util.Arrays.asList(1, 2, 3), copy.ints);
+        assertArrayEquals(new int[]{7, 8}, copy.list);
+        assertEquals(new LinkedHashSet<>(java.util.Arrays.asList("b", "a")), copy.names);
+        assertEquals("a", copy.items.get(0).name);
+        assertNotSame(source.items[0], copy.items.get(0));
+    }
+
+    @Test
+    void copyIntoReusesArraysOfTheSameLength() throws ObjectFactoryUtilException {
+        Arrays source = arrays();
+        Arrays dest = new Arrays();
+        int[] ints = new int[3];
+        Item[] items = {new Item("old"), new Item("old")};
+        dest.ints = ints;
+        dest.items = items;
+        dest.names = new String[5];
+
+        ObjectFactoryUtil.copyInto(source, dest);
+
+        assertSame(ints, dest.ints);
+        assertArrayEquals(new int[]{1, 2, 3}, ints);
+        assertSame(items, dest.items);
+        assertEquals("a", items[0].name);
+        assertNull(items[1]);
+        assertNull(dest.names);
+    }
+
+    private static Arrays arrays() {
+        Arrays arrays = new Arrays();
+        arrays.ints = new int[]{1, 2, 3};
+        arrays.boxed = new Integer[]{4, null, 6};
+        arrays.matrix = new int[][]{{1}, {2, 3}};
+        arrays.items = new Item[]{new Item("a"), null};
+        arrays.objects = new Item[]{new Item("b")};
+        return arrays;
+    }
+
+    public static class Arrays {
+        int[] ints;
+        Integer[] boxed;
+        int[][] matrix;
+        Item[] items;
+        Object[] objects;
+        List<Integer> list;
+        String[] names;
+    }
+
+    public static class Converted {
+        long[] ints;
+        int[] boxed;
+    }
+
+    public static class Containers {
+        List<Integer> ints;
+        int[] list;
+        Set<String> names;
+        List<Item> items;
+    }
+
+    public static class Item {
+        String name;
+
+        public Item() {
+        }
+
+        Item(String name) {
+            this.name = name;
+        }
+    }
+}
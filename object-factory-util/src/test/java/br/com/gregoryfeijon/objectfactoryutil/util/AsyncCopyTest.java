@@ -0,0 +1,129 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncCopyTest {
+
+    private static final Executor DEFAULT_EXECUTOR = ObjectFactoryUtilConfig.getAsyncExecutor();
+
+    @AfterEach
+    void resetConfig() {
+        ObjectFactoryUtilConfig.setAsyncExecutor(DEFAULT_EXECUTOR);
+    }
+
+    @Test
+    void createFromObjectAsyncCompletesWithTheCopy() throws Exception {
+        Item source = new Item("a");
+
+        Item copy = ObjectFactoryUtil.createFromObjectAsync(source).get(10, TimeUnit.SECONDS);
+
+        assertNotSame(source, copy);
+        assertEquals("a", copy.name);
+    }
+
+    @Test
+    void copyAllObjectsFromCollectionAsyncCompletesWithTheCopies() throws Exception {
+        List<Item> sources = Arrays.asList(new Item("a"), new Item("b"));
+
+        List<Named> copies = ObjectFactoryUtil.copyAllObjectsFromCollectionAsync(sources, Named.class)
+                .get(10, TimeUnit.SECONDS);
+        List<Item> sameType = ObjectFactoryUtil.copyAllObjectsFromCollectionAsync(sources).get(10, TimeUnit.SECONDS);
+
+        assertEquals(2, copies.size());
+        assertEquals("a", copies.get(0).name);
+        assertEquals("b", copies.get(1).name);
+        assertNotSame(sources.get(1), sameType.get(1));
+        assertEquals("b", sameType.get(1).name);
+    }
+
+    @Test
+    void runsOnTheInformedExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "copy-worker"));
+        AtomicInteger calls = new AtomicInteger();
+        try {
+            Executor counting = task -> {
+                calls.incrementAndGet();
+                executor.execute(task);
+            };
+
+            String thread = ObjectFactoryUtil.createFromObjectAsync(new Item("a"), counting)
+                    .thenApply(copy -> Thread.currentThread().getName())
+                    .get(10, TimeUnit.SECONDS);
+            ObjectFactoryUtil.createFromObjectAsync(new Item("a"), Named.class, counting).get(10, TimeUnit.SECONDS);
+
+            assertEquals(2, calls.get());
+            assertEquals("copy-worker", thread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void usesTheConfiguredExecutor() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        ObjectFactoryUtilConfig.setAsyncExecutor(task -> {
+            calls.incrementAndGet();
+            task.run();
+        });
+
+        CompletableFuture<List<Item>> future = ObjectFactoryUtil.copyAllObjectsFromCollectionAsync(
+                Arrays.asList(new Item("a")));
+
+        assertTrue(future.isDone());
+        assertEquals("a", future.get().get(0).name);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void failedCopyCompletesWithTheOriginalException() {
+        CompletableFuture<WithoutNoArg> future = ObjectFactoryUtil.createFromObjectAsync(new Item("a"),
+                WithoutNoArg.class, Runnable::run);
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(ObjectFactoryUtilException.class, ex.getCause());
+        CompletionException joined = assertThrows(CompletionException.class, future::join);
+        assertSame(ex.getCause(), joined.getCause());
+    }
+
+    @Test
+    void rejectedTaskCompletesExceptionally() {
+        CompletableFuture<Item> future = ObjectFactoryUtil.createFromObjectAsync(new Item("a"), task -> {
+            throw new RejectedExecutionException();
+        });
+
+        ExecutionException ex = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(RejectedExecutionException.class, ex.getCause());
+    }
+
+    public static class Item {
+        String name;
+
+        public Item() {
+        }
+
+        Item(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class Named {
+        String name;
+    }
+
+    public static class WithoutNoArg {
+        String name;
+
+        public WithoutNoArg(String name, int size) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkCopierTest {
+
+    private static final int PARALLELISM = 4;
+
+    private final int defaultThreshold = ObjectFactoryUtilConfig.getParallelThreshold();
+    private final int defaultParallelism = ObjectFactoryUtilConfig.getParallelism();
+    private final Executor defaultExecutor = ObjectFactoryUtilConfig.getParallelExecutor();
+    private final AtomicInteger submitted = new AtomicInteger();
+    private final AtomicInteger started = new AtomicInteger();
+    private ExecutorService pool;
+
+    @BeforeEach
+    void enableParallelCopies() {
+        pool = Executors.newFixedThreadPool(PARALLELISM);
+        ObjectFactoryUtilConfig.setParallelThreshold(1);
+        ObjectFactoryUtilConfig.setParallelism(PARALLELISM);
+        ObjectFactoryUtilConfig.setParallelExecutor(task -> {
+            submitted.incrementAndGet();
+            pool.execute(task);
+        });
+    }
+
+    @AfterEach
+    void restoreConfig() throws InterruptedException {
+        ObjectFactoryUtilConfig.setParallelThreshold(defaultThreshold);
+        ObjectFactoryUtilConfig.setParallelism(defaultParallelism);
+        ObjectFactoryUtilConfig.setParallelExecutor(defaultExecutor);
+        ObjectFactoryUtilConfig.setPreserveIdentity(false);
+        pool.shutdownNow();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void keepsOrderAndSizeForAnySize() throws ObjectFactoryUtilException {
+        for (int size : new int[]{1, 2, 3, 5, 7, 9, 10, 13, 100}) {
+            List<Item> source = items(size);
+
+            List<Item> copies = ObjectFactoryUtil.copyAllObjectsFromCollection(source);
+
+            assertEquals(size, copies.size());
+            for (int i = 0; i < size; i++) {
+                assertNotSame(source.get(i), copies.get(i));
+                assertEquals(i, copies.get(i).index);
+            }
+        }
+        assertTrue(submitted.get() > 0);
+    }
+
+    @Test
+    void convertsToTheReturnTypeInOrder() throws ObjectFactoryUtilException {
+        List<Indexed> copies = ObjectFactoryUtil.copyAllObjectsFromCollection(items(11), Indexed.class);
+
+        assertEquals(11, copies.size());
+        for (int i = 0; i < copies.size(); i++) {
+            assertEquals(i, copies.get(i).index);
+            assertEquals(i, copies.get(i).code);
+        }
+    }
+
+    @Test
+    void failureInAWorkerChunkReachesTheCaller() {
+        List<Item> source = items(10);
+        source.get(9).code = "x";
+
+        assertThrows(ObjectFactoryUtilException.class,
+                () -> ObjectFactoryUtil.copyAllObjectsFromCollection(source, Indexed.class));
+        assertEquals(PARALLELISM - 1, submitted.get());
+    }
+
+    @Test
+    void failureInTheCallerChunkWaitsForTheWorkers() throws ObjectFactoryUtilException {
+        List<Item> source = items(10);
+        assertEquals(10, ObjectFactoryUtil.copyAllObjectsFromCollection(source, Indexed.class).size());
+        ObjectFactoryUtilConfig.setParallelExecutor(task -> {
+            submitted.incrementAndGet();
+            pool.execute(() -> {
+                try {
+                    Thread.sleep(300);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                started.incrementAndGet();
+                task.run();
+            });
+        });
+        submitted.set(0);
+        source.get(0).code = "x";
+
+        assertThrows(ObjectFactoryUtilException.class,
+                () -> ObjectFactoryUtil.copyAllObjectsFromCollection(source, Indexed.class));
+        assertEquals(PARALLELISM - 1, submitted.get());
+        assertEquals(submitted.get(), started.get());
+    }
+
+    @Test
+    void identityModeStaysSequential() throws ObjectFactoryUtilException {
+        ObjectFactoryUtilConfig.setPreserveIdentity(true);
+        Item shared = new Item(-1);
+        List<Item> source = items(10);
+        source.forEach(item -> item.payload = shared);
+
+        List<Item> copies = ObjectFactoryUtil.copyAllObjectsFromCollection(source);
+
+        assertEquals(0, submitted.get());
+        assertEquals(10, copies.size());
+        assertNotSame(shared, copies.get(0).payload);
+        assertSame(copies.get(0).payload, copies.get(9).payload);
+    }
+
+    private static List<Item> items(int size) {
+        List<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new Item(i));
+        }
+        return items;
+    }
+
+    public static class Item {
+        int index;
+        String code;
+        Object payload;
+
+        public Item() {
+        }
+
+        Item(int index) {
+            this.index = index;
+            this.code = String.valueOf(index);
+        }
+    }
+
+    public static class Indexed {
+        int index;
+        Integer code;
+    }
+}
@@ -0,0 +1,158 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollectionCopiersTest {
+
+    @Test
+    void preservesCollectionClassOrderAndComparator() throws ObjectFactoryUtilException {
+        Holder source = new Holder();
+        source.list = new LinkedList<>(Arrays.asList("b", "a"));
+        source.sorted = new TreeSet<>(Comparator.reverseOrder());
+        source.sorted.addAll(Arrays.asList("a", "c", "b"));
+        source.map = new HashMap<>(Collections.singletonMap("key", new Item("value")));
+
+        Holder copy = ObjectFactoryUtil.createFromObject(source);
+
+        assertInstanceOf(LinkedList.class, copy.list);
+        assertEquals(source.list, copy.list);
+        assertInstanceOf(TreeSet.class, copy.sorted);
+        assertEquals(Arrays.asList("c", "b", "a"), new ArrayList<>(copy.sorted));
+        assertEquals("value", copy.map.get("key").name);
+        assertNotSame(source.map.get("key"), copy.map.get("key"));
+    }
+
+    @Test
+    void accessOrderedLinkedHashMapKeepsItsOrderingMode() throws ObjectFactoryUtilException {
+        Holder source = new Holder();
+        source.map = new LinkedHashMap<>(16, 0.75f, true);
+        source.map.put("a", new Item("a"));
+        source.map.put("b", new Item("b"));
+        source.map.put("c", new Item("c"));
+        source.map.get("a");
+
+        Holder copy = ObjectFactoryUtil.createFromObject(source);
+
+        assertEquals(Arrays.asList("b", "c", "a"), new ArrayList<>(copy.map.keySet()));
+        copy.map.get("b");
+        assertEquals(Arrays.asList("c", "a", "b"), new ArrayList<>(copy.map.keySet()));
+        assertNotSame(source.map.get("c"), copy.map.get("c"));
+    }
+
+    @Test
+    void insertionOrderedLinkedHashMapStaysInsertionOrdered() throws ObjectFactoryUtilException {
+        Holder source = new Holder();
+        source.map = new LinkedHashMap<>();
+        source.map.put("b", new Item("b"));
+        source.map.put("a", new Item("a"));
+
+        Holder copy = ObjectFactoryUtil.createFromObject(source);
+        copy.map.get("b");
+
+        assertEquals(Arrays.asList("b", "a"), new ArrayList<>(copy.map.keySet()));
+    }
+
+    @Test
+    void unmodifiableMapIsCopiedToTheDefaultImplementation() throws ObjectFactoryUtilException {
+        Holder source = new Holder();
+        source.map = Collections.unmodifiableMap(new TreeMap<>(Collections.singletonMap("key", new Item("value"))));
+
+        Holder copy = ObjectFactoryUtil.createFromObject(source);
+
+        assertInstanceOf(LinkedHashMap.class, copy.map);
+        assertEquals("value", copy.map.get("key").name);
+    }
+
+    @Test
+    void copyIntoReusesModifiableCollections() throws ObjectFactoryUtilException {
+        Holder source = new Holder();
+        source.items = new ArrayList<>(Arrays.asList(new Item("a"), new Item("b")));
+        Holder dest = new Holder();
+        List<Item> items = new ArrayList<>(Collections.singletonList(new Item("old")));
+        dest.items = items;
+
+        ObjectFactoryUtil.copyInto(source, dest);
+
+        assertSame(items, dest.items);
+        assertEquals(Arrays.asList("a", "b"), names(dest.items));
+    }
+
+    @Test
+    void copyIntoReplacesFixedSizeListsWithoutTouchingThem() throws ObjectFactoryUtilException {
+        Holder source = new Holder();
+        source.items = new ArrayList<>(Collections.singletonList(new Item("new")));
+        Holder dest = new Holder();
+        Item first = new Item("x");
+        List<Item> items = Arrays.asList(first, new Item("y"), new Item("z"));
+        dest.items = items;
+
+        ObjectFactoryUtil.copyInto(source, dest);
+
+        assertNotSame(items, dest.items);
+        assertEquals(Collections.singletonList("new"), names(dest.items));
+        assertEquals(Arrays.asList("x", "y", "z"), names(items));
+        assertSame(first, items.get(0));
+    }
+
+    @Test
+    void copyIntoReplacesUnmodifiableCollections() throws ObjectFactoryUtilException {
+        Holder source = new Holder();
+        source.items = new ArrayList<>(Collections.singletonList(new Item("new")));
+        source.map = new HashMap<>(Collections.singletonMap("key", new Item("new")));
+        Holder dest = new Holder();
+        Item old = new Item("old");
+        dest.items = List.of(old);
+        Map<String, Item> map = Collections.unmodifiableMap(new HashMap<>(Collections.singletonMap("key", old)));
+        dest.map = map;
+
+        ObjectFactoryUtil.copyInto(source, dest);
+
+        assertEquals(Collections.singletonList("new"), names(dest.items));
+        assertNotSame(map, dest.map);
+        assertEquals("new", dest.map.get("key").name);
+        assertEquals("old", old.name);
+        assertSame(old, map.get("key"));
+    }
+
+    @Test
+    void recognizesUnmodifiableContainers() {
+        assertTrue(CollectionCopiers.isModifiable(new ArrayList<>()));
+        assertTrue(CollectionCopiers.isModifiable(new TreeMap<>()));
+        assertFalse(CollectionCopiers.isModifiable(Arrays.asList("a")));
+        assertFalse(CollectionCopiers.isModifiable(List.of("a", "b", "c")));
+        assertFalse(CollectionCopiers.isModifiable(Map.of()));
+        assertFalse(CollectionCopiers.isModifiable(Collections.unmodifiableSortedSet(new TreeSet<>())));
+        assertFalse(CollectionCopiers.isModifiable(Collections.singletonMap("a", "b")));
+    }
+
+    private static List<String> names(List<Item> items) {
+        List<String> names = new ArrayList<>();
+        for (Item item : items) {
+            names.add(item.name);
+        }
+        return names;
+    }
+
+    public static class Holder {
+        List<String> list;
+        List<Item> items;
+        SortedSet<String> sorted;
+        Map<String, Item> map;
+    }
+
+    public static class Item {
+        String name;
+
+        public Item() {
+        }
+
+        Item(String name) {
+            this.name = name;
+        }
+    }
+}
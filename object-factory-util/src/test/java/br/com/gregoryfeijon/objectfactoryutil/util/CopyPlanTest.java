@@ -0,0 +1,107 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import br.com.gregoryfeijon.objectfactoryutil.model.Bar;
+import br.com.gregoryfeijon.objectfactoryutil.model.Foo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CopyPlanTest {
+
+    private final int defaultThreshold = ObjectFactoryUtilConfig.getTieredThreshold();
+
+    @AfterEach
+    void restoreConfig() {
+        ObjectFactoryUtilConfig.setTieredThreshold(defaultThreshold);
+    }
+
+    @Test
+    void cachesOnePlanPerClassPair() {
+        CopyPlan plan = CopyPlan.of(Bar.class, Foo.class);
+
+        assertSame(plan, CopyPlan.of(Bar.class, Foo.class));
+        assertNotSame(plan, CopyPlan.of(Foo.class, Bar.class));
+        assertNotSame(plan, CopyPlan.of(Bar.class, Bar.class));
+    }
+
+    @Test
+    void skipsConstantsAndExcludedFields() {
+        assertTrue(CopyPlan.getFieldsToCopy(Foo.class, Foo.class).stream()
+                .noneMatch(field -> field.getName().equals("serialVersionUID") || field.getName().equals("fooId")));
+        assertTrue(CopyPlan.getFieldsToCopy(Foo.class, Bar.class).stream()
+                .anyMatch(field -> field.getName().equals("fooId")));
+    }
+
+    @Test
+    void copiesMatchingFieldsIgnoringCase() throws ObjectFactoryUtilException {
+        Source source = new Source();
+        source.value = "value";
+        source.number = 7;
+
+        Target target = ObjectFactoryUtil.createFromObject(source, Target.class);
+
+        assertEquals("value", target.VALUE);
+        assertEquals(7, target.number);
+        assertNull(target.onlyInTarget);
+    }
+
+    @Test
+    void compiledTierCopiesTheSameValues() throws ObjectFactoryUtilException {
+        ObjectFactoryUtilConfig.setTieredThreshold(0);
+        Foo foo = new Foo(1L, "foo", "same", new Bar(2L, "same", "bar"), Arrays.asList(new Bar(3L, "a", "b")));
+
+        for (int i = 0; i < 5; i++) {
+            Foo copy = ObjectFactoryUtil.createFromObject(foo);
+            assertEquals(0L, copy.getFooId());
+            assertEquals(foo.getFooName(), copy.getFooName());
+            assertEquals(foo.getBar(), copy.getBar());
+            assertNotSame(foo.getBar(), copy.getBar());
+            assertEquals(foo.getBars(), copy.getBars());
+        }
+    }
+
+    @Test
+    void compiledTierNamesTheFailingField() {
+        ObjectFactoryUtilConfig.setTieredThreshold(2);
+        ObjectFactoryUtilConfig.registerConverter(StringBuilder.class, Integer.class,
+                value -> value.length() > 0 ? value.length() : null);
+        Sized source = new Sized();
+        source.name = "sized";
+        source.size = new StringBuilder();
+
+        for (int i = 0; i < 5; i++) {
+            ObjectFactoryUtilException ex = assertThrows(ObjectFactoryUtilException.class,
+                    () -> ObjectFactoryUtil.createFromObject(source, SizedTarget.class));
+            assertEquals("Erro ao acessar o valor do campo size!", ex.getMessage());
+        }
+        source.size.append("abc");
+        SizedTarget target = assertDoesNotThrow(() -> ObjectFactoryUtil.createFromObject(source, SizedTarget.class));
+        assertEquals(3, target.size);
+        assertEquals("sized", target.name);
+    }
+
+    static class Source {
+        String value;
+        int number;
+    }
+
+    static class Sized {
+        String name;
+        StringBuilder size;
+    }
+
+    static class SizedTarget {
+        String name;
+        int size;
+    }
+
+    static class Target {
+        String VALUE;
+        int number;
+        String onlyInTarget;
+    }
+}
@@ -0,0 +1,140 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.annotation.DeepCopy;
+import br.com.gregoryfeijon.objectfactoryutil.annotation.ShallowCopy;
+import br.com.gregoryfeijon.objectfactoryutil.annotation.ShareReference;
+import br.com.gregoryfeijon.objectfactoryutil.annotation.SkipCopy;
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CopyPolicyTest {
+
+    @AfterEach
+    void resetConfig() {
+        ObjectFactoryUtilConfig.setLazyCopy(false);
+    }
+
+    @Test
+    void skipLeavesTheDestinationFieldUntouched() throws ObjectFactoryUtilException {
+        Holder source = holder();
+        Holder dest = new Holder();
+        dest.skipped = "dest";
+
+        ObjectFactoryUtil.createFromObject(source, dest);
+
+        assertEquals("dest", dest.skipped);
+        assertNull(ObjectFactoryUtil.createFromObject(source).skipped);
+    }
+
+    @Test
+    void shareKeepsTheSameInstance() throws ObjectFactoryUtilException {
+        Holder source = holder();
+
+        Holder copy = ObjectFactoryUtil.createFromObject(source);
+
+        assertSame(source.shared, copy.shared);
+    }
+
+    @Test
+    void shallowCopiesOnlyTheFirstLevel() throws ObjectFactoryUtilException {
+        Holder source = holder();
+
+        Holder copy = ObjectFactoryUtil.createFromObject(source);
+
+        assertNotSame(source.shallowList, copy.shallowList);
+        assertSame(source.shallowList.get(0), copy.shallowList.get(0));
+        assertNotSame(source.shallowItem, copy.shallowItem);
+        assertSame(source.shallowItem.child, copy.shallowItem.child);
+        assertNotSame(source.deepList.get(0), copy.deepList.get(0));
+        assertEquals("a", copy.deepList.get(0).name);
+    }
+
+    @Test
+    void deepFieldsAreNeverCopiedLazily() throws ObjectFactoryUtilException {
+        ObjectFactoryUtilConfig.setLazyCopy(true);
+        Holder source = holder();
+
+        Holder copy = ObjectFactoryUtil.createFromObject(source);
+
+        assertInstanceOf(ArrayList.class, copy.deepList);
+        assertFalse(LazyCopies.isLazyType(copy.deepList.getClass()));
+        assertTrue(LazyCopies.isLazyType(copy.lazyList.getClass()));
+    }
+
+    @Test
+    void destinationAnnotationWinsOverTheSource() throws ObjectFactoryUtilException {
+        Source source = new Source();
+        source.item = new Item("a");
+
+        Dest dest = ObjectFactoryUtil.createFromObject(source, Dest.class);
+
+        assertSame(source.item, dest.item);
+    }
+
+    @Test
+    void mostRestrictivePolicyWinsOnTheSameField() throws ObjectFactoryUtilException {
+        Conflicting source = new Conflicting();
+        source.item = new Item("a");
+
+        assertNull(ObjectFactoryUtil.createFromObject(source).item);
+    }
+
+    private static Holder holder() {
+        Holder holder = new Holder();
+        holder.skipped = "source";
+        holder.shared = new Item("shared");
+        holder.shallowList = new ArrayList<>(Collections.singletonList(new Item("a")));
+        holder.shallowItem = new Item("parent");
+        holder.shallowItem.child = new Item("child");
+        holder.deepList = new ArrayList<>(Collections.singletonList(new Item("a")));
+        holder.lazyList = new ArrayList<>(Collections.singletonList(new Item("a")));
+        return holder;
+    }
+
+    public static class Holder {
+        @SkipCopy
+        String skipped;
+        @ShareReference
+        Item shared;
+        @ShallowCopy
+        List<Item> shallowList;
+        @ShallowCopy
+        Item shallowItem;
+        @DeepCopy
+        List<Item> deepList;
+        List<Item> lazyList;
+    }
+
+    public static class Source {
+        @DeepCopy
+        Item item;
+    }
+
+    public static class Dest {
+        @ShareReference
+        Item item;
+    }
+
+    public static class Conflicting {
+        @SkipCopy
+        @DeepCopy
+        Item item;
+    }
+
+    public static class Item {
+        String name;
+        Item child;
+
+        public Item() {
+        }
+
+        Item(String name) {
+            this.name = name;
+        }
+    }
+}
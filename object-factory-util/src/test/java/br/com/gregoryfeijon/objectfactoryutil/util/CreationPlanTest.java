@@ -0,0 +1,104 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.annotation.ObjectCreator;
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import org.junit.jupiter.api.Test;
+
+import java.beans.ConstructorProperties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreationPlanTest {
+
+    @Test
+    void neverMatchesConstructorParametersByTypeOnly() {
+        Person source = new Person("Silva", "Ana");
+
+        assertThrows(ObjectFactoryUtilException.class, () -> ObjectFactoryUtil.createFromObject(source));
+    }
+
+    @Test
+    void usesConstructorPropertiesNames() throws ObjectFactoryUtilException {
+        PropertiesPerson copy = ObjectFactoryUtil.createFromObject(new PropertiesPerson("Silva", "Ana"));
+
+        assertEquals("Ana", copy.first);
+        assertEquals("Silva", copy.last);
+    }
+
+    @Test
+    void usesObjectCreatorNames() throws ObjectFactoryUtilException {
+        CreatorPerson copy = ObjectFactoryUtil.createFromObject(CreatorPerson.of("Silva", "Ana"));
+
+        assertEquals("Ana", copy.first);
+        assertEquals("Silva", copy.last);
+    }
+
+    @Test
+    void objectCreatorWithoutNamesFails() {
+        UnnamedCreatorPerson source = new UnnamedCreatorPerson("Silva", "Ana");
+
+        ObjectFactoryUtilException ex = assertThrows(ObjectFactoryUtilException.class,
+                () -> ObjectFactoryUtil.createFromObject(source));
+
+        assertTrue(ex.getMessage().contains("@ObjectCreator"), ex.getMessage());
+    }
+
+    @Test
+    void copiesTheFieldsNotReceivedByTheCreator() throws ObjectFactoryUtilException {
+        CreatorPerson source = CreatorPerson.of("Silva", "Ana");
+        source.age = 30;
+
+        CreatorPerson copy = ObjectFactoryUtil.createFromObject(source);
+
+        assertEquals("Ana", copy.first);
+        assertEquals(30, copy.age);
+    }
+
+    public static class Person {
+        final String first;
+        final String last;
+
+        public Person(String last, String first) {
+            this.first = first;
+            this.last = last;
+        }
+    }
+
+    public static class PropertiesPerson {
+        final String first;
+        final String last;
+
+        @ConstructorProperties({"last", "first"})
+        public PropertiesPerson(String last, String first) {
+            this.first = first;
+            this.last = last;
+        }
+    }
+
+    public static class CreatorPerson {
+        final String first;
+        final String last;
+        int age;
+
+        private CreatorPerson(String first, String last) {
+            this.first = first;
+            this.last = last;
+        }
+
+        @ObjectCreator({"last", "first"})
+        public static CreatorPerson of(String last, String first) {
+            return new CreatorPerson(first, last);
+        }
+    }
+
+    public static class UnnamedCreatorPerson {
+        final String first;
+        final String last;
+
+        @ObjectCreator
+        public UnnamedCreatorPerson(String last, String first) {
+            this.first = first;
+            this.last = last;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.annotation.CaseInsensitiveEnum;
+import br.com.gregoryfeijon.objectfactoryutil.annotation.EnumAlias;
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnumConvertersTest {
+
+    @Test
+    void convertsBetweenEnumsByNameAndAlias() throws ObjectFactoryUtilException {
+        assertEquals(Status.OPEN, convert(SourceStatus.OPEN).status);
+        assertEquals(Status.CLOSED, convert(SourceStatus.FINISHED).status);
+        assertNull(convert(SourceStatus.UNKNOWN).status);
+        assertNull(convert((SourceStatus) null).status);
+    }
+
+    @Test
+    void convertsTextIgnoringCaseWhenAnnotated() throws ObjectFactoryUtilException {
+        assertEquals(Status.OPEN, convert("open").status);
+        assertEquals(Status.CLOSED, convert("Done").status);
+        assertNull(convert("other").status);
+    }
+
+    @Test
+    void textConversionIsCaseSensitiveByDefault() throws ObjectFactoryUtilException {
+        TextHolder source = new TextHolder();
+        source.status = "open";
+
+        assertNull(ObjectFactoryUtil.createFromObject(source, StrictHolder.class).status);
+        source.status = "OPEN";
+        assertEquals(SourceStatus.OPEN, ObjectFactoryUtil.createFromObject(source, StrictHolder.class).status);
+    }
+
+    @Test
+    void convertsEnumsToText() throws ObjectFactoryUtilException {
+        EnumSource source = new EnumSource();
+        source.status = SourceStatus.FINISHED;
+
+        assertEquals("FINISHED", ObjectFactoryUtil.createFromObject(source, TextHolder.class).status);
+    }
+
+    @Test
+    void translationTableIsIndexedByOrdinal() {
+        Object[] table = EnumConverters.translation(SourceStatus.class, Status.class);
+
+        assertArrayEquals(new Object[]{Status.OPEN, Status.CLOSED, null}, table);
+        assertSame(table, EnumConverters.translation(SourceStatus.class, Status.class));
+    }
+
+    private static EnumHolder convert(SourceStatus status) throws ObjectFactoryUtilException {
+        EnumSource source = new EnumSource();
+        source.status = status;
+        return ObjectFactoryUtil.createFromObject(source, EnumHolder.class);
+    }
+
+    private static EnumHolder convert(String status) throws ObjectFactoryUtilException {
+        TextHolder source = new TextHolder();
+        source.status = status;
+        return ObjectFactoryUtil.createFromObject(source, EnumHolder.class);
+    }
+
+    public enum SourceStatus {
+        OPEN, FINISHED, UNKNOWN
+    }
+
+    @CaseInsensitiveEnum
+    public enum Status {
+        OPEN,
+        @EnumAlias({"FINISHED", "DONE"})
+        CLOSED
+    }
+
+    public static class EnumSource {
+        SourceStatus status;
+    }
+
+    public static class EnumHolder {
+        Status status;
+    }
+
+    public static class TextHolder {
+        String status;
+    }
+
+    public static class StrictHolder {
+        SourceStatus status;
+    }
+}
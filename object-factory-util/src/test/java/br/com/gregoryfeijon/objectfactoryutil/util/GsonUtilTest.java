@@ -0,0 +1,50 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GsonUtilTest {
+
+    @Test
+    void getGsonKeepsPrettyPrinting() {
+        assertSame(GsonUtil.getGson(), GsonUtil.getGson());
+        assertEquals("{\n  \"name\": \"a\",\n  \"size\": 1\n}", GsonUtil.getGson().toJson(new Item("a", 1)));
+    }
+
+    @Test
+    void internalGsonIsCompact() {
+        assertEquals("{\"name\":\"a\",\"size\":1}", GsonUtil.getCompactGson().toJson(new Item("a", 1)));
+    }
+
+    @Test
+    void streamingSerializationIsCompact() throws ObjectFactoryUtilException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        SerializationUtil.serializaObjeto(new Item("a", 1), output);
+
+        String json = new String(output.toByteArray(), StandardCharsets.UTF_8);
+        assertEquals("{\"name\":\"a\",\"size\":1}", json);
+        Item item = SerializationUtil.desserializaObjeto(new ByteArrayInputStream(output.toByteArray()), Item.class);
+        assertEquals("a", item.name);
+        assertEquals(1, item.size);
+    }
+
+    public static class Item {
+        String name;
+        int size;
+
+        public Item() {
+        }
+
+        Item(String name, int size) {
+            this.name = name;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentityCopyTest {
+
+    private final int defaultParallelThreshold = ObjectFactoryUtilConfig.getParallelThreshold();
+
+    @BeforeEach
+    void enableIdentity() {
+        ObjectFactoryUtilConfig.setPreserveIdentity(true);
+    }
+
+    @AfterEach
+    void restoreConfig() {
+        ObjectFactoryUtilConfig.setPreserveIdentity(false);
+        ObjectFactoryUtilConfig.setParallelThreshold(defaultParallelThreshold);
+    }
+
+    @Test
+    void sharedReferencesStaySharedInTheCopy() throws ObjectFactoryUtilException {
+        Node shared = new Node("shared");
+        Node root = new Node("root");
+        root.next = shared;
+        root.children = new ArrayList<>(Arrays.asList(shared, shared));
+
+        Node copy = ObjectFactoryUtil.createFromObject(root);
+
+        assertNotSame(shared, copy.next);
+        assertSame(copy.next, copy.children.get(0));
+        assertSame(copy.next, copy.children.get(1));
+    }
+
+    @Test
+    void cyclesPointToTheCopies() throws ObjectFactoryUtilException {
+        Node first = new Node("first");
+        Node second = new Node("second");
+        first.next = second;
+        second.next = first;
+        first.children = new ArrayList<>(Arrays.asList(first));
+
+        Node copy = ObjectFactoryUtil.createFromObject(first);
+
+        assertEquals("second", copy.next.name);
+        assertSame(copy, copy.next.next);
+        assertSame(copy, copy.children.get(0));
+    }
+
+    @Test
+    void withoutIdentitySharedReferencesAreCopiedSeparately() throws ObjectFactoryUtilException {
+        ObjectFactoryUtilConfig.setPreserveIdentity(false);
+        Node shared = new Node("shared");
+        Node root = new Node("root");
+        root.next = shared;
+        root.children = new ArrayList<>(Arrays.asList(shared));
+
+        Node copy = ObjectFactoryUtil.createFromObject(root);
+
+        assertNotSame(copy.next, copy.children.get(0));
+        assertEquals("shared", copy.children.get(0).name);
+    }
+
+    @Test
+    void sameSourceCopiedToDifferentTypesGetsOneCopyPerType() throws ObjectFactoryUtilException {
+        BarA bar = new BarA();
+        bar.name = "bar";
+        SrcX source = new SrcX();
+        source.p = bar;
+        source.q = bar;
+        source.r = bar;
+
+        DstX copy = ObjectFactoryUtil.createFromObject(source, DstX.class);
+
+        assertEquals("bar", copy.p.name);
+        assertEquals("bar", copy.q.name);
+        assertNotSame(bar, copy.p);
+        assertSame(copy.p, copy.r);
+    }
+
+    @Test
+    void sameListCopiedWithDifferentElementTypes() throws ObjectFactoryUtilException {
+        BarA bar = new BarA();
+        bar.name = "bar";
+        List<BarA> bars = new ArrayList<>(Arrays.asList(bar));
+        SrcLists source = new SrcLists();
+        source.as = bars;
+        source.bs = bars;
+        source.again = bars;
+
+        DstLists copy = ObjectFactoryUtil.createFromObject(source, DstLists.class);
+
+        assertInstanceOf(BarA.class, copy.as.get(0));
+        assertInstanceOf(BarB.class, copy.bs.get(0));
+        assertSame(copy.as, copy.again);
+        assertSame(copy.as.get(0), copy.again.get(0));
+    }
+
+    @Test
+    void identityIsSharedAcrossTheElementsOfABulkCopy() throws ObjectFactoryUtilException {
+        assertBulkIdentity();
+    }
+
+    @Test
+    void identityIsSharedAcrossTheElementsAboveTheParallelThreshold() throws ObjectFactoryUtilException {
+        ObjectFactoryUtilConfig.setParallelThreshold(1);
+        assertBulkIdentity();
+    }
+
+    private static void assertBulkIdentity() throws ObjectFactoryUtilException {
+        Node shared = new Node("shared");
+        Node first = new Node("first");
+        first.next = shared;
+        Node second = new Node("second");
+        second.next = shared;
+
+        List<Node> copies = ObjectFactoryUtil.copyAllObjectsFromCollection(Arrays.asList(first, second, first));
+
+        assertEquals(3, copies.size());
+        assertNotSame(shared, copies.get(0).next);
+        assertSame(copies.get(0).next, copies.get(1).next);
+        assertSame(copies.get(0), copies.get(2));
+    }
+
+    public static class Node {
+        String name;
+        Node next;
+        List<Node> children;
+
+        public Node() {
+        }
+
+        Node(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class BarA {
+        String name;
+    }
+
+    public static class BarB {
+        String name;
+    }
+
+    public static class SrcX {
+        BarA p;
+        BarA q;
+        BarA r;
+    }
+
+    public static class DstX {
+        BarA p;
+        BarB q;
+        BarA r;
+    }
+
+    public static class SrcLists {
+        List<BarA> as;
+        List<BarA> bs;
+        List<BarA> again;
+    }
+
+    public static class DstLists {
+        List<BarA> as;
+        List<BarB> bs;
+        List<BarA> again;
+    }
+}
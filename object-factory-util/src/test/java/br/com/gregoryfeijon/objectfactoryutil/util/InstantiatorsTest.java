@@ -0,0 +1,59 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstantiatorsTest {
+
+    @AfterEach
+    void resetConfig() {
+        ObjectFactoryUtilConfig.setInstantiationFallback(false);
+    }
+
+    @Test
+    void usesTheNoArgConstructor() throws ObjectFactoryUtilException {
+        WithDefaults instance = (WithDefaults) Instantiators.newInstance(WithDefaults.class);
+
+        assertEquals("default", instance.name);
+    }
+
+    @Test
+    void classesWithoutNoArgConstructorNeedTheFallback() {
+        assertThrows(ObjectFactoryUtilException.class, () -> Instantiators.newInstance(WithoutNoArg.class));
+    }
+
+    @Test
+    void fallbackCreatesInstancesWithoutRunningConstructors() throws ObjectFactoryUtilException {
+        ObjectFactoryUtilConfig.setInstantiationFallback(true);
+
+        WithoutNoArg first = (WithoutNoArg) Instantiators.newInstance(WithoutNoArg.class);
+        WithoutNoArg second = (WithoutNoArg) Instantiators.newInstance(WithoutNoArg.class);
+
+        assertNotSame(first, second);
+        assertNull(first.name);
+        assertEquals(0, first.size);
+    }
+
+    @Test
+    void fallbackDoesNotInstantiateAbstractTypes() {
+        ObjectFactoryUtilConfig.setInstantiationFallback(true);
+
+        assertThrows(ObjectFactoryUtilException.class, () -> Instantiators.newInstance(Runnable.class));
+    }
+
+    public static class WithDefaults {
+        String name = "default";
+    }
+
+    public static class WithoutNoArg {
+        String name = "default";
+        int size = 10;
+
+        public WithoutNoArg(String name) {
+            this.name = name;
+        }
+    }
+}
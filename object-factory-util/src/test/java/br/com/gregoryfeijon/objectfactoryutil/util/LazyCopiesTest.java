@@ -0,0 +1,131 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyCopiesTest {
+
+    @BeforeEach
+    void enableLazyCopy() {
+        ObjectFactoryUtilConfig.setLazyCopy(true);
+    }
+
+    @AfterEach
+    void resetConfig() {
+        ObjectFactoryUtilConfig.setLazyCopy(false);
+    }
+
+    @Test
+    void copiesInterfaceFieldsOnFirstAccess() throws ObjectFactoryUtilException {
+        HasShape source = new HasShape();
+        source.shape = new Square(2);
+
+        HasShape copy = ObjectFactoryUtil.createFromObject(source);
+
+        assertTrue(Proxy.isProxyClass(copy.shape.getClass()));
+        source.shape = null;
+        assertEquals(4, copy.shape.area());
+        assertNotSame(LazyCopies.unwrap(copy.shape), copy.shape);
+    }
+
+    @Test
+    void proxyRoundTripsThroughJavaSerialization() throws Exception {
+        HasShape source = new HasShape();
+        source.shape = new Square(3);
+
+        HasShape copy = ObjectFactoryUtil.createFromObject(source);
+        HasShape read = roundTrip(copy);
+
+        assertEquals(9, read.shape.area());
+        assertEquals(3, ((Square) LazyCopies.unwrap(read.shape)).side);
+        assertEquals(9, copy.shape.area());
+    }
+
+    @Test
+    void resolvedProxyRoundTripsThroughJavaSerialization() throws Exception {
+        HasShape source = new HasShape();
+        source.shape = new Square(5);
+        HasShape copy = ObjectFactoryUtil.createFromObject(source);
+        copy.shape.area();
+
+        assertEquals(25, roundTrip(copy).shape.area());
+    }
+
+    @Test
+    void collectionWrappersAreSerializedAsTheCopiedCollections() throws Exception {
+        HasCollections source = new HasCollections();
+        source.list = new ArrayList<>(Arrays.asList(new Square(1), new Square(2)));
+        source.set = new LinkedHashSet<>(Arrays.asList("a", "b"));
+        source.collection = new ArrayDeque<>(Collections.singletonList("c"));
+        source.map = new HashMap<>(Collections.singletonMap("key", new Square(4)));
+
+        HasCollections copy = ObjectFactoryUtil.createFromObject(source);
+        HasCollections read = roundTrip(copy);
+
+        assertFalse(LazyCopies.isLazyType(read.list.getClass()));
+        assertInstanceOf(ArrayList.class, read.list);
+        assertEquals(2, read.list.get(1).side);
+        assertInstanceOf(LinkedHashSet.class, read.set);
+        assertEquals(source.set, read.set);
+        assertInstanceOf(ArrayDeque.class, read.collection);
+        assertEquals("c", read.collection.iterator().next());
+        assertInstanceOf(HashMap.class, read.map);
+        assertEquals(4, read.map.get("key").side);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T roundTrip(T value) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (T) in.readObject();
+        }
+    }
+
+    public interface Shape {
+        int area();
+    }
+
+    public static class Square implements Shape, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        int side;
+
+        public Square() {
+        }
+
+        Square(int side) {
+            this.side = side;
+        }
+
+        @Override
+        public int area() {
+            return side * side;
+        }
+    }
+
+    public static class HasShape implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        Shape shape;
+    }
+
+    public static class HasCollections implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        List<Square> list;
+        Set<String> set;
+        Collection<String> collection;
+        Map<String, Square> map;
+    }
+}
@@ -0,0 +1,181 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.annotation.SyncKey;
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjectSynchronizerTest {
+
+    @Test
+    void equalObjectsHaveNoChanges() throws ObjectFactoryUtilException {
+        Order source = order(1L, "open");
+        Order dest = order(1L, "open");
+
+        SyncResult result = ObjectFactoryUtil.sync(source, dest);
+
+        assertFalse(result.hasChanges(), result.toString());
+    }
+
+    @Test
+    void onlyDifferentFieldsAreAssigned() throws ObjectFactoryUtilException {
+        Order source = order(1L, "closed");
+        Order dest = order(1L, "open");
+        Customer customer = dest.customer;
+        source.customer.name = "Bia";
+
+        SyncResult result = ObjectFactoryUtil.sync(source, dest);
+
+        assertEquals(2, result.getChangedFields());
+        assertEquals("closed", dest.status);
+        assertSame(customer, dest.customer);
+        assertEquals("Bia", dest.customer.name);
+    }
+
+    @Test
+    void keyedElementsAreMatchedByKey() throws ObjectFactoryUtilException {
+        Order source = order(1L, "open");
+        source.lines = new ArrayList<>(Arrays.asList(line(3, 30), line(1, 11), line(4, 40)));
+        Order dest = order(1L, "open");
+        dest.lines = new ArrayList<>(Arrays.asList(line(1, 10), line(2, 20), line(3, 30)));
+        Line first = dest.lines.get(0);
+        Line third = dest.lines.get(2);
+
+        SyncResult result = ObjectFactoryUtil.sync(source, dest);
+
+        assertEquals(1, result.getAddedElements());
+        assertEquals(1, result.getRemovedElements());
+        assertEquals(1, result.getUpdatedElements());
+        assertEquals(Arrays.asList(3, 1, 4), ids(dest.lines));
+        assertSame(third, dest.lines.get(0));
+        assertSame(first, dest.lines.get(1));
+        assertEquals(11, first.quantity);
+    }
+
+    @Test
+    void unkeyedListsAreMatchedByPosition() throws ObjectFactoryUtilException {
+        Order source = order(1L, "open");
+        source.tags = new ArrayList<>(Arrays.asList("a", "x"));
+        Order dest = order(1L, "open");
+        List<String> tags = new ArrayList<>(Arrays.asList("a", "b", "c"));
+        dest.tags = tags;
+
+        SyncResult result = ObjectFactoryUtil.sync(source, dest);
+
+        assertSame(tags, dest.tags);
+        assertEquals(Arrays.asList("a", "x"), dest.tags);
+        assertEquals(1, result.getUpdatedElements());
+        assertEquals(1, result.getRemovedElements());
+        assertEquals(0, result.getChangedFields());
+    }
+
+    @Test
+    void mapValuesAreMatchedByKey() throws ObjectFactoryUtilException {
+        Order source = order(1L, "open");
+        source.notes = new HashMap<>();
+        source.notes.put("a", "1");
+        source.notes.put("c", "3");
+        Order dest = order(1L, "open");
+        Map<String, String> notes = new HashMap<>();
+        notes.put("a", "0");
+        notes.put("b", "2");
+        dest.notes = notes;
+
+        SyncResult result = ObjectFactoryUtil.sync(source, dest);
+
+        assertSame(notes, dest.notes);
+        assertEquals(source.notes, dest.notes);
+        assertEquals(1, result.getAddedElements());
+        assertEquals(1, result.getRemovedElements());
+        assertEquals(1, result.getUpdatedElements());
+    }
+
+    @Test
+    void unmodifiableCollectionsAreReplacedWithoutBeingTouched() throws ObjectFactoryUtilException {
+        Order source = order(1L, "open");
+        source.lines = new ArrayList<>(Collections.singletonList(line(1, 11)));
+        source.tags = new ArrayList<>(Collections.singletonList("a"));
+        Order dest = order(1L, "open");
+        Line old = line(1, 10);
+        List<Line> lines = Arrays.asList(old, line(2, 20));
+        dest.lines = lines;
+        List<String> tags = Collections.unmodifiableList(new ArrayList<>(Collections.singletonList("a")));
+        dest.tags = tags;
+
+        SyncResult result = ObjectFactoryUtil.sync(source, dest);
+
+        assertNotSame(lines, dest.lines);
+        assertEquals(Collections.singletonList(1), ids(dest.lines));
+        assertEquals(11, dest.lines.get(0).quantity);
+        assertEquals(10, old.quantity);
+        assertSame(old, lines.get(0));
+        assertSame(tags, dest.tags);
+        assertEquals(1, result.getChangedFields());
+    }
+
+    @Test
+    void cyclesAreSynchronizedOnce() throws ObjectFactoryUtilException {
+        Node source = new Node();
+        source.value = "a";
+        source.next = source;
+        Node dest = new Node();
+        dest.value = "b";
+        dest.next = new Node();
+
+        ObjectFactoryUtil.sync(source, dest);
+
+        assertEquals("a", dest.value);
+        assertSame(dest, dest.next);
+    }
+
+    private static Order order(Long id, String status) {
+        Order order = new Order();
+        order.id = id;
+        order.status = status;
+        order.customer = new Customer();
+        order.customer.name = "Ana";
+        return order;
+    }
+
+    private static Line line(int id, int quantity) {
+        Line line = new Line();
+        line.id = id;
+        line.quantity = quantity;
+        return line;
+    }
+
+    private static List<Integer> ids(List<Line> lines) {
+        List<Integer> ids = new ArrayList<>();
+        for (Line line : lines) {
+            ids.add(line.id);
+        }
+        return ids;
+    }
+
+    public static class Order {
+        Long id;
+        String status;
+        Customer customer;
+        List<Line> lines;
+        List<String> tags;
+        Map<String, String> notes;
+    }
+
+    public static class Customer {
+        String name;
+    }
+
+    public static class Line {
+        @SyncKey
+        int id;
+        int quantity;
+    }
+
+    public static class Node {
+        String value;
+        Node next;
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectionTest {
+
+    private static final Projection NAME_AND_BAR_NAME = Projection.of("fooName", "bar.barName");
+
+    @Test
+    void copiesOnlyTheProjectedPaths() throws ObjectFactoryUtilException {
+        Foo copy = ObjectFactoryUtil.createFromObject(foo(), Foo.class, NAME_AND_BAR_NAME);
+
+        assertEquals("foo", copy.fooName);
+        assertEquals(0, copy.fooId);
+        assertEquals("bar", copy.bar.barName);
+        assertEquals(0, copy.bar.barId);
+        assertNull(copy.bars);
+    }
+
+    @Test
+    void pathEndingInAnObjectCopiesItWhole() throws ObjectFactoryUtilException {
+        Foo source = foo();
+
+        Foo copy = ObjectFactoryUtil.createFromObject(source, Foo.class, Projection.of("BAR"));
+
+        assertNull(copy.fooName);
+        assertNotSame(source.bar, copy.bar);
+        assertEquals(7, copy.bar.barId);
+        assertEquals("bar", copy.bar.barName);
+    }
+
+    @Test
+    void nestedPathsApplyToCollectionMapAndArrayElements() throws ObjectFactoryUtilException {
+        Foo copy = ObjectFactoryUtil.createFromObject(foo(), Foo.class,
+                Projection.of("bars.barName", "byName.barName", "barArray.barName"));
+
+        assertEquals(2, copy.bars.size());
+        assertEquals("b1", copy.bars.get(1).barName);
+        assertEquals(0, copy.bars.get(1).barId);
+        assertEquals("m", copy.byName.get("m").barName);
+        assertEquals(0, copy.byName.get("m").barId);
+        assertEquals("a", copy.barArray[0].barName);
+        assertEquals(0, copy.barArray[0].barId);
+    }
+
+    @Test
+    void allExceptAndExceptRemovePaths() throws ObjectFactoryUtilException {
+        Foo allExcept = ObjectFactoryUtil.createFromObject(foo(), Foo.class, Projection.allExcept("fooId", "bar.barId"));
+        Foo except = ObjectFactoryUtil.createFromObject(foo(), Foo.class, Projection.of("bar").except("bar.barId"));
+
+        assertEquals(0, allExcept.fooId);
+        assertEquals("foo", allExcept.fooName);
+        assertEquals("bar", allExcept.bar.barName);
+        assertEquals(0, allExcept.bar.barId);
+        assertEquals(2, allExcept.bars.size());
+        assertEquals(10, allExcept.bars.get(0).barId);
+        assertNull(except.fooName);
+        assertEquals("bar", except.bar.barName);
+        assertEquals(0, except.bar.barId);
+    }
+
+    @Test
+    void unknownPathsAreIgnored() throws ObjectFactoryUtilException {
+        Foo copy = ObjectFactoryUtil.createFromObject(foo(), Foo.class, Projection.of("fooName", "missing.path"));
+
+        assertEquals("foo", copy.fooName);
+        assertNull(copy.bar);
+    }
+
+    @Test
+    void invalidPathsAreRejected() {
+        assertThrows(IllegalArgumentException.class, Projection::of);
+        assertThrows(IllegalArgumentException.class, () -> Projection.of("bar..barName"));
+        assertThrows(IllegalArgumentException.class, () -> Projection.allExcept(" "));
+        assertThrows(IllegalArgumentException.class, () -> Projection.of((String) null));
+        assertThrows(ObjectFactoryUtilException.class, () -> ObjectFactoryUtil.createFromObject(foo(), Foo.class, null));
+    }
+
+    @Test
+    void bulkCopiesApplyTheProjectionToEachElement() throws ObjectFactoryUtilException {
+        List<Foo> copies = ObjectFactoryUtil.copyAllObjectsFromCollection(Arrays.asList(foo(), foo()), Foo.class,
+                NAME_AND_BAR_NAME);
+
+        assertEquals(2, copies.size());
+        for (Foo copy : copies) {
+            assertEquals("foo", copy.fooName);
+            assertEquals(0, copy.fooId);
+            assertEquals("bar", copy.bar.barName);
+            assertEquals(0, copy.bar.barId);
+        }
+    }
+
+    @Test
+    void projectedCopiesDoNotShareCachedPlansWithFullCopies() throws ObjectFactoryUtilException {
+        ObjectFactoryUtil.createFromObject(foo(), Foo.class, NAME_AND_BAR_NAME);
+
+        Foo full = ObjectFactoryUtil.createFromObject(foo());
+
+        assertEquals(1, full.fooId);
+        assertEquals(7, full.bar.barId);
+    }
+
+    private static Foo foo() {
+        Foo foo = new Foo();
+        foo.fooId = 1;
+        foo.fooName = "foo";
+        foo.bar = bar(7, "bar");
+        foo.bars = new ArrayList<>(Arrays.asList(bar(10, "b0"), bar(11, "b1")));
+        foo.byName = new HashMap<>(Collections.singletonMap("m", bar(12, "m")));
+        foo.barArray = new Bar[]{bar(13, "a")};
+        return foo;
+    }
+
+    private static Bar bar(int id, String name) {
+        Bar bar = new Bar();
+        bar.barId = id;
+        bar.barName = name;
+        return bar;
+    }
+
+    public static class Foo {
+        int fooId;
+        String fooName;
+        Bar bar;
+        List<Bar> bars;
+        Map<String, Bar> byName;
+        Bar[] barArray;
+    }
+
+    public static class Bar {
+        int barId;
+        String barName;
+    }
+}
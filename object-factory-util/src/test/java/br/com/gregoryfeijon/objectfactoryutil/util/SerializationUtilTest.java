@@ -0,0 +1,210 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializationUtilTest {
+
+    private static final String EMOJI = "😀";
+
+    @Test
+    void roundTripOverStreams() throws ObjectFactoryUtilException {
+        Payload payload = payload();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        SerializationUtil.serializaObjeto(payload, output);
+        Payload read = SerializationUtil.desserializaObjeto(new ByteArrayInputStream(output.toByteArray()), Payload.class);
+
+        assertTrue(output.size() > 64 * 1024);
+        assertArrayEquals(GsonUtil.getCompactGson().toJson(payload).getBytes(StandardCharsets.UTF_8), output.toByteArray());
+        assertEquals(payload, read);
+    }
+
+    @Test
+    void roundTripOverChannels() throws ObjectFactoryUtilException {
+        Payload payload = payload();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        SerializationUtil.serializaObjeto(payload, Channels.newChannel(output));
+        Payload read = SerializationUtil.desserializaObjeto(
+                Channels.newChannel(new ChunkedInputStream(output.toByteArray(), 3)), Payload.class);
+
+        assertEquals(payload, read);
+    }
+
+    @Test
+    void roundTripOverByteBuffers() throws ObjectFactoryUtilException {
+        Payload payload = payload();
+        for (ByteBuffer buffer : Arrays.asList(ByteBuffer.allocate(512 * 1024), ByteBuffer.allocateDirect(512 * 1024))) {
+            buffer.put((byte) ' ');
+
+            SerializationUtil.serializaObjeto(payload, buffer);
+            buffer.flip();
+            Payload read = SerializationUtil.desserializaObjeto(buffer, Payload.class);
+
+            assertEquals(payload, read);
+            assertFalse(buffer.hasRemaining());
+        }
+    }
+
+    @Test
+    void tooSmallByteBufferFails() {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+
+        ObjectFactoryUtilException ex = assertThrows(ObjectFactoryUtilException.class,
+                () -> SerializationUtil.serializaObjeto(payload(), buffer));
+        assertInstanceOf(BufferOverflowException.class, ex.getCause());
+    }
+
+    @Test
+    void surrogatePairsAcrossBufferBoundaries() throws IOException {
+        String text = repeat('a', 8 * 1024 - 1) + EMOJI + repeat('b', 64 * 1024 - 8 * 1024 - 4) + EMOJI
+                + "ção" + EMOJI;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (Writer writer = JsonStreams.writer(output)) {
+            writer.write(text);
+        }
+
+        assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), output.toByteArray());
+        byte[] bytes = output.toByteArray();
+        assertEquals(text, readAll(JsonStreams.reader(new ByteArrayInputStream(bytes))));
+        assertEquals(text, readAll(JsonStreams.reader(new ChunkedInputStream(bytes, 3))));
+        assertEquals(text, readAll(JsonStreams.reader(ByteBuffer.wrap(bytes))));
+    }
+
+    @Test
+    void surrogatePairsWrittenOneCharAtATime() throws IOException {
+        String text = repeat('a', 8 * 1024 - 1) + EMOJI + "z";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (Writer writer = JsonStreams.writer(Channels.newChannel(output))) {
+            for (char c : text.toCharArray()) {
+                writer.write(c);
+            }
+        }
+
+        assertEquals(text, new String(output.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void singleCharReadsSplitSurrogatePairs() throws IOException {
+        byte[] bytes = (EMOJI + "x" + EMOJI).getBytes(StandardCharsets.UTF_8);
+
+        try (Reader reader = JsonStreams.reader(new ByteArrayInputStream(bytes))) {
+            assertEquals(EMOJI.charAt(0), reader.read());
+            assertEquals(EMOJI.charAt(1), reader.read());
+            assertEquals('x', reader.read());
+            char[] single = new char[1];
+            assertEquals(1, reader.read(single, 0, 1));
+            assertEquals(EMOJI.charAt(0), single[0]);
+            assertEquals(1, reader.read(single, 0, 1));
+            assertEquals(EMOJI.charAt(1), single[0]);
+            assertEquals(-1, reader.read());
+        }
+    }
+
+    @Test
+    void pooledBuffersAreReusedCleanAfterClose() throws IOException {
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        Writer writer = JsonStreams.writer(first);
+        writer.write(repeat('a', 10_000));
+        writer.close();
+        writer.close();
+        assertThrows(IOException.class, () -> writer.write('b'));
+
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        try (Writer reused = JsonStreams.writer(second)) {
+            reused.write("x");
+        }
+        assertEquals(10_000, first.size());
+        assertEquals("x", second.toString(StandardCharsets.UTF_8));
+
+        Reader reader = JsonStreams.reader(new ByteArrayInputStream(repeat('c', 10_000).getBytes(StandardCharsets.UTF_8)));
+        assertEquals('c', reader.read());
+        reader.close();
+        assertThrows(IOException.class, reader::read);
+
+        assertEquals("xyz", readAll(JsonStreams.reader(new ByteArrayInputStream("xyz".getBytes(StandardCharsets.UTF_8)))));
+    }
+
+    private static Payload payload() {
+        Payload payload = new Payload();
+        StringBuilder text = new StringBuilder();
+        while (text.length() < 70_000) {
+            text.append("texto acentuado: ação, coração ").append(EMOJI).append(" éè ");
+        }
+        payload.text = text.toString();
+        payload.lines = new ArrayList<>(Arrays.asList("a", EMOJI, "ñ", ""));
+        payload.count = 42;
+        return payload;
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    private static String readAll(Reader reader) throws IOException {
+        try (Reader closing = reader) {
+            StringBuilder text = new StringBuilder();
+            char[] chars = new char[1000];
+            int read;
+            while ((read = closing.read(chars, 0, chars.length)) >= 0) {
+                text.append(chars, 0, read);
+            }
+            return text.toString();
+        }
+    }
+
+    /**
+     * {@link InputStream} que retorna no máximo a quantidade informada de
+     * bytes em cada leitura.
+     */
+    private static final class ChunkedInputStream extends ByteArrayInputStream {
+
+        private final int chunk;
+
+        private ChunkedInputStream(byte[] bytes, int chunk) {
+            super(bytes);
+            this.chunk = chunk;
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, chunk));
+        }
+    }
+
+    public static class Payload {
+        String text;
+        List<String> lines;
+        int count;
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Payload)) {
+                return false;
+            }
+            Payload other = (Payload) obj;
+            return text.equals(other.text) && lines.equals(other.lines) && count == other.count;
+        }
+
+        @Override
+        public int hashCode() {
+            return text.hashCode();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.annotation.ObjectConstructor;
+import br.com.gregoryfeijon.objectfactoryutil.annotation.SkipCopy;
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripKeepsFieldsIgnoredByCopies() throws ObjectFactoryUtilException {
+        Foo foo = new Foo();
+        foo.fooId = 42;
+        foo.audit = "audit";
+        foo.name = "foo";
+        foo.cache = "cache";
+        Path path = dir.resolve("foos.snapshot");
+
+        SerializationUtil.salvaSnapshot(Collections.singletonList(foo), path);
+        List<Foo> loaded = SerializationUtil.carregaSnapshot(path, Foo.class);
+
+        assertEquals(1, loaded.size());
+        assertEquals(42, loaded.get(0).fooId);
+        assertEquals("audit", loaded.get(0).audit);
+        assertEquals("foo", loaded.get(0).name);
+        assertNull(loaded.get(0).cache);
+    }
+
+    @Test
+    void roundTripKeepsValuesCollectionsAndSharedReferences() throws ObjectFactoryUtilException {
+        Item shared = new Item();
+        shared.price = new BigDecimal("10.50");
+        shared.date = LocalDate.of(2026, 10, 18);
+        Order order = new Order();
+        order.id = 7L;
+        order.status = Status.OPEN;
+        order.items = new ArrayList<>(Arrays.asList(shared, shared, null));
+        order.byCode = new LinkedHashMap<>(Collections.singletonMap("a", shared));
+        order.codes = new int[]{1, 2, 3};
+        Path path = dir.resolve("orders.snapshot");
+
+        SerializationUtil.salvaSnapshot(Arrays.asList(order, new Order()), path);
+
+        try (Snapshot<Order> snapshot = SerializationUtil.abreSnapshot(path, Order.class)) {
+            assertEquals(2, snapshot.size());
+            Order loaded = snapshot.get(0);
+            assertEquals(7L, loaded.id);
+            assertEquals(Status.OPEN, loaded.status);
+            assertEquals(3, loaded.items.size());
+            assertSame(loaded.items.get(0), loaded.items.get(1));
+            assertSame(loaded.items.get(0), loaded.byCode.get("a"));
+            assertNull(loaded.items.get(2));
+            assertEquals(new BigDecimal("10.50"), loaded.items.get(0).price);
+            assertEquals(LocalDate.of(2026, 10, 18), loaded.items.get(0).date);
+            assertArrayEquals(new int[]{1, 2, 3}, loaded.codes);
+            assertNull(snapshot.get(1).id);
+            assertNull(snapshot.get(1).items);
+        }
+    }
+
+    @Test
+    void roundTripKeepsEnumSetsAndEnumMaps() throws ObjectFactoryUtilException {
+        Flags flags = new Flags();
+        flags.statuses = EnumSet.of(Status.CLOSED);
+        flags.none = EnumSet.noneOf(Status.class);
+        flags.byStatus = new EnumMap<>(Collections.singletonMap(Status.OPEN, "open"));
+        flags.emptyByStatus = new EnumMap<>(Status.class);
+        flags.sets = Arrays.asList(EnumSet.allOf(Status.class), flags.statuses);
+        Path path = dir.resolve("flags.snapshot");
+
+        SerializationUtil.salvaSnapshot(Collections.singletonList(flags), path);
+        Flags loaded = SerializationUtil.carregaSnapshot(path, Flags.class).get(0);
+
+        assertEquals(EnumSet.of(Status.CLOSED), loaded.statuses);
+        assertEquals(EnumSet.noneOf(Status.class), loaded.none);
+        assertEquals(Collections.singletonMap(Status.OPEN, "open"), loaded.byStatus);
+        assertTrue(loaded.emptyByStatus.isEmpty());
+        assertInstanceOf(EnumSet.class, loaded.sets.get(0));
+        assertEquals(EnumSet.allOf(Status.class), loaded.sets.get(0));
+        assertSame(loaded.statuses, loaded.sets.get(1));
+        loaded.emptyByStatus.put(Status.CLOSED, "closed");
+    }
+
+    @Test
+    void roundTripRebuildsContainersThatFitTheFields() throws ObjectFactoryUtilException {
+        Containers containers = new Containers();
+        containers.names = List.of("a", "b");
+        containers.statuses = Collections.unmodifiableSet(EnumSet.of(Status.OPEN));
+        containers.sorted = Collections.unmodifiableSortedMap(new TreeMap<>(Map.of("b", 2, "a", 1)));
+        containers.queue = new NamedQueue();
+        containers.queue.add("first");
+        Path path = dir.resolve("containers.snapshot");
+
+        SerializationUtil.salvaSnapshot(Collections.singletonList(containers), path);
+        Containers loaded = SerializationUtil.carregaSnapshot(path, Containers.class).get(0);
+
+        assertEquals(List.of("a", "b"), loaded.names);
+        assertEquals(Set.of(Status.OPEN), loaded.statuses);
+        assertEquals(Arrays.asList("a", "b"), new ArrayList<>(loaded.sorted.keySet()));
+        assertEquals(LinkedList.class, loaded.queue.getClass());
+        assertEquals("first", loaded.queue.peek());
+    }
+
+    @Test
+    void emptySnapshot() throws ObjectFactoryUtilException {
+        Path path = dir.resolve("empty.snapshot");
+
+        SerializationUtil.salvaSnapshot(Collections.<Order>emptyList(), path);
+
+        assertTrue(SerializationUtil.carregaSnapshot(path, Order.class).isEmpty());
+    }
+
+    public static class Base {
+        String audit;
+    }
+
+    @ObjectConstructor(exclude = "fooId")
+    public static class Foo extends Base {
+        int fooId;
+        @SkipCopy
+        String name;
+        transient String cache;
+    }
+
+    public enum Status {
+        OPEN, CLOSED
+    }
+
+    public static class Item {
+        BigDecimal price;
+        LocalDate date;
+    }
+
+    public static class Order {
+        Long id;
+        Status status;
+        List<Item> items;
+        Map<String, Item> byCode;
+        int[] codes;
+    }
+
+    public static class Flags {
+        EnumSet<Status> statuses;
+        EnumSet<Status> none;
+        EnumMap<Status, String> byStatus;
+        EnumMap<Status, String> emptyByStatus;
+        List<Set<Status>> sets;
+    }
+
+    public static class Containers {
+        List<String> names;
+        Set<Status> statuses;
+        SortedMap<String, Integer> sorted;
+        LinkedList<String> queue;
+    }
+
+    public static class NamedQueue extends LinkedList<String> {
+
+        private NamedQueue() {
+        }
+    }
+}
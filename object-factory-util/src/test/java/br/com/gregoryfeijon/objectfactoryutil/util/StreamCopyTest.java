@@ -0,0 +1,119 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import br.com.gregoryfeijon.objectfactoryutil.exception.UncheckedObjectFactoryUtilException;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamCopyTest {
+
+    private final AtomicInteger pulled = new AtomicInteger();
+
+    @Test
+    void copiesOnlyWhenTheStreamIsConsumed() {
+        List<Item> source = items(3);
+
+        Stream<Item> copies = ObjectFactoryUtil.copyAllObjectsFromStream(counting(source.stream()));
+        assertEquals(0, pulled.get());
+
+        List<Item> result = copies.collect(Collectors.toList());
+        assertEquals(3, pulled.get());
+        assertEquals(3, result.size());
+        for (int i = 0; i < result.size(); i++) {
+            assertNotSame(source.get(i), result.get(i));
+            assertEquals(String.valueOf(i), result.get(i).code);
+        }
+    }
+
+    @Test
+    void shortCircuitingStopsFurtherCopies() {
+        List<Item> source = items(3);
+        source.get(2).code = "x";
+
+        List<Coded> limited = ObjectFactoryUtil.copyAllObjectsFromStream(counting(source.stream()), Coded.class)
+                .limit(2)
+                .collect(Collectors.toList());
+        assertEquals(2, pulled.get());
+        assertEquals(Arrays.asList(0, 1), Arrays.asList(limited.get(0).code, limited.get(1).code));
+
+        pulled.set(0);
+        Optional<Coded> first = ObjectFactoryUtil.copyAllObjectsFromIterator(counting(source.stream()).iterator(),
+                Coded.class).findFirst();
+        assertTrue(first.isPresent());
+        assertEquals(0, first.get().code);
+        assertEquals(1, pulled.get());
+
+        pulled.set(0);
+        Iterator<Item> iterator = ObjectFactoryUtil.copyAllObjectsFromIterator(counting(source.stream()).iterator())
+                .iterator();
+        assertEquals("0", iterator.next().code);
+        assertEquals(1, pulled.get());
+    }
+
+    @Test
+    void keepsSpliteratorCharacteristicsAndSize() {
+        List<Item> source = items(5);
+
+        Spliterator<Item> sized = ObjectFactoryUtil.copyAllObjectsFromSpliterator(source.spliterator()).spliterator();
+        Spliterator<Coded> converted = ObjectFactoryUtil.copyAllObjectsFromSpliterator(source.spliterator(), Coded.class)
+                .spliterator();
+        Spliterator<Item> unknown = ObjectFactoryUtil.copyAllObjectsFromIterator(source.iterator()).spliterator();
+
+        assertEquals(5, sized.getExactSizeIfKnown());
+        assertTrue(sized.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED));
+        assertEquals(5, converted.getExactSizeIfKnown());
+        assertTrue(converted.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED));
+        assertEquals(-1, unknown.getExactSizeIfKnown());
+        assertTrue(unknown.hasCharacteristics(Spliterator.ORDERED));
+    }
+
+    @Test
+    void failuresReachTheConsumerMidStream() {
+        List<Item> source = items(4);
+        source.get(2).code = "x";
+        List<Coded> consumed = new ArrayList<>();
+
+        UncheckedObjectFactoryUtilException ex = assertThrows(UncheckedObjectFactoryUtilException.class,
+                () -> ObjectFactoryUtil.copyAllObjectsFromStream(counting(source.stream()), Coded.class)
+                        .forEach(consumed::add));
+
+        assertInstanceOf(ObjectFactoryUtilException.class, ex.getCause());
+        assertTrue(ex.getMessage().contains("code"));
+        assertEquals(2, consumed.size());
+        assertEquals(3, pulled.get());
+    }
+
+    @Test
+    void emptySourcesGiveEmptyStreams() {
+        assertEquals(0, ObjectFactoryUtil.copyAllObjectsFromStream(Stream.empty()).count());
+        assertEquals(0, ObjectFactoryUtil.copyAllObjectsFromIterator(Collections.emptyIterator(), Coded.class).count());
+    }
+
+    private <T> Stream<T> counting(Stream<T> stream) {
+        return stream.peek(element -> pulled.incrementAndGet());
+    }
+
+    private static List<Item> items(int size) {
+        List<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Item item = new Item();
+            item.code = String.valueOf(i);
+            items.add(item);
+        }
+        return items;
+    }
+
+    public static class Item {
+        String code;
+    }
+
+    public static class Coded {
+        Integer code;
+    }
+}
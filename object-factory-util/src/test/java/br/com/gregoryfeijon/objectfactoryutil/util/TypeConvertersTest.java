@@ -0,0 +1,99 @@
+package br.com.gregoryfeijon.objectfactoryutil.util;
+
+import br.com.gregoryfeijon.objectfactoryutil.exception.ObjectFactoryUtilException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypeConvertersTest {
+
+    @Test
+    void convertsFiniteNumbers() throws ObjectFactoryUtilException {
+        NumberSource source = new NumberSource();
+        source.price = 10.25;
+        source.ratio = 3.9f;
+        source.amount = " 42 ";
+
+        NumberDest dest = ObjectFactoryUtil.createFromObject(source, NumberDest.class);
+
+        assertEquals(new BigDecimal("10.25"), dest.price);
+        assertEquals(BigInteger.valueOf(3), dest.ratio);
+        assertEquals(42, dest.amount);
+    }
+
+    @Test
+    void nonFiniteNumbersBecomeNull() throws ObjectFactoryUtilException {
+        NumberSource source = new NumberSource();
+        source.price = Double.NaN;
+        source.ratio = Float.POSITIVE_INFINITY;
+
+        NumberDest dest = ObjectFactoryUtil.createFromObject(source, NumberDest.class);
+
+        assertNull(dest.price);
+        assertNull(dest.ratio);
+    }
+
+    @Test
+    void blankTextBecomesNull() throws ObjectFactoryUtilException {
+        NumberSource source = new NumberSource();
+        source.amount = "  ";
+
+        assertNull(ObjectFactoryUtil.createFromObject(source, NumberDest.class).amount);
+    }
+
+    @Test
+    void invalidTextFailsWithTheFieldName() {
+        NumberSource source = new NumberSource();
+        source.amount = "NaN";
+
+        ObjectFactoryUtilException ex = assertThrows(ObjectFactoryUtilException.class,
+                () -> ObjectFactoryUtil.createFromObject(source, NumberDest.class));
+
+        assertTrue(messages(ex).contains("amount"), messages(ex));
+    }
+
+    @Test
+    void uncheckedFailuresOfRegisteredConvertersAreWrapped() {
+        ObjectFactoryUtilConfig.registerConverter(Character.class, Long.class, value -> {
+            throw new IllegalStateException("falha");
+        });
+        CharSource source = new CharSource();
+        source.code = 'x';
+
+        ObjectFactoryUtilException ex = assertThrows(ObjectFactoryUtilException.class,
+                () -> ObjectFactoryUtil.createFromObject(source, CharDest.class));
+
+        assertTrue(messages(ex).contains("code"), messages(ex));
+    }
+
+    private static String messages(Throwable ex) {
+        StringBuilder messages = new StringBuilder();
+        for (Throwable current = ex; current != null; current = current.getCause()) {
+            messages.append(current.getMessage()).append('\n');
+        }
+        return messages.toString();
+    }
+
+    public static class NumberSource {
+        double price;
+        float ratio;
+        String amount;
+    }
+
+    public static class NumberDest {
+        BigDecimal price;
+        BigInteger ratio;
+        Integer amount;
+    }
+
+    public static class CharSource {
+        Character code;
+    }
+
+    public static class CharDest {
+        Long code;
+    }
+}